@@ -1,11 +1,14 @@
 package dev.kejona.crossplatforms.accessitem;
 
 
+import com.google.common.collect.ImmutableMap;
 import dev.kejona.crossplatforms.config.ConfigManager;
+import dev.kejona.crossplatforms.config.Configuration;
 import dev.kejona.crossplatforms.handler.FormPlayer;
 import dev.kejona.crossplatforms.permission.Permission;
 import dev.kejona.crossplatforms.permission.PermissionDefault;
 import dev.kejona.crossplatforms.permission.Permissions;
+import dev.kejona.crossplatforms.permission.RegisteredPermissions;
 import dev.kejona.crossplatforms.reloadable.Reloadable;
 import dev.kejona.crossplatforms.reloadable.ReloadableRegistry;
 import lombok.Getter;
@@ -14,7 +17,6 @@ import lombok.experimental.Accessors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
@@ -22,62 +24,70 @@ import java.util.Set;
 public abstract class AccessItemRegistry implements Reloadable {
 
     private final ConfigManager configManager;
-    private final Permissions permissions;
+    private final RegisteredPermissions permissions;
 
+    /**
+     * Every access item. This is an immutable snapshot that is replaced as a whole on reload, so it may be read from
+     * any thread.
+     */
     @Getter
-    private final Map<String, AccessItem> items = new HashMap<>();
+    private volatile Map<String, AccessItem> items = Collections.emptyMap();
 
     @Getter
-    private boolean enabled = false;
+    private volatile boolean enabled = false;
 
     /**
      * Set the held slot to the access item when given through events
      */
     @Getter
     @Accessors(fluent = true)
-    private boolean setHeldSlot;
+    private volatile boolean setHeldSlot;
 
     @Getter
-    private Map<AccessItem.Limit, PermissionDefault> globalPermissionDefaults = Collections.emptyMap();
+    private volatile Map<AccessItem.Limit, PermissionDefault> globalPermissionDefaults = Collections.emptyMap();
 
     public AccessItemRegistry(ConfigManager configManager, Permissions permissions) {
         this.configManager = configManager;
-        this.permissions = permissions;
+        this.permissions = new RegisteredPermissions(permissions);
         ReloadableRegistry.register(this);
         load();
     }
 
     /**
-     * Adds access items from the Access Items config.
-     * Does not clear existing items.
+     * Replaces the access items with those from the Access Items config.
      */
-    private void load() {
-        items.clear();
-
+    private synchronized void load() {
         if (!configManager.getConfig(AccessItemConfig.class).isPresent()) {
+            items = Collections.emptyMap();
             enabled = false;
             return;
         }
 
         AccessItemConfig config = configManager.getConfig(AccessItemConfig.class).get();
-        enabled = config.isEnable();
-        if (enabled) {
+        ImmutableMap.Builder<String, AccessItem> items = ImmutableMap.builder();
+        if (config.isEnable()) {
             setHeldSlot = config.isSetHeldSlot();
             globalPermissionDefaults = config.getGlobalPermissionDefaults();
 
             Set<Permission> permissions = new HashSet<>();
 
-            for (String identifier : config.getItems().keySet()) {
-                AccessItem item = config.getItems().get(identifier);
-                items.put(identifier, item);
+            for (Map.Entry<String, AccessItem> entry : config.getItems().entrySet()) {
+                AccessItem item = entry.getValue();
+                items.put(entry.getKey(), item);
 
                 // Register permissions with the server
                 item.generatePermissions(this);
                 permissions.addAll(item.getPermissions().values());
             }
 
-            this.permissions.registerPermissions(permissions);
+            this.permissions.update(permissions);
+        } else {
+            this.permissions.update(Collections.emptySet());
         }
+
+        // publish the new items at once, so that concurrent lookups never see a partially loaded registry
+        this.items = items.build();
+        this.enabled = config.isEnable();
     }
 
     @Override
@@ -86,6 +96,11 @@ public abstract class AccessItemRegistry implements Reloadable {
         return true;
     }
 
+    @Override
+    public boolean dependsOn(Class<? extends Configuration> config) {
+        return config == AccessItemConfig.class;
+    }
+
     /**
      * Attempt to retrieve the Access Item from its identifier
      * @param id The identifier to check.
@@ -0,0 +1,26 @@
+plugins {
+    id("me.champeau.jmh")
+}
+
+dependencies {
+    jmh(projects.core)
+    jmh(testFixtures(projects.core)) // TestLogger
+    jmh("org.geysermc.cumulus:cumulus:1.1.1-SNAPSHOT") // building forms
+    jmh("com.google.code.gson:gson:2.8.6") // needed for cumulus
+}
+
+jmh {
+    jmhVersion.set("1.36")
+    // Results are written as JSON so that they can be compared between builds, e.g. with https://jmh.morethan.io/
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+
+    // Allow running a subset with: ./gradlew :benchmarks:jmh -PjmhIncludes=Resolver
+    (findProperty("jmhIncludes") as String?)?.let { includes.add(it) }
+
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+}
+
+description = "benchmarks"
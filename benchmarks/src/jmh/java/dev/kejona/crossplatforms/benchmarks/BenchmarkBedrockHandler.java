@@ -0,0 +1,44 @@
+package dev.kejona.crossplatforms.benchmarks;
+
+import dev.kejona.crossplatforms.handler.BedrockHandler;
+import dev.kejona.crossplatforms.handler.FormPlayer;
+import org.geysermc.cumulus.form.Form;
+
+import java.util.UUID;
+
+/**
+ * Treats everyone as a Bedrock player, and keeps the last form that was sent so that it can be consumed by benchmarks.
+ */
+public class BenchmarkBedrockHandler implements BedrockHandler {
+
+    private volatile Form lastForm;
+
+    @Override
+    public String getType() {
+        return "Benchmark";
+    }
+
+    @Override
+    public boolean isBedrockPlayer(UUID uuid) {
+        return true;
+    }
+
+    @Override
+    public void sendForm(UUID uuid, Form form) {
+        lastForm = form;
+    }
+
+    public Form getLastForm() {
+        return lastForm;
+    }
+
+    @Override
+    public boolean executesResponseHandlersSafely() {
+        return true;
+    }
+
+    @Override
+    public boolean transfer(FormPlayer player, String address, int port) {
+        return false;
+    }
+}
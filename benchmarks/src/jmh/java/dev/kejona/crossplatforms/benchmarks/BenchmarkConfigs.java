@@ -0,0 +1,136 @@
+package dev.kejona.crossplatforms.benchmarks;
+
+import com.google.inject.Injector;
+import dev.kejona.crossplatforms.Logger;
+import dev.kejona.crossplatforms.config.ConfigId;
+import dev.kejona.crossplatforms.config.ConfigManager;
+import dev.kejona.crossplatforms.config.GeneralConfig;
+import dev.kejona.crossplatforms.interfacing.bedrock.BedrockForm;
+import dev.kejona.crossplatforms.interfacing.bedrock.BedrockFormSerializer;
+import dev.kejona.crossplatforms.interfacing.bedrock.FormConfig;
+import dev.kejona.crossplatforms.interfacing.bedrock.custom.ComponentSerializer;
+import dev.kejona.crossplatforms.interfacing.bedrock.custom.CustomComponent;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Generates configs of any size, and loads them the same way the plugin does.
+ */
+public final class BenchmarkConfigs {
+
+    /**
+     * Identifier of the simple form with a player filler in every generated form config
+     */
+    public static final String PLAYER_LIST = "player_list";
+
+    private BenchmarkConfigs() {
+
+    }
+
+    /**
+     * Creates a config manager for config.yml and bedrock-forms.yml in the given directory
+     */
+    public static ConfigManager configManager(Path directory, Logger logger, Injector injector) {
+        ConfigManager manager = new ConfigManager(directory, logger, injector);
+        manager.registerPriority(ConfigId.GENERAL);
+        manager.register(ConfigId.BEDROCK_FORMS);
+        manager.serializers(builder -> {
+            builder.registerExact(BedrockForm.class, new BedrockFormSerializer());
+            builder.registerExact(CustomComponent.class, new ComponentSerializer());
+        });
+        return manager;
+    }
+
+    /**
+     * Writes a config.yml with the given amount of intercept commands. Half of them match an exact string, and the
+     * other half match a pattern.
+     */
+    public static void writeGeneralConfig(Path directory, int commands) throws IOException {
+        StringBuilder yaml = new StringBuilder();
+        yaml.append("commands:\n");
+        for (int i = 0; i < commands; i++) {
+            yaml.append("  command_").append(i).append(":\n");
+            yaml.append("    method: intercept_cancel\n");
+            if (i % 2 == 0) {
+                yaml.append("    exact: \"warp spawn").append(i).append("\"\n");
+            } else {
+                yaml.append("    pattern: \"home\\\\s+base").append(i).append("(\\\\s.*)?\"\n");
+            }
+            yaml.append("    actions:\n");
+            yaml.append("      - commands: \"tell %player_name% Intercepted ").append(i).append("\"\n");
+        }
+        yaml.append("config-version: ").append(GeneralConfig.VERSION).append('\n');
+        write(directory.resolve(ConfigId.GENERAL.file), yaml);
+    }
+
+    /**
+     * Writes a bedrock-forms.yml with the given amount of simple, modal and custom forms each, as well as a simple
+     * form named {@link #PLAYER_LIST} that lists online players.
+     */
+    public static void writeForms(Path directory, int forms) throws IOException {
+        StringBuilder yaml = new StringBuilder();
+        yaml.append("forms:\n");
+        for (int i = 0; i < forms; i++) {
+            yaml.append("  simple_").append(i).append(":\n");
+            yaml.append("    type: simple_form\n");
+            yaml.append("    title: \"Simple form ").append(i).append(" for %player_name%\"\n");
+            yaml.append("    content: \"Click on a button\"\n");
+            yaml.append("    buttons:\n");
+            for (int b = 0; b < 8; b++) {
+                yaml.append("      - text: \"Button ").append(b).append(b % 2 == 0 ? " of %player_name%" : "").append("\"\n");
+                yaml.append("        image: \"https://example.com/").append(b).append(".png\"\n");
+                yaml.append("        actions:\n");
+                yaml.append("          - message: \"Clicked ").append(b).append("\"\n");
+            }
+
+            yaml.append("  modal_").append(i).append(":\n");
+            yaml.append("    type: modal_form\n");
+            yaml.append("    title: \"Modal form ").append(i).append("\"\n");
+            yaml.append("    content: \"Are you sure, %player_name%?\"\n");
+            yaml.append("    button1:\n");
+            yaml.append("      text: \"Yes\"\n");
+            yaml.append("    button2:\n");
+            yaml.append("      text: \"No\"\n");
+
+            yaml.append("  custom_").append(i).append(":\n");
+            yaml.append("    type: custom_form\n");
+            yaml.append("    title: \"Custom form ").append(i).append("\"\n");
+            yaml.append("    components:\n");
+            yaml.append("      - type: label\n");
+            yaml.append("        text: \"Hello %player_name%\"\n");
+            yaml.append("      - type: input\n");
+            yaml.append("        text: \"Enter something\"\n");
+            yaml.append("        placeholder: \"something\"\n");
+            yaml.append("      - type: toggle\n");
+            yaml.append("        text: \"Toggle\"\n");
+            yaml.append("      - type: slider\n");
+            yaml.append("        text: \"Slider\"\n");
+            yaml.append("        min: 0\n");
+            yaml.append("        max: 10\n");
+            yaml.append("      - type: dropdown\n");
+            yaml.append("        text: \"Dropdown\"\n");
+            yaml.append("        options: [\"One\", \"Two\", \"Three\"]\n");
+            yaml.append("    actions:\n");
+            yaml.append("      - message: \"You entered %result_1%\"\n");
+        }
+
+        yaml.append("  ").append(PLAYER_LIST).append(":\n");
+        yaml.append("    type: simple_form\n");
+        yaml.append("    title: \"Players\"\n");
+        yaml.append("    fillers:\n");
+        yaml.append("      - type: player\n");
+        yaml.append("        format:\n");
+        yaml.append("          actions:\n");
+        yaml.append("            - message: \"You selected %raw_text%\"\n");
+
+        yaml.append("config-version: ").append(FormConfig.VERSION).append('\n');
+        write(directory.resolve(ConfigId.BEDROCK_FORMS.file), yaml);
+    }
+
+    private static void write(Path file, CharSequence contents) throws IOException {
+        Files.write(file, contents.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,30 @@
+package dev.kejona.crossplatforms.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+public final class BenchmarkFiles {
+
+    private BenchmarkFiles() {
+
+    }
+
+    public static Path createDirectory() throws IOException {
+        return Files.createTempDirectory("crossplatforms-benchmark");
+    }
+
+    /**
+     * Deletes a directory and everything inside of it
+     */
+    public static void delete(Path directory) throws IOException {
+        if (directory == null || !Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+}
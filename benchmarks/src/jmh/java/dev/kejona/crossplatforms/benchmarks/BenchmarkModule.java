@@ -0,0 +1,25 @@
+package dev.kejona.crossplatforms.benchmarks;
+
+import com.google.inject.AbstractModule;
+import dev.kejona.crossplatforms.handler.BasicPlaceholders;
+import dev.kejona.crossplatforms.handler.BedrockHandler;
+import dev.kejona.crossplatforms.handler.Placeholders;
+import dev.kejona.crossplatforms.handler.ServerHandler;
+
+public class BenchmarkModule extends AbstractModule {
+
+    private final BenchmarkServerHandler serverHandler;
+    private final BenchmarkBedrockHandler bedrockHandler;
+
+    public BenchmarkModule(BenchmarkServerHandler serverHandler, BenchmarkBedrockHandler bedrockHandler) {
+        this.serverHandler = serverHandler;
+        this.bedrockHandler = bedrockHandler;
+    }
+
+    @Override
+    protected void configure() {
+        bind(ServerHandler.class).toInstance(serverHandler);
+        bind(BedrockHandler.class).toInstance(bedrockHandler);
+        bind(Placeholders.class).toInstance(new BasicPlaceholders());
+    }
+}
@@ -0,0 +1,54 @@
+package dev.kejona.crossplatforms.benchmarks;
+
+import dev.kejona.crossplatforms.handler.FormPlayer;
+import net.kyori.adventure.text.Component;
+
+import javax.annotation.Nullable;
+import java.util.UUID;
+
+public class BenchmarkPlayer implements FormPlayer {
+
+    private final UUID uuid = UUID.randomUUID();
+    private final String name;
+
+    public BenchmarkPlayer(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public UUID getUuid() {
+        return uuid;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public boolean hasPermission(String permission) {
+        return true;
+    }
+
+    @Nullable
+    @Override
+    public String getEncodedSkinData() {
+        return null;
+    }
+
+    @Override
+    public void sendRaw(Component component) {
+        // no-op
+    }
+
+    @Override
+    public boolean switchBackendServer(String server) {
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T getHandle(Class<T> asType) throws ClassCastException {
+        return (T) this;
+    }
+}
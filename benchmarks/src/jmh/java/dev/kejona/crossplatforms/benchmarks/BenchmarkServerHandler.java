@@ -0,0 +1,90 @@
+package dev.kejona.crossplatforms.benchmarks;
+
+import dev.kejona.crossplatforms.command.CommandOrigin;
+import dev.kejona.crossplatforms.command.DispatchableCommand;
+import dev.kejona.crossplatforms.command.custom.InterceptCommandCache;
+import dev.kejona.crossplatforms.handler.FormPlayer;
+import net.kyori.adventure.audience.Audience;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * A server with a configurable list of online players, which doesn't do anything else.
+ */
+public class BenchmarkServerHandler extends InterceptCommandCache {
+
+    private List<FormPlayer> players = Collections.emptyList();
+    private Map<UUID, FormPlayer> byUuid = Collections.emptyMap();
+
+    /**
+     * Replaces the online players with the given amount of new players, in a random order
+     */
+    public void setPlayers(int amount) {
+        List<FormPlayer> players = new ArrayList<>(amount);
+        Map<UUID, FormPlayer> byUuid = new HashMap<>();
+        for (int i = 0; i < amount; i++) {
+            FormPlayer player = new BenchmarkPlayer("Player" + i);
+            players.add(player);
+            byUuid.put(player.getUuid(), player);
+        }
+        Collections.shuffle(players);
+        this.players = players;
+        this.byUuid = byUuid;
+    }
+
+    @Nullable
+    @Override
+    public FormPlayer getPlayer(UUID uuid) {
+        return byUuid.get(uuid);
+    }
+
+    @Nullable
+    @Override
+    public FormPlayer getPlayer(String name) {
+        for (FormPlayer player : players) {
+            if (player.getName().equalsIgnoreCase(name)) {
+                return player;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Stream<FormPlayer> getPlayers() {
+        return players.stream();
+    }
+
+    @Nonnull
+    @Override
+    public Audience asAudience(CommandOrigin origin) {
+        return Audience.empty();
+    }
+
+    @Override
+    public boolean isGeyserEnabled() {
+        return false;
+    }
+
+    @Override
+    public boolean isFloodgateEnabled() {
+        return true;
+    }
+
+    @Override
+    public void dispatchCommand(DispatchableCommand command) {
+
+    }
+
+    @Override
+    public void dispatchCommand(UUID player, DispatchableCommand command) {
+
+    }
+}
@@ -0,0 +1,62 @@
+package dev.kejona.crossplatforms.benchmarks;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import dev.kejona.crossplatforms.TestLogger;
+import dev.kejona.crossplatforms.config.ConfigManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loading and deserializing config.yml and bedrock-forms.yml from disk, like on startup or reload.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ConfigLoadBenchmark {
+
+    /**
+     * Amount of each type of form
+     */
+    @Param({"10", "100", "500"})
+    public int forms;
+
+    private Path directory;
+    private TestLogger logger;
+    private Injector injector;
+
+    @Setup
+    public void setup() throws IOException {
+        logger = new TestLogger();
+        directory = BenchmarkFiles.createDirectory();
+        BenchmarkConfigs.writeGeneralConfig(directory, 100);
+        BenchmarkConfigs.writeForms(directory, forms);
+
+        injector = Guice.createInjector(new BenchmarkModule(new BenchmarkServerHandler(), new BenchmarkBedrockHandler()));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        BenchmarkFiles.delete(directory);
+    }
+
+    @Benchmark
+    public ConfigManager load() {
+        ConfigManager manager = BenchmarkConfigs.configManager(directory, logger, injector);
+        if (!manager.load()) {
+            throw new IllegalStateException("Failed to load configs: " + logger.warningDump());
+        }
+        return manager;
+    }
+}
@@ -0,0 +1,91 @@
+package dev.kejona.crossplatforms.benchmarks;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import dev.kejona.crossplatforms.TestLogger;
+import dev.kejona.crossplatforms.config.ConfigManager;
+import dev.kejona.crossplatforms.handler.FormPlayer;
+import dev.kejona.crossplatforms.interfacing.ArgumentException;
+import dev.kejona.crossplatforms.interfacing.bedrock.BedrockForm;
+import dev.kejona.crossplatforms.interfacing.bedrock.FormConfig;
+import dev.kejona.crossplatforms.serialize.Lazy;
+import org.geysermc.cumulus.form.Form;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building and sending each type of Bedrock form to a single player.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FormBenchmark {
+
+    private Path directory;
+    private BenchmarkBedrockHandler bedrockHandler;
+    private FormPlayer player;
+
+    private BedrockForm simple;
+    private BedrockForm modal;
+    private BedrockForm custom;
+
+    @Setup
+    public void setup() throws IOException {
+        TestLogger logger = new TestLogger();
+        directory = BenchmarkFiles.createDirectory();
+        BenchmarkConfigs.writeGeneralConfig(directory, 0);
+        BenchmarkConfigs.writeForms(directory, 1);
+
+        BenchmarkServerHandler serverHandler = new BenchmarkServerHandler();
+        bedrockHandler = new BenchmarkBedrockHandler();
+        Injector injector = Guice.createInjector(new BenchmarkModule(serverHandler, bedrockHandler));
+
+        ConfigManager manager = BenchmarkConfigs.configManager(directory, logger, injector);
+        if (!manager.load()) {
+            throw new IllegalStateException("Failed to load configs: " + logger.warningDump());
+        }
+
+        Map<String, Lazy<BedrockForm>> forms = manager.getConfig(FormConfig.class)
+            .orElseThrow(IllegalStateException::new)
+            .getForms();
+        simple = forms.get("simple_0").get();
+        modal = forms.get("modal_0").get();
+        custom = forms.get("custom_0").get();
+
+        player = new BenchmarkPlayer("Steve");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        BenchmarkFiles.delete(directory);
+    }
+
+    @Benchmark
+    public Form simpleForm() throws ArgumentException {
+        simple.send(player);
+        return bedrockHandler.getLastForm();
+    }
+
+    @Benchmark
+    public Form modalForm() throws ArgumentException {
+        modal.send(player);
+        return bedrockHandler.getLastForm();
+    }
+
+    @Benchmark
+    public Form customForm() throws ArgumentException {
+        custom.send(player);
+        return bedrockHandler.getLastForm();
+    }
+}
@@ -0,0 +1,93 @@
+package dev.kejona.crossplatforms.benchmarks;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import dev.kejona.crossplatforms.TestLogger;
+import dev.kejona.crossplatforms.command.custom.CustomCommand;
+import dev.kejona.crossplatforms.command.custom.InterceptCommand;
+import dev.kejona.crossplatforms.config.ConfigManager;
+import dev.kejona.crossplatforms.config.GeneralConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Finding the intercept command for a command that was sent, with many intercept commands registered.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class InterceptCommandBenchmark {
+
+    /**
+     * Total amount of intercept commands, half exact and half patterns
+     */
+    @Param({"10", "100", "1000"})
+    public int commands;
+
+    private Path directory;
+    private BenchmarkServerHandler serverHandler;
+
+    private String exact;
+    private String pattern;
+
+    @Setup
+    public void setup() throws IOException {
+        TestLogger logger = new TestLogger();
+        directory = BenchmarkFiles.createDirectory();
+        BenchmarkConfigs.writeGeneralConfig(directory, commands);
+        BenchmarkConfigs.writeForms(directory, 0);
+
+        serverHandler = new BenchmarkServerHandler();
+        Injector injector = Guice.createInjector(new BenchmarkModule(serverHandler, new BenchmarkBedrockHandler()));
+
+        ConfigManager manager = BenchmarkConfigs.configManager(directory, logger, injector);
+        if (!manager.load()) {
+            throw new IllegalStateException("Failed to load configs: " + logger.warningDump());
+        }
+
+        GeneralConfig config = manager.getConfig(GeneralConfig.class).orElseThrow(IllegalStateException::new);
+        for (CustomCommand command : config.getCommands().values()) {
+            if (command instanceof InterceptCommand) {
+                serverHandler.registerInterceptCommand((InterceptCommand) command);
+            }
+        }
+
+        // the last of each, the worst case for a linear search
+        int last = commands - 1;
+        int lastExact = last % 2 == 0 ? last : last - 1;
+        int lastPattern = last % 2 == 1 ? last : last - 1;
+        exact = "warp spawn" + lastExact;
+        pattern = "home base" + lastPattern + " now";
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        BenchmarkFiles.delete(directory);
+    }
+
+    @Benchmark
+    public InterceptCommand exactMatch() {
+        return serverHandler.findCommand(exact);
+    }
+
+    @Benchmark
+    public InterceptCommand patternMatch() {
+        return serverHandler.findCommand(pattern);
+    }
+
+    @Benchmark
+    public InterceptCommand noMatch() {
+        return serverHandler.findCommand("gamemode creative");
+    }
+}
@@ -0,0 +1,99 @@
+package dev.kejona.crossplatforms.benchmarks;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import dev.kejona.crossplatforms.TestLogger;
+import dev.kejona.crossplatforms.config.ConfigManager;
+import dev.kejona.crossplatforms.context.PlayerContext;
+import dev.kejona.crossplatforms.filler.PlayerFiller;
+import dev.kejona.crossplatforms.handler.BasicPlaceholders;
+import dev.kejona.crossplatforms.handler.FormPlayer;
+import dev.kejona.crossplatforms.interfacing.ArgumentException;
+import dev.kejona.crossplatforms.interfacing.bedrock.BedrockForm;
+import dev.kejona.crossplatforms.interfacing.bedrock.FormConfig;
+import dev.kejona.crossplatforms.interfacing.bedrock.simple.SimpleButton;
+import org.geysermc.cumulus.form.Form;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Listing online players with a player filler, on its own and as part of a simple form.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PlayerFillerBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int players;
+
+    private Path directory;
+    private BenchmarkBedrockHandler bedrockHandler;
+    private FormPlayer player;
+    private PlayerContext context;
+
+    private PlayerFiller filler;
+    private BedrockForm form;
+
+    @Setup
+    public void setup() throws IOException {
+        TestLogger logger = new TestLogger();
+        directory = BenchmarkFiles.createDirectory();
+        BenchmarkConfigs.writeGeneralConfig(directory, 0);
+        BenchmarkConfigs.writeForms(directory, 0);
+
+        BenchmarkServerHandler serverHandler = new BenchmarkServerHandler();
+        serverHandler.setPlayers(players);
+        bedrockHandler = new BenchmarkBedrockHandler();
+        Injector injector = Guice.createInjector(new BenchmarkModule(serverHandler, bedrockHandler));
+
+        ConfigManager manager = BenchmarkConfigs.configManager(directory, logger, injector);
+        if (!manager.load()) {
+            throw new IllegalStateException("Failed to load configs: " + logger.warningDump());
+        }
+
+        form = manager.getConfig(FormConfig.class)
+            .orElseThrow(IllegalStateException::new)
+            .getForms()
+            .get(BenchmarkConfigs.PLAYER_LIST)
+            .get();
+
+        filler = injector.getInstance(PlayerFiller.class);
+        player = serverHandler.getPlayers().findFirst().orElseThrow(IllegalStateException::new);
+        context = new PlayerContext(player, new BasicPlaceholders().resolver(player));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        BenchmarkFiles.delete(directory);
+    }
+
+    @Benchmark
+    public List<String> options() {
+        return filler.rawOptions(context).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<SimpleButton> buttons() {
+        return filler.rawButtons(context).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public Form form() throws ArgumentException {
+        form.send(player);
+        return bedrockHandler.getLastForm();
+    }
+}
@@ -0,0 +1,100 @@
+package dev.kejona.crossplatforms.benchmarks;
+
+import dev.kejona.crossplatforms.TestLogger;
+import dev.kejona.crossplatforms.handler.BasicPlaceholders;
+import dev.kejona.crossplatforms.handler.FormPlayer;
+import dev.kejona.crossplatforms.handler.Placeholders;
+import dev.kejona.crossplatforms.resolver.MapResolver;
+import dev.kejona.crossplatforms.resolver.Resolver;
+import dev.kejona.crossplatforms.resolver.Template;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolving strings through a chain of an argument resolver and a player resolver, like when an interface is sent.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResolverBenchmark {
+
+    /**
+     * Amount of entries in the map resolver
+     */
+    @Param({"1", "10", "50"})
+    public int arguments;
+
+    private final String plain = "Click on the server button of choice.";
+    private final String dynamic = "Welcome %player_name%, you selected %arg_0% (%player_uuid%)";
+
+    private Template plainTemplate;
+    private Template dynamicTemplate;
+
+    private MapResolver mapResolver;
+    private Resolver playerResolver;
+    private Resolver chain;
+
+    @Setup
+    public void setup() {
+        new TestLogger();
+
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < arguments; i++) {
+            values.put("%arg_" + i + "%", "value" + i);
+        }
+
+        FormPlayer player = new BenchmarkPlayer("Steve");
+        Placeholders placeholders = new BasicPlaceholders();
+        mapResolver = new MapResolver(values);
+        playerResolver = placeholders.resolver(player);
+        chain = new MapResolver(values).then(playerResolver);
+
+        plainTemplate = Template.compile(plain);
+        dynamicTemplate = Template.compile(dynamic);
+    }
+
+    @Benchmark
+    public String mapApply() {
+        return mapResolver.apply(dynamic);
+    }
+
+    @Benchmark
+    public String mapRender() {
+        return mapResolver.render(dynamicTemplate);
+    }
+
+    @Benchmark
+    public String playerApply() {
+        return playerResolver.apply(dynamic);
+    }
+
+    @Benchmark
+    public String chainApply() {
+        return chain.apply(dynamic);
+    }
+
+    @Benchmark
+    public String chainRender() {
+        return chain.render(dynamicTemplate);
+    }
+
+    @Benchmark
+    public String chainApplyPlain() {
+        return chain.apply(plain);
+    }
+
+    @Benchmark
+    public String chainRenderPlain() {
+        return chain.render(plainTemplate);
+    }
+}
@@ -21,17 +21,22 @@ import dev.kejona.crossplatforms.permission.LuckPermsHook;
 import dev.kejona.crossplatforms.permission.Permissions;
 import dev.kejona.crossplatforms.proxy.CloseMenuAction;
 import dev.kejona.crossplatforms.proxy.ProtocolizeModule;
+import dev.kejona.crossplatforms.proxy.inventory.ProtocolizeInventoryController;
 import net.kyori.adventure.platform.bungeecord.BungeeAudiences;
 import net.kyori.adventure.text.serializer.bungeecord.BungeeComponentSerializer;
 import net.md_5.bungee.api.CommandSender;
+import net.md_5.bungee.api.event.PlayerDisconnectEvent;
+import net.md_5.bungee.api.plugin.Listener;
 import net.md_5.bungee.api.plugin.Plugin;
+import net.md_5.bungee.event.EventHandler;
+import net.md_5.bungee.event.EventPriority;
 import org.bstats.bungeecord.Metrics;
 import org.bstats.charts.CustomChart;
 
 import java.util.ArrayList;
 import java.util.List;
 
-public class CrossplatFormsBungeeCord extends Plugin implements CrossplatFormsBootstrap {
+public class CrossplatFormsBungeeCord extends Plugin implements CrossplatFormsBootstrap, Listener {
 
     private static final int BSTATS_ID = 14706;
     public static final BungeeComponentSerializer COMPONENT_SERIALIZER = BungeeComponentSerializer.get();
@@ -46,6 +51,7 @@ public class CrossplatFormsBungeeCord extends Plugin implements CrossplatFormsBo
     private BungeeAudiences audiences;
     private Metrics metrics;
     private boolean protocolizePresent;
+    private ProtocolizeInventoryController inventoryController; // null if protocolize isn't present
 
     @Override
     public void onEnable() {
@@ -90,6 +96,16 @@ public class CrossplatFormsBungeeCord extends Plugin implements CrossplatFormsBo
         );
 
         getProxy().getPluginManager().registerListener(this, serverHandler); // events for catching proxy commands
+        getProxy().getPluginManager().registerListener(this, this); // for clearing the placeholder cache
+    }
+
+    @EventHandler(priority = EventPriority.HIGHEST)
+    public void onPlayerDisconnect(PlayerDisconnectEvent event) {
+        crossplatForms.getPlaceholderCache().invalidate(event.getPlayer().getUniqueId());
+        crossplatForms.getSuggestionCache().invalidate(event.getPlayer().getUniqueId());
+        if (inventoryController != null) {
+            inventoryController.disconnect(event.getPlayer().getUniqueId());
+        }
     }
 
     @Override
@@ -97,7 +113,8 @@ public class CrossplatFormsBungeeCord extends Plugin implements CrossplatFormsBo
         List<Module> modules = new ArrayList<>();
 
         if (protocolizePresent) {
-            modules.add(new ProtocolizeModule());
+            inventoryController = new ProtocolizeInventoryController();
+            modules.add(new ProtocolizeModule(inventoryController));
         }
 
         return modules;
@@ -119,6 +136,9 @@ public class CrossplatFormsBungeeCord extends Plugin implements CrossplatFormsBo
         if (audiences != null) {
             audiences.close();
         }
+        if (crossplatForms != null) {
+            crossplatForms.shutdown();
+        }
 
         getProxy().getPluginManager().unregisterListeners(this);
     }
@@ -10,6 +10,7 @@ import dev.kejona.crossplatforms.command.custom.InterceptCommandCache;
 import dev.kejona.crossplatforms.handler.BedrockHandler;
 import dev.kejona.crossplatforms.handler.FormPlayer;
 import dev.kejona.crossplatforms.handler.ServerHandler;
+import dev.kejona.crossplatforms.handler.SortedPlayers;
 import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.platform.bungeecord.BungeeAudiences;
 import net.md_5.bungee.api.CommandSender;
@@ -17,31 +18,42 @@ import net.md_5.bungee.api.ProxyServer;
 import net.md_5.bungee.api.connection.Connection;
 import net.md_5.bungee.api.connection.ProxiedPlayer;
 import net.md_5.bungee.api.event.ChatEvent;
+import net.md_5.bungee.api.event.PlayerDisconnectEvent;
+import net.md_5.bungee.api.event.PostLoginEvent;
 import net.md_5.bungee.api.plugin.Listener;
 import net.md_5.bungee.api.plugin.Plugin;
 import net.md_5.bungee.api.plugin.PluginManager;
 import net.md_5.bungee.event.EventHandler;
+import net.md_5.bungee.event.EventPriority;
 import org.jetbrains.annotations.Nullable;
 
 import javax.annotation.Nonnull;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
 public class BungeeCordHandler extends InterceptCommandCache implements ServerHandler, Listener {
 
     private static final String OP_GROUP = "op";
 
+    private final Plugin plugin;
     private final ProxyServer server;
     private final PluginManager pluginManager;
     private final BungeeAudiences audiences;
     private final CommandSender console;
+    private final SortedPlayers sortedPlayers = new SortedPlayers();
 
     public BungeeCordHandler(Plugin plugin, BungeeAudiences audiences) {
+        this.plugin = plugin;
         this.server = plugin.getProxy();
         this.pluginManager = server.getPluginManager();
         this.audiences = audiences;
         this.console = server.getConsole();
+
+        for (ProxiedPlayer player : server.getPlayers()) {
+            sortedPlayers.add(new BungeeCordPlayer(player)); // in case of reloads
+        }
     }
 
     private ProxiedPlayer getPlayerOrThrow(UUID uuid) {
@@ -76,6 +88,28 @@ public class BungeeCordHandler extends InterceptCommandCache implements ServerHa
         return server.getPlayers().stream().map(ProxiedPlayer::getName);
     }
 
+    @Nonnull
+    @Override
+    public List<FormPlayer> getSortedPlayers() {
+        return sortedPlayers.players();
+    }
+
+    @Nonnull
+    @Override
+    public List<String> getSortedPlayerNames() {
+        return sortedPlayers.names();
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onPostLogin(PostLoginEvent event) {
+        sortedPlayers.add(new BungeeCordPlayer(event.getPlayer()));
+    }
+
+    @EventHandler(priority = EventPriority.HIGHEST)
+    public void onPlayerDisconnect(PlayerDisconnectEvent event) {
+        sortedPlayers.remove(event.getPlayer().getUniqueId());
+    }
+
     @Nonnull
     @Override
     public Audience asAudience(CommandOrigin origin) {
@@ -131,6 +165,11 @@ public class BungeeCordHandler extends InterceptCommandCache implements ServerHa
         }
     }
 
+    @Override
+    public void executeNextTick(Runnable runnable) {
+        server.getScheduler().schedule(plugin, runnable, 50, TimeUnit.MILLISECONDS);
+    }
+
     @EventHandler
     public void onPreProcessCommand(ChatEvent event) {
         Connection connection = event.getSender();
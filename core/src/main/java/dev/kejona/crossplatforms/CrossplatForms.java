@@ -10,15 +10,18 @@ import com.google.inject.Module;
 import dev.kejona.crossplatforms.action.BedrockTransferAction;
 import dev.kejona.crossplatforms.command.CommandOrigin;
 import dev.kejona.crossplatforms.command.FormsCommand;
+import dev.kejona.crossplatforms.command.SuggestionCache;
 import dev.kejona.crossplatforms.command.custom.CustomCommandManager;
 import dev.kejona.crossplatforms.command.defaults.DefaultCommands;
 import dev.kejona.crossplatforms.command.defaults.HelpCommand;
 import dev.kejona.crossplatforms.command.defaults.ListCommand;
 import dev.kejona.crossplatforms.config.ConfigId;
 import dev.kejona.crossplatforms.config.ConfigManager;
+import dev.kejona.crossplatforms.config.ConfigWatcher;
 import dev.kejona.crossplatforms.config.ConfigurationModule;
 import dev.kejona.crossplatforms.config.GeneralConfig;
 import dev.kejona.crossplatforms.handler.BedrockHandler;
+import dev.kejona.crossplatforms.handler.CachingPlaceholders;
 import dev.kejona.crossplatforms.handler.FloodgateHandler;
 import dev.kejona.crossplatforms.handler.GeyserHandler;
 import dev.kejona.crossplatforms.handler.Placeholders;
@@ -30,6 +33,8 @@ import dev.kejona.crossplatforms.interfacing.bedrock.BedrockFormSerializer;
 import dev.kejona.crossplatforms.interfacing.bedrock.custom.ComponentSerializer;
 import dev.kejona.crossplatforms.interfacing.bedrock.custom.CustomComponent;
 import dev.kejona.crossplatforms.interfacing.java.JavaMenuRegistry;
+import dev.kejona.crossplatforms.interfacing.java.MenuRefresher;
+import dev.kejona.crossplatforms.metrics.MetricsRegistry;
 import dev.kejona.crossplatforms.permission.Permissions;
 import dev.kejona.crossplatforms.reloadable.ReloadableRegistry;
 import lombok.Getter;
@@ -62,6 +67,11 @@ public class CrossplatForms {
     private final String rootCommand;
 
     private final Placeholders placeholders;
+    private final CachingPlaceholders placeholderCache;
+    private final SuggestionCache suggestionCache = new SuggestionCache();
+    private final MetricsRegistry metrics = new MetricsRegistry();
+    private final MenuRefresher menuRefresher;
+    private final ConfigWatcher configWatcher;
 
     public CrossplatForms(Logger logger,
                           Path dataFolder,
@@ -79,7 +89,15 @@ public class CrossplatForms {
         this.serverHandler = serverHandler;
         this.permissions = permissions;
         this.commandManager = commandManager;
-        this.placeholders = placeholders;
+        this.placeholderCache = new CachingPlaceholders(placeholders, uuid -> serverHandler.getPlayer(uuid) != null);
+        this.placeholders = placeholderCache;
+        permissions.addChangeListener(uuid -> {
+            if (uuid == null) {
+                suggestionCache.invalidateAll();
+            } else {
+                suggestionCache.invalidate(uuid);
+            }
+        });
         ReloadableRegistry.clear();
         logger.info("Version: " + Constants.version() + ", Branch: " + Constants.branch() + ", Build: " + Constants.buildNumber() + ", Commit: " + Constants.commit());
 
@@ -108,9 +126,10 @@ public class CrossplatForms {
         }
 
         interfacer = new Interfacer();
+        menuRefresher = new MenuRefresher(serverHandler);
 
         List<Module> modules = bootstrap.configModules();
-        modules.add(new ConfigurationModule(interfacer, bedrockHandler, serverHandler, placeholders));
+        modules.add(new ConfigurationModule(interfacer, bedrockHandler, serverHandler, this.placeholders, metrics, menuRefresher));
         Injector injector = Guice.createInjector(modules);
 
         // Register configs and serializers
@@ -133,6 +152,13 @@ public class CrossplatForms {
         }
         logger.debug("Took " + (System.currentTimeMillis() - configTime) + "ms to load config files.");
 
+        placeholderCache.reload();
+        ReloadableRegistry.register(placeholderCache);
+        metrics.reload();
+        ReloadableRegistry.register(metrics);
+        menuRefresher.reload();
+        ReloadableRegistry.register(menuRefresher);
+
         // Load forms and menus from the configs into registries
         interfacer.load(
             new BedrockFormRegistry(configManager, permissions),
@@ -185,12 +211,25 @@ public class CrossplatForms {
         // register shortcut commands
         new CustomCommandManager(this, commandManager);
 
+        configWatcher = new ConfigWatcher(configManager, serverHandler);
+        configWatcher.reload();
+        ReloadableRegistry.register(configWatcher);
+
         // extra charts for bstats
         bootstrap.addCustomChart(new SimplePie("bedrockHandler", bedrockHandler::getType));
 
         logger.info("Took " + (System.currentTimeMillis() - start) + "ms to boot CrossplatForms.");
     }
 
+    /**
+     * Stops any background work. Should be called when the plugin is disabled.
+     */
+    public void shutdown() {
+        configWatcher.stop();
+        permissions.removeChangeListeners();
+        metrics.shutdown();
+    }
+
 
     public static CrossplatForms getInstance() {
         return INSTANCE;
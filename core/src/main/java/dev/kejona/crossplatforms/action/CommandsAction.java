@@ -32,7 +32,7 @@ public class CommandsAction implements GenericAction {
     public void affectPlayer(@Nonnull FormPlayer player, @Nonnull Resolver resolver) {
         if (commands != null) {
             List<DispatchableCommand> resolved = commands.stream()
-                    .map(cmd -> cmd.withCommand(resolver.apply(cmd.getCommand())))
+                    .map(cmd -> cmd.withCommand(resolver.render(cmd.template())))
                     .collect(Collectors.toList());
 
             serverHandler.dispatchCommands(player.getUuid(), resolved);
@@ -1,5 +1,7 @@
 package dev.kejona.crossplatforms.command;
 
+import dev.kejona.crossplatforms.resolver.Template;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
@@ -13,6 +15,10 @@ public class DispatchableCommand {
     private final String command;
     private final boolean op;
 
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private transient Template template;
+
     /**
      * Used for running commands as a player or as the console
      *
@@ -38,6 +44,17 @@ public class DispatchableCommand {
         this(false, command, false);
     }
 
+    /**
+     * @return The command string, compiled for placeholder resolution
+     */
+    public Template template() {
+        if (template == null) {
+            // may be compiled twice if raced, but the result is the same
+            template = Template.compile(command);
+        }
+        return template;
+    }
+
     public DispatchableCommand withCommand(String command) {
         if (this.command.equals(command)) {
             return this;
@@ -0,0 +1,196 @@
+package dev.kejona.crossplatforms.command;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Caches command suggestions for each sender, which are usually filtered by permissions that are expensive to check
+ * on every keystroke. Suggestions are kept sorted so that the suggestions matching the current input can be found
+ * with a binary search. Cached suggestions are discarded after a short time, when the data they were computed from
+ * is replaced (e.g. by a reload), or when the permissions of a player change.
+ */
+public class SuggestionCache {
+
+    /**
+     * Default time to live of suggestions, in nanoseconds
+     */
+    public static final long DEFAULT_TTL = TimeUnit.SECONDS.toNanos(5);
+
+    /**
+     * Provides the current time in nanoseconds
+     */
+    private final LongSupplier clock;
+    private final long ttl;
+
+    private final Map<Key, Entry> cache = new ConcurrentHashMap<>();
+    private volatile long lastPurge;
+
+    public SuggestionCache() {
+        this(System::nanoTime, DEFAULT_TTL);
+    }
+
+    SuggestionCache(LongSupplier clock, long ttl) {
+        this.clock = clock;
+        this.ttl = ttl;
+        this.lastPurge = clock.getAsLong();
+    }
+
+    /**
+     * @param type The type of suggestions, e.g. the command and argument they are for
+     * @param sender The UUID of the sender, or null if the sender is not a player
+     * @param target The UUID of another player that the suggestions depend on, or null if there is none
+     * @return A key to cache suggestions with
+     */
+    public static Key key(@Nonnull String type, @Nullable UUID sender, @Nullable UUID target) {
+        return new Key(type, sender, target);
+    }
+
+    /**
+     * Get suggestions that start with the given input, ignoring case.
+     * @param key The key that the suggestions are cached with
+     * @param source The data that the suggestions are computed from. Cached suggestions are discarded if this is not
+     *               the same instance that they were computed from.
+     * @param input The current input of the sender
+     * @param loader Computes every suggestion for the key, if they are not cached
+     * @return An immutable list of the matching suggestions, sorted ignoring case
+     */
+    @Nonnull
+    public List<String> suggest(@Nonnull Key key, @Nonnull Object source, @Nonnull String input, @Nonnull Supplier<? extends Collection<String>> loader) {
+        long now = clock.getAsLong();
+        Entry entry = cache.get(key);
+        if (entry == null || entry.source != source || now - entry.expiry >= 0) {
+            String[] suggestions = loader.get().stream()
+                .distinct()
+                .sorted(String.CASE_INSENSITIVE_ORDER)
+                .toArray(String[]::new);
+
+            entry = new Entry(suggestions, source, now + ttl);
+            cache.put(key, entry);
+            purge(now);
+        }
+
+        return range(entry.suggestions, input);
+    }
+
+    /**
+     * Removes all suggestions that were cached for a player, or that depend on the player.
+     * Should be called when a player disconnects or their permissions change.
+     * @param uuid the UUID of the player
+     */
+    public void invalidate(@Nonnull UUID uuid) {
+        cache.keySet().removeIf(key -> uuid.equals(key.sender) || uuid.equals(key.target));
+    }
+
+    /**
+     * Removes all cached suggestions.
+     */
+    public void invalidateAll() {
+        cache.clear();
+    }
+
+    /**
+     * @return The amount of keys with cached suggestions, which may include expired suggestions
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Removes expired suggestions, at most once per time to live.
+     */
+    private void purge(long now) {
+        if (now - lastPurge < ttl) {
+            return;
+        }
+        lastPurge = now;
+        cache.values().removeIf(entry -> now - entry.expiry >= 0);
+    }
+
+    static List<String> range(String[] sorted, String prefix) {
+        return range(Arrays.asList(sorted), prefix);
+    }
+
+    /**
+     * Finds the strings that start with a prefix without any caching, for suggestions that are already kept sorted.
+     * @param sorted Strings sorted by {@link String#CASE_INSENSITIVE_ORDER}, which should support fast random access
+     * @param prefix The prefix to match, ignoring case
+     * @return An immutable view of the strings that start with the prefix
+     */
+    @Nonnull
+    public static List<String> range(@Nonnull List<String> sorted, @Nonnull String prefix) {
+        int low = 0;
+        int high = sorted.size();
+        while (low < high) {
+            // find the first string that is not less than the prefix
+            int mid = (low + high) >>> 1;
+            if (String.CASE_INSENSITIVE_ORDER.compare(sorted.get(mid), prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        int end = low;
+        while (end < sorted.size() && sorted.get(end).regionMatches(true, 0, prefix, 0, prefix.length())) {
+            end++;
+        }
+
+        return Collections.unmodifiableList(sorted.subList(low, end));
+    }
+
+    public static final class Key {
+
+        private final String type;
+        @Nullable
+        private final UUID sender;
+        @Nullable
+        private final UUID target;
+
+        private Key(String type, @Nullable UUID sender, @Nullable UUID target) {
+            this.type = Objects.requireNonNull(type);
+            this.sender = sender;
+            this.target = target;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return type.equals(key.type) && Objects.equals(sender, key.sender) && Objects.equals(target, key.target);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, sender, target);
+        }
+    }
+
+    private static final class Entry {
+
+        private final String[] suggestions;
+        private final Object source;
+
+        /**
+         * Time in nanoseconds that this entry expires at
+         */
+        private final long expiry;
+
+        private Entry(String[] suggestions, Object source, long expiry) {
+            this.suggestions = suggestions;
+            this.source = source;
+            this.expiry = expiry;
+        }
+    }
+}
@@ -2,12 +2,14 @@ package dev.kejona.crossplatforms.command.custom;
 
 import cloud.commandframework.Command;
 import cloud.commandframework.CommandManager;
+import com.google.common.collect.ImmutableMap;
 import dev.kejona.crossplatforms.Constants;
 import dev.kejona.crossplatforms.CrossplatForms;
 import dev.kejona.crossplatforms.Logger;
 import dev.kejona.crossplatforms.command.CommandOrigin;
 import dev.kejona.crossplatforms.command.CommandType;
 import dev.kejona.crossplatforms.config.ConfigManager;
+import dev.kejona.crossplatforms.config.Configuration;
 import dev.kejona.crossplatforms.config.GeneralConfig;
 import dev.kejona.crossplatforms.handler.BedrockHandler;
 import dev.kejona.crossplatforms.handler.FormPlayer;
@@ -17,6 +19,7 @@ import dev.kejona.crossplatforms.reloadable.ReloadableRegistry;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -31,7 +34,11 @@ public class CustomCommandManager implements Reloadable {
     private final BedrockHandler bedrockHandler;
     private final Logger logger;
 
-    private final Map<Literals, RegisteredCommand> registeredCommands = new HashMap<>();
+    /**
+     * Immutable snapshot of every command that has been registered with the command manager, which is replaced as a
+     * whole on reload. Read by command handlers and permission checks, which may be on any thread.
+     */
+    private volatile Map<Literals, RegisteredCommand> registeredCommands = Collections.emptyMap();
 
     public CustomCommandManager(CrossplatForms forms, CommandManager<CommandOrigin> commandManager) {
         this.configManager = forms.getConfigManager();
@@ -44,15 +51,18 @@ public class CustomCommandManager implements Reloadable {
         ReloadableRegistry.register(this);
     }
 
-    private void load() {
-        serverHandler.clearInterceptCommands();
+    private synchronized void load() {
         if (!configManager.getConfig(GeneralConfig.class).isPresent()) {
+            serverHandler.setInterceptCommands(Collections.emptyList());
             return;
         }
         GeneralConfig config = configManager.getConfig(GeneralConfig.class).get();
         commandManager.setSetting(CommandManager.ManagerSettings.ALLOW_UNSAFE_REGISTRATION, config.isUnsafeCommandRegistration());
 
+        // copy the previous commands, since commands can't be unregistered
+        Map<Literals, RegisteredCommand> commands = new HashMap<>(registeredCommands);
         List<Literals> currentCommands = new ArrayList<>();
+        List<InterceptCommand> interceptCommands = new ArrayList<>();
         for (CustomCommand command : config.getCommands().values()) {
             if (command == null) {
                 continue;
@@ -62,14 +72,14 @@ public class CustomCommandManager implements Reloadable {
             if (type == CommandType.REGISTER) {
                 if (command instanceof RegisteredCommand) {
                     RegisteredCommand registered = (RegisteredCommand) command;
-                    registerCommand(registered);
+                    registerCommand(commands, registered);
                     currentCommands.add(registered.literals());
                 } else {
                     throw new IllegalStateException("CustomCommand has method type REGISTER but is not a RegisteredCommand: " + command);
                 }
             } else if (type == CommandType.INTERCEPT_CANCEL || type == CommandType.INTERCEPT_PASS) {
                 if (command instanceof InterceptCommand) {
-                    interceptCommand((InterceptCommand) command);
+                    interceptCommand(interceptCommands, (InterceptCommand) command);
                 } else {
                     throw new IllegalStateException("CustomCommand has method type INTERCEPT_CANCEL or INTERCEPT_PASS but is not a ProxiedCommand: " + command);
                 }
@@ -78,15 +88,19 @@ public class CustomCommandManager implements Reloadable {
             }
         }
 
-        for (Map.Entry<Literals, RegisteredCommand> entry : registeredCommands.entrySet()) {
+        for (Map.Entry<Literals, RegisteredCommand> entry : commands.entrySet()) {
             // enable commands that are current
             // disable commands that are no longer current
             // cannot remove old commands from the map because a double reload could result in cloud raising exceptions due to duplicate nodes/arguments
             entry.getValue().enable(currentCommands.contains(entry.getKey()));
         }
+
+        // publish the new definitions at once, so that executing commands never see a partially loaded map
+        registeredCommands = ImmutableMap.copyOf(commands);
+        serverHandler.setInterceptCommands(interceptCommands);
     }
 
-    private void registerCommand(RegisteredCommand command) {
+    private void registerCommand(Map<Literals, RegisteredCommand> commands, RegisteredCommand command) {
         Objects.requireNonNull(command);
         final String name = command.getIdentifier();
         final Literals literals = command.literals();
@@ -102,7 +116,7 @@ public class CustomCommandManager implements Reloadable {
             return;
         }
 
-        if (!registeredCommands.containsKey(literals)) {
+        if (!commands.containsKey(literals)) {
             if (commandManager.isCommandRegistrationAllowed()) {
 
                 Command.Builder<CommandOrigin> builder = commandManager.commandBuilder(array[0]);
@@ -116,7 +130,7 @@ public class CustomCommandManager implements Reloadable {
                         .permission(origin -> hasPermission(origin, literals))
                         .handler((context) -> executeCommand(context.getSender(), literals))
                     );
-                    registeredCommands.put(literals, command); // set definition
+                    commands.put(literals, command); // set definition
                 } catch (Exception e) {
                     logger.warn("Failed to register custom command '" + name + "', likely because it already exists: " + Arrays.toString(array));
                     logger.warn(e.getMessage());
@@ -131,7 +145,7 @@ public class CustomCommandManager implements Reloadable {
             }
         } else {
             // already setup, just update the definition.
-            registeredCommands.put(literals, command);
+            commands.put(literals, command);
         }
     }
 
@@ -150,11 +164,11 @@ public class CustomCommandManager implements Reloadable {
         }
     }
 
-    private void interceptCommand(InterceptCommand command) {
+    private void interceptCommand(List<InterceptCommand> interceptCommands, InterceptCommand command) {
         if (command.getPattern() == null && command.getExact() == null) {
             logger.severe("CustomCommand of method INTERCEPT_CANCEL or INTERCEPT_PASS defines both 'exact' and 'pattern': " + command + ". Not registering, as only one must be specified.");
         } else {
-            serverHandler.registerInterceptCommand(command);
+            interceptCommands.add(command);
         }
     }
 
@@ -178,4 +192,9 @@ public class CustomCommandManager implements Reloadable {
         load();
         return true;
     }
+
+    @Override
+    public boolean dependsOn(Class<? extends Configuration> config) {
+        return config == GeneralConfig.class;
+    }
 }
@@ -1,12 +1,14 @@
 package dev.kejona.crossplatforms.command.custom;
 
 import dev.kejona.crossplatforms.command.CommandType;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.ToString;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 
 import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.regex.Pattern;
 
 @ToString(callSuper = true)
@@ -24,12 +26,30 @@ public class InterceptCommand extends CustomCommand {
     @Nullable
     private String exact;
 
+    /**
+     * The amount of commands sent by players that matched this
+     */
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private final transient LongAdder matches = new LongAdder();
+
     @Nullable
     @Override
     public String getPermission() {
         return super.getPermission();
     }
 
+    public void recordMatch() {
+        matches.increment();
+    }
+
+    /**
+     * @return The amount of commands sent by players that matched this since it was loaded
+     */
+    public long getMatches() {
+        return matches.sum();
+    }
+
     @Override
     public String type() {
         return getMethod().name().toLowerCase(Locale.ROOT);
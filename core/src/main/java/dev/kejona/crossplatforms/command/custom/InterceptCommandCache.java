@@ -4,49 +4,80 @@ import dev.kejona.crossplatforms.handler.ServerHandler;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 
 /**
- * Small map-wrapper class to facilitate {@link ServerHandler} implementations if desired
+ * Small map-wrapper class to facilitate {@link ServerHandler} implementations if desired.
+ * Commands may be found from any thread while they are being registered.
  */
 public abstract class InterceptCommandCache implements ServerHandler {
 
-    private final Map<String, InterceptCommand> exactCommands = new HashMap<>();
-    private final List<InterceptCommand> patternCommands = new ArrayList<>();
+    /**
+     * The registered commands, which is replaced as a whole whenever they change so that finding commands never
+     * requires locking.
+     */
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
 
     @Override
-    public void registerInterceptCommand(InterceptCommand proxyCommand) {
-        String exact = proxyCommand.getExact();
-        if (exact != null) {
-            exactCommands.put(proxyCommand.getExact(), proxyCommand);
-        } else {
-            Objects.requireNonNull(proxyCommand.getPattern());
-            patternCommands.add(proxyCommand);
-        }
+    public synchronized void registerInterceptCommand(InterceptCommand proxyCommand) {
+        validate(proxyCommand);
+        List<InterceptCommand> commands = new ArrayList<>(snapshot.commands);
+        commands.add(proxyCommand);
+        snapshot = new Snapshot(commands);
     }
 
     @Override
-    public void clearInterceptCommands() {
-        exactCommands.clear();
-        patternCommands.clear();
+    public synchronized void setInterceptCommands(List<InterceptCommand> commands) {
+        commands.forEach(InterceptCommandCache::validate);
+        snapshot = commands.isEmpty() ? Snapshot.EMPTY : new Snapshot(new ArrayList<>(commands));
+    }
+
+    @Override
+    public synchronized void clearInterceptCommands() {
+        snapshot = Snapshot.EMPTY;
     }
 
     @Nullable
     public InterceptCommand findCommand(String input) {
-        // attempt to find an exact match
-        InterceptCommand command = exactCommands.get(input);
-        if (command == null) {
-            // no command found for this exact string, try finding something that matches
-            for (InterceptCommand patternCommand : patternCommands) {
-                if (Objects.requireNonNull(patternCommand.getPattern()).matcher(input).matches()) {
-                    command = patternCommand;
-                    break;
-                }
-            }
+        InterceptCommand command = snapshot.matcher().find(input);
+        if (command != null) {
+            command.recordMatch();
         }
         return command;
     }
+
+    private static void validate(InterceptCommand command) {
+        if (command.getExact() == null) {
+            Objects.requireNonNull(command.getPattern());
+        }
+    }
+
+    private static final class Snapshot {
+
+        private static final Snapshot EMPTY = new Snapshot(Collections.emptyList());
+
+        private final List<InterceptCommand> commands;
+
+        /**
+         * Index of the commands, which is built when first needed since commands are usually registered one by one
+         */
+        @Nullable
+        private volatile InterceptMatcher matcher;
+
+        private Snapshot(List<InterceptCommand> commands) {
+            this.commands = Collections.unmodifiableList(commands);
+        }
+
+        private InterceptMatcher matcher() {
+            InterceptMatcher matcher = this.matcher;
+            if (matcher == null) {
+                // may rarely be built more than once by different threads, which is harmless
+                matcher = new InterceptMatcher(commands);
+                this.matcher = matcher;
+            }
+            return matcher;
+        }
+    }
 }
@@ -0,0 +1,271 @@
+package dev.kejona.crossplatforms.command.custom;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Finds the intercept command that matches a command sent by a player. Patterns that start with a literal word are
+ * indexed by that word, so that most commands are rejected after a couple of hash lookups. The patterns of each word
+ * are combined into a single pattern where possible. If multiple patterns match, the first registered is used.
+ */
+public final class InterceptMatcher {
+
+    public static final InterceptMatcher EMPTY = new InterceptMatcher(Collections.emptyList());
+
+    /**
+     * Matches numbered and named backreferences, which can't be combined because group numbers change
+     */
+    private static final Pattern BACKREFERENCE = Pattern.compile("\\\\(?:[1-9]|k<)");
+
+    private final Map<String, InterceptCommand> exactCommands;
+
+    /**
+     * Patterns with a literal first word, keyed by that word
+     */
+    private final Map<String, PatternGroup> indexed;
+
+    /**
+     * Patterns that may match commands with any first word
+     */
+    @Nullable
+    private final PatternGroup unindexed;
+
+    /**
+     * @param commands The intercept commands, in order of priority
+     */
+    public InterceptMatcher(List<InterceptCommand> commands) {
+        Map<String, InterceptCommand> exactCommands = new HashMap<>();
+        Map<String, List<Integer>> indexed = new LinkedHashMap<>();
+        List<Integer> unindexed = new ArrayList<>();
+
+        for (int i = 0; i < commands.size(); i++) {
+            InterceptCommand command = commands.get(i);
+            String exact = command.getExact();
+            if (exact != null) {
+                exactCommands.put(exact, command);
+            } else {
+                String word = literalFirstWord(Objects.requireNonNull(command.getPattern()));
+                if (word == null) {
+                    unindexed.add(i);
+                } else {
+                    indexed.computeIfAbsent(word, k -> new ArrayList<>()).add(i);
+                }
+            }
+        }
+
+        this.exactCommands = exactCommands;
+        this.indexed = new HashMap<>();
+        for (Map.Entry<String, List<Integer>> entry : indexed.entrySet()) {
+            this.indexed.put(entry.getKey(), new PatternGroup(commands, entry.getValue()));
+        }
+        this.unindexed = unindexed.isEmpty() ? null : new PatternGroup(commands, unindexed);
+    }
+
+    @Nullable
+    public InterceptCommand find(String input) {
+        // attempt to find an exact match
+        InterceptCommand command = exactCommands.get(input);
+        if (command != null) {
+            return command;
+        }
+
+        int end = 0;
+        while (end < input.length() && !isWhitespace(input.charAt(end))) {
+            end++;
+        }
+        PatternGroup group = indexed.get(end == input.length() ? input : input.substring(0, end));
+        int match = group == null ? -1 : group.find(input);
+        if (unindexed != null) {
+            int other = unindexed.find(input);
+            // use whichever was registered first
+            if (other != -1 && (match == -1 || unindexed.order[other] < group.order[match])) {
+                return unindexed.commands[other];
+            }
+        }
+
+        return match == -1 ? null : group.commands[match];
+    }
+
+    /**
+     * @return The literal first word that every input matching the pattern must start with, or null if there may not be
+     * one. The word is followed by whitespace or the end of the input.
+     */
+    @Nullable
+    static String literalFirstWord(Pattern pattern) {
+        if (pattern.flags() != 0) {
+            return null; // e.g. case insensitive
+        }
+
+        String regex = pattern.pattern();
+        int end = 0;
+        while (end < regex.length() && isLiteral(regex.charAt(end))) {
+            end++;
+        }
+
+        if (end == 0) {
+            return null;
+        }
+        if (end < regex.length()) {
+            // the word must be followed by at least one whitespace character
+            int next;
+            if (regex.charAt(end) == ' ') {
+                next = end + 1;
+            } else if (regex.startsWith("\\s", end)) {
+                next = end + 2;
+            } else {
+                return null; // the word continues with something that isn't literal
+            }
+            if (next < regex.length() && isOptional(regex.charAt(next))) {
+                return null;
+            }
+        }
+        if (hasTopLevelAlternation(regex)) {
+            return null;
+        }
+        return regex.substring(0, end);
+    }
+
+    private static boolean isLiteral(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '-' || c == ':';
+    }
+
+    /**
+     * @return true if the character is a quantifier that may allow zero occurrences
+     */
+    private static boolean isOptional(char c) {
+        return c == '?' || c == '*' || c == '{';
+    }
+
+    private static boolean isWhitespace(char c) {
+        // same as \s
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static boolean hasTopLevelAlternation(String regex) {
+        if (regex.contains("\\Q")) {
+            return true; // quoted sections aren't worth handling
+        }
+
+        int depth = 0;
+        boolean characterClass = false;
+        for (int i = 0; i < regex.length(); i++) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                i++; // skip the escaped character
+            } else if (characterClass) {
+                if (c == ']') {
+                    characterClass = false;
+                }
+            } else if (c == '[') {
+                characterClass = true;
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (c == '|' && depth == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Patterns that are tested together, in order of priority
+     */
+    private static final class PatternGroup {
+
+        private final InterceptCommand[] commands;
+
+        /**
+         * The priority of each command, lower is first
+         */
+        private final int[] order;
+
+        private final Pattern[] patterns;
+
+        /**
+         * All patterns as alternatives of a single pattern, or null if they can't be combined
+         */
+        @Nullable
+        private final Pattern combined;
+
+        /**
+         * The group in the combined pattern that each pattern is wrapped in
+         */
+        private final int[] groups;
+
+        private PatternGroup(List<InterceptCommand> all, List<Integer> indices) {
+            int size = indices.size();
+            commands = new InterceptCommand[size];
+            order = new int[size];
+            patterns = new Pattern[size];
+            groups = new int[size];
+
+            boolean combinable = size > 1;
+            StringBuilder regex = new StringBuilder();
+            int group = 1;
+            for (int i = 0; i < size; i++) {
+                int index = indices.get(i);
+                InterceptCommand command = all.get(index);
+                Pattern pattern = Objects.requireNonNull(command.getPattern());
+                commands[i] = command;
+                order[i] = index;
+                patterns[i] = pattern;
+
+                if (pattern.flags() != 0 || BACKREFERENCE.matcher(pattern.pattern()).find()) {
+                    combinable = false;
+                }
+                if (i > 0) {
+                    regex.append('|');
+                }
+                regex.append('(').append(pattern.pattern()).append(')');
+                groups[i] = group;
+                group += 1 + pattern.matcher("").groupCount();
+            }
+
+            Pattern combined = null;
+            if (combinable) {
+                try {
+                    combined = Pattern.compile(regex.toString());
+                } catch (PatternSyntaxException ignored) {
+                    // e.g. named groups that are defined by multiple patterns
+                }
+            }
+            this.combined = combined;
+        }
+
+        /**
+         * @return The index of the first command that matches, or -1 if none match
+         */
+        private int find(String input) {
+            if (combined != null) {
+                Matcher matcher = combined.matcher(input);
+                if (matcher.matches()) {
+                    for (int i = 0; i < groups.length; i++) {
+                        if (matcher.start(groups[i]) != -1) {
+                            return i;
+                        }
+                    }
+                }
+                return -1;
+            }
+
+            for (int i = 0; i < patterns.length; i++) {
+                if (patterns[i].matcher(input).matches()) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
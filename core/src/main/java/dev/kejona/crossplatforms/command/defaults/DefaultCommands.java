@@ -20,9 +20,11 @@ public final class DefaultCommands {
                 new HelpCommand(instance, minecraftHelp),
                 new ListCommand(instance),
                 new OpenCommand(instance),
+                new SendAllCommand(instance),
                 new InspectCommand(instance),
                 new IdentifyCommand(instance),
                 new VersionCommand(instance),
+                new MetricsCommand(instance),
                 new ReloadCommand(instance)
         );
     }
@@ -10,7 +10,6 @@ import dev.kejona.crossplatforms.handler.BedrockHandler;
 import dev.kejona.crossplatforms.handler.FormPlayer;
 import dev.kejona.crossplatforms.handler.ServerHandler;
 
-import java.util.stream.Collectors;
 
 public class IdentifyCommand extends FormsCommand {
 
@@ -44,7 +43,7 @@ public class IdentifyCommand extends FormsCommand {
         manager.command(defaultBuilder
                 .literal(NAME)
                 .argument(StringArgument.<CommandOrigin>builder("player")
-                        .withSuggestionsProvider((context, s) -> serverHandler.getPlayerNames().collect(Collectors.toList()))
+                        .withSuggestionsProvider((context, s) -> serverHandler.getSortedPlayerNames())
                         .build())
                 .permission(PERMISSION_OTHER)
                 .handler(context -> {
@@ -6,13 +6,12 @@ import cloud.commandframework.arguments.standard.StringArgument;
 import dev.kejona.crossplatforms.CrossplatForms;
 import dev.kejona.crossplatforms.command.CommandOrigin;
 import dev.kejona.crossplatforms.command.FormsCommand;
-import dev.kejona.crossplatforms.interfacing.Interface;
 import dev.kejona.crossplatforms.interfacing.bedrock.BedrockForm;
 import dev.kejona.crossplatforms.interfacing.bedrock.BedrockFormRegistry;
 import dev.kejona.crossplatforms.interfacing.java.JavaMenu;
 import dev.kejona.crossplatforms.interfacing.java.JavaMenuRegistry;
 
-import java.util.stream.Collectors;
+import java.util.ArrayList;
 
 public class InspectCommand extends FormsCommand {
 
@@ -35,10 +34,7 @@ public class InspectCommand extends FormsCommand {
         manager.command(base
                 .literal("form")
                 .argument(StringArgument.<CommandOrigin>builder("form")
-                        .withSuggestionsProvider(((context, s) -> bedrockRegistry.getForms().values()
-                                .stream()
-                                .map(Interface::getIdentifier)
-                                .collect(Collectors.toList()))))
+                        .withSuggestionsProvider(((context, s) -> new ArrayList<>(bedrockRegistry.getEntries().keySet()))))
                 .handler(context -> {
                     CommandOrigin origin = context.getSender();
                     String name = context.get("form");
@@ -55,10 +51,7 @@ public class InspectCommand extends FormsCommand {
         manager.command(base
                 .literal("menu")
                 .argument(StringArgument.<CommandOrigin>builder("menu")
-                        .withSuggestionsProvider(((context, s) -> javaRegistry.getMenus().values()
-                                .stream()
-                                .map(Interface::getIdentifier)
-                                .collect(Collectors.toList()))))
+                        .withSuggestionsProvider(((context, s) -> new ArrayList<>(javaRegistry.getEntries().keySet()))))
                 .handler(context -> {
                     CommandOrigin origin = context.getSender();
                     String name = context.get("menu");
@@ -7,11 +7,9 @@ import dev.kejona.crossplatforms.command.CommandOrigin;
 import dev.kejona.crossplatforms.command.FormsCommand;
 import dev.kejona.crossplatforms.handler.BedrockHandler;
 import dev.kejona.crossplatforms.interfacing.Interface;
-import dev.kejona.crossplatforms.interfacing.bedrock.BedrockFormRegistry;
-import dev.kejona.crossplatforms.interfacing.java.JavaMenu;
-import dev.kejona.crossplatforms.interfacing.java.JavaMenuRegistry;
+import dev.kejona.crossplatforms.interfacing.InterfaceEntry;
+import dev.kejona.crossplatforms.interfacing.Interfacer;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -27,33 +25,23 @@ public class ListCommand extends FormsCommand {
     @Override
     public void register(CommandManager<CommandOrigin> manager, Command.Builder<CommandOrigin> defaultBuilder) {
         BedrockHandler bedrockHandler = crossplatForms.getBedrockHandler();
-        BedrockFormRegistry bedrockRegistry = crossplatForms.getInterfacer().getBedrockRegistry();
-        JavaMenuRegistry javaRegistry = crossplatForms.getInterfacer().getJavaRegistry();
+        Interfacer interfacer = crossplatForms.getInterfacer();
 
         manager.command(defaultBuilder.literal(NAME)
                 .permission(PERMISSION)
                 .handler(context -> {
-                    List<Interface> interfaces = new ArrayList<>();
+                    List<InterfaceEntry<?>> interfaces;
                     CommandOrigin origin = context.getSender();
                     if (origin.isPlayer() && !origin.hasPermission(OpenCommand.PERMISSION_OTHER)) {
-                        if (bedrockHandler.isBedrockPlayer(origin.getUUID().orElseThrow(AssertionError::new))) {
-                            interfaces.addAll(bedrockRegistry.getForms().values());
-                            javaRegistry.getMenus().values()
-                                .stream()
-                                .filter(JavaMenu::isAllowBedrock)
-                                .forEachOrdered(interfaces::add);
-                        } else {
-                            interfaces.addAll(javaRegistry.getMenus().values());
-                        }
+                        interfaces = interfacer.getEntries(bedrockHandler.isBedrockPlayer(origin.getUUID().orElseThrow(AssertionError::new)));
                     } else {
                         // Origin is console or they have permission to send to others
-                        interfaces.addAll(bedrockRegistry.getForms().values());
-                        interfaces.addAll(javaRegistry.getMenus().values());
+                        interfaces = interfacer.getEntries();
                     }
 
                     List<String> names = interfaces.stream()
                             .filter(ui -> origin.hasPermission(ui.permission(Interface.Limit.COMMAND)))
-                            .map(Interface::getIdentifier)
+                            .map(InterfaceEntry::getIdentifier)
                             .distinct() // Remove duplicates - forms and menus with the same identifier
                             .collect(Collectors.toList());
 
@@ -0,0 +1,111 @@
+package dev.kejona.crossplatforms.command.defaults;
+
+import cloud.commandframework.Command;
+import cloud.commandframework.CommandManager;
+import dev.kejona.crossplatforms.CrossplatForms;
+import dev.kejona.crossplatforms.command.CommandOrigin;
+import dev.kejona.crossplatforms.command.FormsCommand;
+import dev.kejona.crossplatforms.command.custom.InterceptCommand;
+import dev.kejona.crossplatforms.config.ConfigManager;
+import dev.kejona.crossplatforms.config.GeneralConfig;
+import dev.kejona.crossplatforms.handler.CachingPlaceholders;
+import dev.kejona.crossplatforms.metrics.Histogram;
+import dev.kejona.crossplatforms.metrics.InterfaceMetrics;
+import dev.kejona.crossplatforms.metrics.MetricsRegistry;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+public class MetricsCommand extends FormsCommand {
+
+    public static final String NAME = "metrics";
+    public static final String PERMISSION = PERMISSION_BASE + NAME;
+
+    private final MetricsRegistry metrics;
+    private final CachingPlaceholders placeholderCache;
+    private final ConfigManager configManager;
+
+    public MetricsCommand(CrossplatForms crossplatForms) {
+        super(crossplatForms);
+        this.metrics = crossplatForms.getMetrics();
+        this.placeholderCache = crossplatForms.getPlaceholderCache();
+        this.configManager = crossplatForms.getConfigManager();
+    }
+
+    @Override
+    public void register(CommandManager<CommandOrigin> manager, Command.Builder<CommandOrigin> defaultBuilder) {
+        Command.Builder<CommandOrigin> base = defaultBuilder
+                .literal(NAME)
+                .permission(PERMISSION);
+
+        manager.command(base.handler(context -> {
+            CommandOrigin origin = context.getSender();
+            if (!metrics.isEnabled()) {
+                origin.warn("Metrics are disabled. Set enable-metrics to true in config.yml and reload to enable them.");
+                return;
+            }
+
+            List<InterfaceMetrics> all = metrics.getMetrics();
+            if (all.isEmpty()) {
+                origin.sendMessage("No forms or menus have been opened yet.");
+            } else {
+                origin.sendMessage("Metrics of forms and menus (mean / 95th percentile / max):");
+                for (InterfaceMetrics entry : all) {
+                    origin.sendMessage(describe(entry));
+                }
+            }
+
+            if (placeholderCache.isEnabled()) {
+                origin.sendMessage("Placeholder cache: " + placeholderCache.getHits() + " hits, " + placeholderCache.getMisses() + " misses");
+            }
+
+            List<String> intercepted = configManager.getConfig(GeneralConfig.class)
+                .map(config -> config.getCommands().values().stream()
+                    .filter(command -> command instanceof InterceptCommand)
+                    .map(command -> (InterceptCommand) command)
+                    .filter(command -> command.getMatches() > 0)
+                    .map(command -> command.getIdentifier() + ": " + command.getMatches())
+                    .collect(Collectors.toList()))
+                .orElse(Collections.emptyList());
+            if (!intercepted.isEmpty()) {
+                origin.sendMessage("Intercepted commands: " + String.join(", ", intercepted));
+            }
+        }).build());
+
+        manager.command(base.literal("reset").handler(context -> {
+            metrics.reset();
+            context.getSender().sendMessage("Reset all metrics");
+        }).build());
+    }
+
+    private static String describe(InterfaceMetrics metrics) {
+        StringBuilder builder = new StringBuilder();
+        builder.append(metrics.getKind()).append(' ').append(metrics.getIdentifier()).append(": ");
+        builder.append(metrics.getOpens()).append(" opens, build ").append(timings(metrics.getBuildTime()));
+
+        if (metrics.getResponses() > 0 || metrics.getClosed() > 0 || metrics.getInvalid() > 0) {
+            builder.append(", ").append(metrics.getResponses()).append(" responses after ").append(timings(metrics.getResponseTime()));
+            builder.append(", ").append(metrics.getClosed()).append(" closed, ").append(metrics.getInvalid()).append(" invalid");
+        }
+        if (metrics.getActionTime().count() > 0) {
+            builder.append(", actions ").append(timings(metrics.getActionTime()));
+        }
+        return builder.toString();
+    }
+
+    private static String timings(Histogram histogram) {
+        return format(histogram.mean()) + " / " + format(histogram.percentile(95)) + " / " + format(histogram.max());
+    }
+
+    private static String format(long nanos) {
+        if (nanos >= TimeUnit.SECONDS.toNanos(1)) {
+            return String.format("%.1fs", nanos / 1e9);
+        } else if (nanos >= TimeUnit.MILLISECONDS.toNanos(1)) {
+            return String.format("%.1fms", nanos / 1e6);
+        } else {
+            return TimeUnit.NANOSECONDS.toMicros(nanos) + "µs";
+        }
+    }
+}
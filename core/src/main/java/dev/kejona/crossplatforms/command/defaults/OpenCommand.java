@@ -8,14 +8,15 @@ import cloud.commandframework.context.CommandContext;
 import dev.kejona.crossplatforms.CrossplatForms;
 import dev.kejona.crossplatforms.command.CommandOrigin;
 import dev.kejona.crossplatforms.command.FormsCommand;
+import dev.kejona.crossplatforms.command.SuggestionCache;
 import dev.kejona.crossplatforms.handler.BedrockHandler;
 import dev.kejona.crossplatforms.handler.FormPlayer;
 import dev.kejona.crossplatforms.handler.ServerHandler;
 import dev.kejona.crossplatforms.interfacing.Argument;
 import dev.kejona.crossplatforms.interfacing.ArgumentException;
 import dev.kejona.crossplatforms.interfacing.Interface;
+import dev.kejona.crossplatforms.interfacing.InterfaceEntry;
 import dev.kejona.crossplatforms.interfacing.Interfacer;
-import dev.kejona.crossplatforms.interfacing.java.JavaMenuRegistry;
 import dev.kejona.crossplatforms.parser.BlockPlaceholderParser;
 
 import javax.annotation.Nullable;
@@ -39,7 +40,7 @@ public class OpenCommand extends FormsCommand {
     private final ServerHandler serverHandler;
     private final BedrockHandler bedrockHandler;
     private final Interfacer interfacer;
-    private final JavaMenuRegistry javaRegistry;
+    private final SuggestionCache suggestionCache;
 
     private final String openCommand;
     private final String sendCommand;
@@ -50,7 +51,7 @@ public class OpenCommand extends FormsCommand {
         this.serverHandler = crossplatForms.getServerHandler();
         this.bedrockHandler = crossplatForms.getBedrockHandler();
         this.interfacer = crossplatForms.getInterfacer();
-        this.javaRegistry = crossplatForms.getInterfacer().getJavaRegistry();
+        this.suggestionCache = crossplatForms.getSuggestionCache();
 
         String root = crossplatForms.getRootCommand();
         openCommand = join(root, OPEN_NAME);
@@ -65,7 +66,7 @@ public class OpenCommand extends FormsCommand {
                 .literal(OPEN_NAME)
                 .permission(origin -> origin.hasPermission(PERMISSION) && origin.isPlayer())
                 .argument(StringArgument.<CommandOrigin>builder(INTERFACE_ARG)
-                        .withSuggestionsProvider((context, s) -> openSuggestions(context))
+                        .withSuggestionsProvider(this::openSuggestions)
                         .build())
                 .argument(extrasArgument())
                 .handler(context -> {
@@ -96,12 +97,10 @@ public class OpenCommand extends FormsCommand {
                 .literal(SEND_NAME)
                 .permission(PERMISSION_OTHER)
                 .argument(StringArgument.<CommandOrigin>builder("player")
-                        .withSuggestionsProvider((context, s) -> serverHandler.getPlayers()
-                                .map(FormPlayer::getName)
-                                .collect(Collectors.toList()))
+                        .withSuggestionsProvider(this::playerSuggestions)
                         .build())
                 .argument(StringArgument.<CommandOrigin>builder(INTERFACE_ARG)
-                        .withSuggestionsProvider((context, s) -> sendSuggestions(context))
+                        .withSuggestionsProvider(this::sendSuggestions)
                         .build())
                 .argument(extrasArgument())
                 .handler(context -> {
@@ -172,19 +171,26 @@ public class OpenCommand extends FormsCommand {
         origin.warn("The correct syntax is: " + command + " " + ui.getArgumentSyntax());
     }
 
-    private List<String> openSuggestions(CommandContext<CommandOrigin> context) {
+    private List<String> openSuggestions(CommandContext<CommandOrigin> context, String input) {
         CommandOrigin origin = context.getSender();
         if (origin.isBedrockPlayer(bedrockHandler)) {
             return Collections.emptyList(); // BE players don't get argument suggestions
         }
 
-        return javaRegistry.getMenus().values().stream()
+        List<InterfaceEntry<?>> menus = interfacer.getEntries(false);
+        SuggestionCache.Key key = SuggestionCache.key(OPEN_NAME, origin.getUUID().orElse(null), null);
+        return suggestionCache.suggest(key, menus, input, () -> menus.stream()
                 .filter(menu -> origin.hasPermission(menu.permission(Interface.Limit.COMMAND)))
-                .map(Interface::getIdentifier)
-                .collect(Collectors.toList());
+                .map(InterfaceEntry::getIdentifier)
+                .collect(Collectors.toList()));
     }
 
-    private List<String> sendSuggestions(CommandContext<CommandOrigin> context) {
+    private List<String> playerSuggestions(CommandContext<CommandOrigin> context, String input) {
+        // the same for every sender, and already sorted
+        return SuggestionCache.range(serverHandler.getSortedPlayerNames(), input);
+    }
+
+    private List<String> sendSuggestions(CommandContext<CommandOrigin> context, String input) {
         CommandOrigin origin = context.getSender();
         if (origin.isBedrockPlayer(bedrockHandler)) {
             return Collections.emptyList();
@@ -196,12 +202,12 @@ public class OpenCommand extends FormsCommand {
             return Collections.emptyList();
         }
 
-        return interfacer.getInterfaces(bedrockHandler.isBedrockPlayer(target.getUuid()))
-                .stream()
+        List<InterfaceEntry<?>> interfaces = interfacer.getEntries(bedrockHandler.isBedrockPlayer(target.getUuid()));
+        SuggestionCache.Key key = SuggestionCache.key(SEND_NAME, origin.getUUID().orElse(null), target.getUuid());
+        return suggestionCache.suggest(key, interfaces, input, () -> interfaces.stream()
                 .filter(ui -> origin.hasPermission(ui.permission(Interface.Limit.COMMAND)) && target.hasPermission(ui.permission(Interface.Limit.USE)))
-                .map(Interface::getIdentifier)
-                .distinct() // Remove duplicates - forms and menus with the same identifier
-                .collect(Collectors.toList());
+                .map(InterfaceEntry::getIdentifier)
+                .collect(Collectors.toList())); // duplicates of forms and menus with the same identifier are removed by the cache
     }
 
     private static String join(String... args) {
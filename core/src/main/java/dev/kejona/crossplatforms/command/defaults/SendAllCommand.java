@@ -0,0 +1,162 @@
+package dev.kejona.crossplatforms.command.defaults;
+
+import cloud.commandframework.Command;
+import cloud.commandframework.CommandManager;
+import cloud.commandframework.arguments.standard.StringArgument;
+import cloud.commandframework.context.CommandContext;
+import dev.kejona.crossplatforms.CrossplatForms;
+import dev.kejona.crossplatforms.command.CommandOrigin;
+import dev.kejona.crossplatforms.command.FormsCommand;
+import dev.kejona.crossplatforms.config.GeneralConfig;
+import dev.kejona.crossplatforms.handler.BedrockHandler;
+import dev.kejona.crossplatforms.handler.FormPlayer;
+import dev.kejona.crossplatforms.handler.ServerHandler;
+import dev.kejona.crossplatforms.interfacing.ArgumentException;
+import dev.kejona.crossplatforms.interfacing.Interface;
+import dev.kejona.crossplatforms.interfacing.InterfaceEntry;
+import dev.kejona.crossplatforms.interfacing.Interfacer;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+public class SendAllCommand extends FormsCommand {
+
+    public static final String NAME = "sendall";
+    public static final String PERMISSION = PERMISSION_BASE + NAME;
+    private static final String INTERFACE_ARG = "form|menu";
+    private static final String FILTER_ARG = "filter";
+
+    private final ServerHandler serverHandler;
+    private final BedrockHandler bedrockHandler;
+    private final Interfacer interfacer;
+
+    public SendAllCommand(CrossplatForms crossplatForms) {
+        super(crossplatForms);
+        this.serverHandler = crossplatForms.getServerHandler();
+        this.bedrockHandler = crossplatForms.getBedrockHandler();
+        this.interfacer = crossplatForms.getInterfacer();
+    }
+
+    @Override
+    public void register(CommandManager<CommandOrigin> manager, Command.Builder<CommandOrigin> defaultBuilder) {
+        manager.command(defaultBuilder
+                .literal(NAME)
+                .permission(PERMISSION)
+                .argument(StringArgument.<CommandOrigin>builder(INTERFACE_ARG)
+                        .withSuggestionsProvider((context, s) -> suggestions(context))
+                        .build())
+                .argument(StringArgument.<CommandOrigin>builder(FILTER_ARG)
+                        .asOptionalWithDefault(Filter.ALL.name().toLowerCase(Locale.ROOT))
+                        .withSuggestionsProvider((context, s) -> Arrays.stream(Filter.values())
+                                .map(filter -> filter.name().toLowerCase(Locale.ROOT))
+                                .collect(Collectors.toList()))
+                        .build())
+                .handler(context -> {
+                    CommandOrigin origin = context.getSender();
+                    String identifier = context.get(INTERFACE_ARG);
+                    Filter filter = Filter.fromString(context.get(FILTER_ARG));
+                    if (filter == null) {
+                        origin.warn("The filter must be one of: " + Arrays.toString(Filter.values()));
+                        return;
+                    }
+
+                    Interface form = interfacer.getInterface(identifier, true);
+                    Interface menu = interfacer.getInterface(identifier, false);
+                    if (form == null && menu == null) {
+                        origin.warn("'" + identifier + "' doesn't exist.");
+                        return;
+                    }
+
+                    List<FormPlayer> bedrockPlayers = new ArrayList<>();
+                    List<FormPlayer> javaPlayers = new ArrayList<>();
+                    serverHandler.getPlayers().forEach(player -> {
+                        if (bedrockHandler.isBedrockPlayer(player.getUuid())) {
+                            bedrockPlayers.add(player);
+                        } else {
+                            javaPlayers.add(player);
+                        }
+                    });
+
+                    int recipients = 0;
+                    if (filter != Filter.JAVA) {
+                        recipients += sendAll(origin, form, bedrockPlayers);
+                    }
+                    if (filter != Filter.BEDROCK) {
+                        recipients += sendAll(origin, menu, javaPlayers);
+                    }
+                    origin.sendMessage("Sending '" + identifier + "' to " + recipients + " players");
+                })
+                .build());
+    }
+
+    /**
+     * Sends an interface to every given player that is allowed to use it
+     * @return the amount of players it is being sent to
+     */
+    private int sendAll(CommandOrigin origin, @Nullable Interface ui, List<FormPlayer> players) {
+        if (ui == null || players.isEmpty()) {
+            return 0;
+        }
+        if (!origin.hasPermission(ui.permission(Interface.Limit.COMMAND))) {
+            origin.warn("You don't have permission to send: " + ui.getIdentifier());
+            return 0;
+        }
+        if (!ui.getArguments().isEmpty()) {
+            origin.warn("'" + ui.getIdentifier() + "' requires arguments, and cannot be sent to everyone: " + ui.getArgumentSyntax());
+            return 0;
+        }
+
+        String permission = ui.permission(Interface.Limit.USE);
+        List<FormPlayer> recipients = players.stream()
+                .filter(player -> player.hasPermission(permission))
+                .collect(Collectors.toList());
+
+        int perTick = crossplatForms.getConfigManager().getConfig(GeneralConfig.class)
+                .map(GeneralConfig::getBroadcastPerTick)
+                .orElse(20);
+
+        try {
+            ui.sendAll(recipients, Math.max(1, perTick));
+        } catch (ArgumentException e) {
+            // arguments are checked above
+            origin.warn("Failed to send " + ui.getIdentifier() + ": " + e.getMessage());
+            return 0;
+        }
+        return recipients.size();
+    }
+
+    private List<String> suggestions(CommandContext<CommandOrigin> context) {
+        CommandOrigin origin = context.getSender();
+        if (origin.isBedrockPlayer(bedrockHandler)) {
+            return Collections.emptyList(); // BE players don't get argument suggestions
+        }
+
+        return interfacer.getEntries().stream()
+                .filter(ui -> !ui.hasArguments())
+                .filter(ui -> origin.hasPermission(ui.permission(Interface.Limit.COMMAND)))
+                .map(InterfaceEntry::getIdentifier)
+                .distinct() // Remove duplicates - forms and menus with the same identifier
+                .collect(Collectors.toList());
+    }
+
+    private enum Filter {
+        ALL,
+        BEDROCK,
+        JAVA;
+
+        @Nullable
+        private static Filter fromString(String filter) {
+            for (Filter value : values()) {
+                if (value.name().equalsIgnoreCase(filter)) {
+                    return value;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -34,6 +34,7 @@ public class ConfigId {
         .minimumVersion(FormConfig.MINIMUM_VERSION)
         .clazz(FormConfig.class)
         .updater(FormConfig::updater)
+        .directory("forms")
         .build();
 
     public static final ConfigId JAVA_MENUS = ConfigId.builder()
@@ -42,6 +43,7 @@ public class ConfigId {
         .minimumVersion(MenuConfig.MINIMUM_VERSION)
         .clazz(MenuConfig.class)
         .updater(MenuConfig::updater)
+        .directory("menus")
         .build();
 
     /**
@@ -63,6 +65,13 @@ public class ConfigId {
     @Nullable
     public final Consumer<Configuration> postProcessor;
 
+    /**
+     * Directory relative to the parent directory, containing more files of this config. Every YAML file in it and its
+     * subdirectories is merged into the main file. Each may only define maps, such as forms, and the config version.
+     */
+    @Nullable
+    public final String directory;
+
     public static Builder builder() {
         return new Builder();
     }
@@ -72,12 +81,12 @@ public class ConfigId {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         ConfigId configId = (ConfigId) o;
-        return version == configId.version && minimumVersion == configId.minimumVersion && Objects.equals(file, configId.file) && Objects.equals(clazz, configId.clazz) && Objects.equals(updater, configId.updater) && Objects.equals(postProcessor, configId.postProcessor);
+        return version == configId.version && minimumVersion == configId.minimumVersion && Objects.equals(file, configId.file) && Objects.equals(clazz, configId.clazz) && Objects.equals(updater, configId.updater) && Objects.equals(postProcessor, configId.postProcessor) && Objects.equals(directory, configId.directory);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(file, version, minimumVersion, clazz, updater, postProcessor);
+        return Objects.hash(file, version, minimumVersion, clazz, updater, postProcessor, directory);
     }
 
     public static class Builder {
@@ -87,6 +96,7 @@ public class ConfigId {
         private Class<? extends Configuration> clazz;
         private Supplier<ConfigurationTransformation.Versioned> updater;
         private Consumer<Configuration> postProcessor;
+        private String directory;
 
         private Builder() {
 
@@ -116,6 +126,10 @@ public class ConfigId {
             this.postProcessor = postProcessor;
             return this;
         }
+        public Builder directory(@Nullable String directory) {
+            this.directory = directory;
+            return this;
+        }
 
         public ConfigId build() {
             if (file == null) {
@@ -127,7 +141,7 @@ public class ConfigId {
             } else if (clazz == null) {
                 throw new IllegalStateException("Config class may not be null");
             }
-            return new ConfigId(file, version, minimumVersion, clazz, updater, postProcessor);
+            return new ConfigId(file, version, minimumVersion, clazz, updater, postProcessor, directory);
         }
     }
 }
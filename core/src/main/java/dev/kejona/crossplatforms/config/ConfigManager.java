@@ -21,6 +21,7 @@ import dev.kejona.crossplatforms.interfacing.bedrock.custom.OptionSerializer;
 import dev.kejona.crossplatforms.inventory.SkullProfile;
 import dev.kejona.crossplatforms.parser.Parser;
 import dev.kejona.crossplatforms.parser.ParserSerializer;
+import dev.kejona.crossplatforms.serialize.Lazy;
 import dev.kejona.crossplatforms.serialize.PathNodeResolver;
 import dev.kejona.crossplatforms.serialize.StreamSerializer;
 import dev.kejona.crossplatforms.serialize.UnaryNodes;
@@ -35,29 +36,50 @@ import org.spongepowered.configurate.transformation.ConfigurationTransformation;
 import org.spongepowered.configurate.yaml.NodeStyle;
 import org.spongepowered.configurate.yaml.YamlConfigurationLoader;
 
+import javax.annotation.Nullable;
 import java.io.File;
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class ConfigManager {
 
+    /**
+     * Directory within the config directory that {@link NodeCache} snapshots are stored in
+     */
+    public static final String CACHE_DIRECTORY = "cache";
+
+    @Getter
     private final Path directory;
     private final Logger logger;
 
     private final YamlConfigurationLoader.Builder loaderBuilder;
     private final List<ConfigId> identifiers = new ArrayList<>();
+    private int priorityConfigs = 0;
+
+    /**
+     * Whether forms and menus are deserialized when first used rather than when loaded, see {@link Lazy}
+     */
+    private volatile boolean lazyInterfaces = false;
 
     // todo: support using the same config class for two different configs
-    private final Map<Class<? extends Configuration>, Configuration> configurations = new HashMap<>();
-    private final Map<Class<? extends Configuration>, ConfigurationNode> nodes = new HashMap<>();
+    // concurrent since configs may be reloaded off the main thread, see ConfigWatcher
+    private final Map<Class<? extends Configuration>, Configuration> configurations = new ConcurrentHashMap<>();
+    private final Map<Class<? extends Configuration>, ConfigurationNode> nodes = new ConcurrentHashMap<>();
 
     @Getter
     private final ActionSerializer actionSerializer;
@@ -93,6 +115,7 @@ public class ConfigManager {
                 builder.registerExact(Option.class, new OptionSerializer());
                 builder.registerExact(Literals.class, new Literals.Serializer());
                 builder.registerExact(SkullProfile.class, new SkullProfile.Serializer());
+                builder.register(Lazy.TYPE, new Lazy.Serializer(() -> lazyInterfaces));
 
                 // serializers for abstract classes
                 builder.registerExact(CustomCommand.class, new CustomCommandSerializer());
@@ -125,6 +148,14 @@ public class ConfigManager {
 
     public void registerPriority(ConfigId id) {
         identifiers.add(0, id);
+        priorityConfigs++;
+    }
+
+    /**
+     * @return Every registered config, in the order that they are loaded
+     */
+    public List<ConfigId> getIdentifiers() {
+        return Collections.unmodifiableList(identifiers);
     }
 
     public void serializers(Consumer<TypeSerializerCollection.Builder> builder) {
@@ -149,111 +180,437 @@ public class ConfigManager {
     }
 
     /**
-     * Load every config in {@link ConfigId}
+     * Load every config in {@link ConfigId}. Priority configs are loaded first, one at a time. If enabled in
+     * {@link GeneralConfig}, the rest are then parsed in parallel, but are still committed in the order they were
+     * registered.
      * @return false if there was a failure loading any of configurations
      */
     @SuppressWarnings("BooleanMethodIsAlwaysInverted")
-    public boolean load() {
-        for (ConfigId configId : identifiers) {
-            try {
-                if (!loadConfig(configId)) {
-                    return false;
-                }
-            } catch (IOException | ConfigurationException e) {
-                logger.severe("Failed to load configuration " + configId.file);
-                String message = e.getMessage();
-                if (logger.isDebug() || configId.equals(ConfigId.GENERAL) || message.contains("Unknown error")) {
-                    // if the config failing to load is config.yml, then its impossible to enable debug and see the full error.
-                    // message is useless on its own if unknown
-                    e.printStackTrace();
-                } else {
-                    logger.severe("Enable debug mode for further information.");
-                    logger.severe(ConfigurateUtils.stripPackageNames(message));
+    public synchronized boolean load() {
+        List<ConfigId> priority = identifiers.subList(0, priorityConfigs);
+        List<ConfigId> remaining = identifiers.subList(priorityConfigs, identifiers.size());
+
+        for (ConfigId configId : priority) {
+            // priority configs decide how the others are loaded, so they are never cached
+            if (!loadSequentially(configId, null)) {
+                return false;
+            }
+        }
+
+        boolean parallel = getConfig(GeneralConfig.class)
+            .map(GeneralConfig::isParallelConfigLoading)
+            .orElse(false);
+        NodeCache cache = nodeCache();
+        lazyInterfaces = getConfig(GeneralConfig.class)
+            .map(GeneralConfig::isLazyInterfaces)
+            .orElse(false);
+
+        if (parallel && remaining.size() > 1) {
+            return loadParallel(remaining, cache);
+        }
+
+        for (ConfigId configId : remaining) {
+            if (!loadSequentially(configId, cache)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean loadSequentially(ConfigId configId, @Nullable NodeCache cache) {
+        boolean success;
+        try {
+            success = commit(configId, parse(configId, cache), true);
+        } catch (IOException | ConfigurationException e) {
+            success = handleFailure(configId, e);
+        }
+        return success && postProcess(configId);
+    }
+
+    /**
+     * Parses and maps the given configs at the same time, and then commits them in order. The outcome is the same
+     * as loading them one after another: loading stops at the first config that fails without a fallback.
+     */
+    private boolean loadParallel(List<ConfigId> configs, @Nullable NodeCache cache) {
+        ForkJoinPool pool = new ForkJoinPool(Math.min(configs.size(), Runtime.getRuntime().availableProcessors()));
+        try {
+            List<CompletableFuture<Parsed>> results = new ArrayList<>(configs.size());
+            for (ConfigId configId : configs) {
+                results.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return parse(configId, cache);
+                    } catch (IOException e) {
+                        throw new CompletionException(e);
+                    }
+                }, pool));
+            }
+
+            for (int i = 0; i < configs.size(); i++) {
+                ConfigId configId = configs.get(i);
+                boolean success;
+                try {
+                    success = commit(configId, results.get(i).join(), true);
+                } catch (CompletionException e) {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof IOException || cause instanceof ConfigurationException) {
+                        success = handleFailure(configId, (Exception) cause);
+                    } else if (cause instanceof RuntimeException) {
+                        throw (RuntimeException) cause;
+                    } else if (cause instanceof Error) {
+                        throw (Error) cause;
+                    } else {
+                        throw e;
+                    }
                 }
-                if (!useMinimalDefaults(configId)) {
+
+                if (!success || !postProcess(configId)) {
                     return false;
                 }
             }
+            return true;
+        } finally {
+            pool.shutdown();
+        }
+    }
 
-            if (configId.postProcessor != null) {
-                Configuration config = configurations.get(configId.clazz);
-                if (config == null) {
-                    logger.severe("Expected " + configId.file + " to be loaded but it was not present");
-                    logger.debugStack();
-                    return false;
-                } else {
-                    configId.postProcessor.accept(config);
-                }
+    /**
+     * Reports a config that failed to load, and falls back to minimal defaults for it
+     * @return false if minimal defaults could not be used
+     */
+    private boolean handleFailure(ConfigId configId, Exception e) {
+        logger.severe("Failed to load configuration " + configId.file);
+        String message = e.getMessage();
+        if (logger.isDebug() || configId.equals(ConfigId.GENERAL) || message.contains("Unknown error")) {
+            // if the config failing to load is config.yml, then its impossible to enable debug and see the full error.
+            // message is useless on its own if unknown
+            e.printStackTrace();
+        } else {
+            logger.severe("Enable debug mode for further information.");
+            logger.severe(ConfigurateUtils.stripPackageNames(message));
+        }
+        return useMinimalDefaults(configId);
+    }
+
+    private boolean postProcess(ConfigId configId) {
+        if (configId.postProcessor != null) {
+            Configuration config = configurations.get(configId.clazz);
+            if (config == null) {
+                logger.severe("Expected " + configId.file + " to be loaded but it was not present");
+                logger.debugStack();
+                return false;
+            } else {
+                configId.postProcessor.accept(config);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Load a single configuration, without touching any others. Unlike {@link #load()}, the previously loaded
+     * configuration is kept if the new one fails to load, so that a mistake in one file doesn't disable anything.
+     * @param configId The configuration to load, which must be registered
+     * @return false if the configuration failed to load, in which case the previous one is still in use
+     */
+    public synchronized boolean load(ConfigId configId) {
+        RawConfig raw = read(configId);
+        if (raw != null && load(raw)) {
+            saveSnapshot(raw);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Reads the files of a single configuration, without mapping it. This only does file IO, so it may be called off
+     * the main thread. The configuration can then be loaded with {@link #load(RawConfig)}, and afterwards its snapshot
+     * saved with {@link #saveSnapshot(RawConfig)}.
+     * @param configId The configuration to read, which must be registered
+     * @return The contents of the configuration, or null if it failed to be read
+     */
+    @Nullable
+    public synchronized RawConfig read(ConfigId configId) {
+        if (!identifiers.contains(configId)) {
+            throw new IllegalArgumentException("Config is not registered: " + configId.file);
+        }
+
+        try {
+            NodeCache cache = identifiers.indexOf(configId) < priorityConfigs ? null : nodeCache();
+            return read(configId, cache);
+        } catch (IOException e) {
+            logger.severe("Failed to read " + configId.file + ", keeping the previous version of it: " + ConfigurateUtils.stripPackageNames(e.getMessage()));
+            if (logger.isDebug()) {
+                e.printStackTrace();
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Maps a configuration that has been read with {@link #read(ConfigId)} and then runs its post processor, without
+     * touching any others. Mapping runs any {@link org.spongepowered.configurate.objectmapping.meta.PostProcessor}
+     * of the configuration, so this should be called on the main thread. The snapshot of the configuration is not
+     * saved.
+     * @param raw The contents of the configuration
+     * @return false if the configuration failed to load, in which case the previous one is still in use
+     */
+    public synchronized boolean load(RawConfig raw) {
+        ConfigId configId = raw.config;
+        try {
+            if (!commit(configId, map(raw), false)) {
+                logger.severe("Failed to load " + configId.file + ", keeping the previous version of it");
+                return false;
+            }
+        } catch (IOException | ConfigurationException e) {
+            logger.severe("Failed to load " + configId.file + ", keeping the previous version of it: " + ConfigurateUtils.stripPackageNames(e.getMessage()));
+            if (logger.isDebug()) {
+                e.printStackTrace();
             }
+            return false;
+        }
+
+        if (configId.postProcessor != null) {
+            configId.postProcessor.accept(configurations.get(configId.clazz));
         }
         return true;
     }
 
     /**
-     * Load a configuration from file. The config will only be loaded into memory if there were zero errors.
+     * Saves a snapshot of a configuration that was successfully loaded with {@link #load(RawConfig)}, if snapshots are
+     * enabled and the configuration wasn't already loaded from one. This only does file IO, so it may be called off
+     * the main thread, but must not be called before the configuration has been loaded.
+     * @param raw The contents of the configuration
+     */
+    public void saveSnapshot(RawConfig raw) {
+        if (raw.cache != null && raw.hash != null) {
+            raw.cache.save(raw.config, raw.hash, raw.node);
+        }
+    }
+
+    /**
+     * @return The snapshot cache to use for configs that aren't priority configs, or null if it is disabled
+     */
+    @Nullable
+    private NodeCache nodeCache() {
+        boolean enabled = getConfig(GeneralConfig.class)
+            .map(GeneralConfig::isCacheConfigs)
+            .orElse(false);
+
+        return enabled ? new NodeCache(directory.resolve(CACHE_DIRECTORY)) : null;
+    }
+
+    /**
+     * Load a configuration from file and map it, without storing it. Safe to call for different configs at the same time.
      * @param config The configuration to load
-     * @return The success state
+     * @param cache The cache to load a snapshot of the file from, instead of parsing the YAML, if possible
+     * @return The loaded node, and the mapped configuration if there were zero errors
+     */
+    private Parsed parse(ConfigId config, @Nullable NodeCache cache) throws IOException, ConfigurationException {
+        RawConfig raw = read(config, cache);
+        Parsed parsed = map(raw);
+        if (parsed.mapped != null) {
+            saveSnapshot(raw);
+        }
+        return parsed;
+    }
+
+    /**
+     * Load a configuration from file, without mapping it. Safe to call for different configs at the same time.
+     * @param config The configuration to load
+     * @param cache The cache to load a snapshot of the file from, instead of parsing the YAML, if possible
+     * @return The loaded node
      */
-    private boolean loadConfig(ConfigId config) throws IOException, ConfigurationException {
-        String name = config.file;
+    private RawConfig read(ConfigId config, @Nullable NodeCache cache) throws IOException {
         File file = FileUtils.fileOrCopiedFromResource(directory.resolve(config.file).toFile(), config.file);
-        YamlConfigurationLoader loader = loaderBuilder.file(file).build();
+        YamlConfigurationLoader loader = loader(file);
+        List<Path> sources = directorySources(config);
+
+        byte[] hash = null;
+        if (cache != null) {
+            List<Path> files = new ArrayList<>(sources.size() + 1);
+            files.add(file.toPath());
+            files.addAll(sources);
+            hash = NodeCache.hash(files);
+
+            ConfigurationNode node = cache.load(config, hash, loader::createNode);
+            if (node != null) {
+                // snapshots are only saved if every file was at the correct version, so there is nothing to check
+                return new RawConfig(config, node, true, null, null);
+            }
+        }
+
         ConfigurationNode node = loader.load();
+        VersionCheck check = checkVersion(config, config.file, loader, node, Paths.get(config.file));
+        boolean complete = true; // if every file of the config is included
+        for (Path source : sources) {
+            Path relative = directory.relativize(source);
+            String name = relative.toString();
+            YamlConfigurationLoader sourceLoader = loader(source.toFile());
+            ConfigurationNode sourceNode = sourceLoader.load();
 
-        boolean correctVersion = true;
-        if (node.hasChild(Configuration.VERSION_KEY)) { // ensure version is correct
-            int currentVersion = node.node(Configuration.VERSION_KEY).getInt();
-            if (currentVersion != config.version) {
-                if (config.updater == null) {
-                    logger.severe(name + " must have a version of " + config.version + " but is at " + currentVersion + ". Please back it up and regenerate a new config.");
-                    correctVersion = false;
-                } else if (currentVersion < config.minimumVersion || currentVersion > config.version) {
-                    logger.severe(name + " must have a version between " + config.minimumVersion + " and " + config.version + " but is at " + currentVersion + ". Please back it up and regenerate a new config.");
-                    correctVersion = false;
-                } else {
-                    ConfigurationNode copy = node.copy(); // keep an old copy to save to file if an update happens
-                    ConfigurationTransformation.Versioned updater = config.updater.get(); // transformer for performing updates
-                    int startVersion = updater.version(node);
-                    updater.apply(node); // update if necessary
-                    int endVersion = updater.version(node);
-                    if (startVersion != endVersion) {
-                        loaderBuilder.file(oldCopy(config)).build().save(copy); // save the old copy
-                        loader.save(node); // save the updated version
-                    }
-                    if (endVersion == config.version) {
-                        logger.info("Updated " + name + " from version " + startVersion + " to " + endVersion);
-                    } else {
-                        logger.severe("Failed to update " + name + " from version " + startVersion + " to " + endVersion);
-                        correctVersion = false;
-                    }
-                }
-            } else {
-                logger.debug(name + " is at the correct version: " + config.version);
+            VersionCheck sourceCheck = checkVersion(config, name, sourceLoader, sourceNode, relative);
+            if (sourceCheck == VersionCheck.INVALID) {
+                logger.severe("Ignoring " + name + " because it is not at a valid version");
+                complete = false;
+                continue;
             }
-        } else {
+            if (sourceCheck == VersionCheck.UPDATED && check == VersionCheck.CORRECT) {
+                check = VersionCheck.UPDATED;
+            }
+            complete &= merge(node, sourceNode, name);
+        }
+
+        if (hash != null && check == VersionCheck.CORRECT && complete) {
+            // nothing was updated, so the hash is still that of the node
+            return new RawConfig(config, node, true, cache, hash);
+        }
+        return new RawConfig(config, node, check != VersionCheck.INVALID, null, null);
+    }
+
+    /**
+     * Maps a configuration that has been read
+     * @return The loaded node, and the mapped configuration if there were zero errors
+     */
+    private Parsed map(RawConfig raw) throws IOException, ConfigurationException {
+        Configuration mapped = raw.valid ? map(raw.config, raw.node) : null;
+        return new Parsed(raw.node, mapped);
+    }
+
+    @Nullable
+    private Configuration map(ConfigId config, ConfigurationNode node) throws IOException, ConfigurationException {
+        Configuration mapped = node.get(config.clazz); // Map it to the object
+        if (mapped == null) {
+            logger.severe("Failed to deserialize " + config.file + " to " + config.clazz + ": Mapped object returned null.");
+        }
+        return mapped;
+    }
+
+    /**
+     * Ensures that a config file is at the correct version, updating it if possible.
+     * @param config The config that the file belongs to
+     * @param name The name of the file, for logging
+     * @param loader The loader of the file
+     * @param node The loaded contents of the file, which are updated in place
+     * @param file The file relative to the config directory
+     */
+    private VersionCheck checkVersion(ConfigId config, String name, YamlConfigurationLoader loader, ConfigurationNode node, Path file) throws IOException {
+        if (!node.hasChild(Configuration.VERSION_KEY)) {
             logger.severe(name + " must defined a " + Configuration.VERSION_KEY + ". Please back it up and regenerate a new config.");
-            correctVersion = false;
+            return VersionCheck.INVALID;
         }
 
-        Configuration mapped;
-        if (correctVersion) {
-            mapped = node.get(config.clazz); // Map it to the object
-            if (mapped == null) {
-                logger.severe("Failed to deserialize " + name + " to " + config.clazz + ": Mapped object returned null.");
-            }
+        int currentVersion = node.node(Configuration.VERSION_KEY).getInt();
+        if (currentVersion == config.version) {
+            logger.debug(name + " is at the correct version: " + config.version);
+            return VersionCheck.CORRECT;
+        }
+
+        if (config.updater == null) {
+            logger.severe(name + " must have a version of " + config.version + " but is at " + currentVersion + ". Please back it up and regenerate a new config.");
+            return VersionCheck.INVALID;
+        } else if (currentVersion < config.minimumVersion || currentVersion > config.version) {
+            logger.severe(name + " must have a version between " + config.minimumVersion + " and " + config.version + " but is at " + currentVersion + ". Please back it up and regenerate a new config.");
+            return VersionCheck.INVALID;
+        }
+
+        ConfigurationNode copy = node.copy(); // keep an old copy to save to file if an update happens
+        ConfigurationTransformation.Versioned updater = config.updater.get(); // transformer for performing updates
+        int startVersion = updater.version(node);
+        updater.apply(node); // update if necessary
+        int endVersion = updater.version(node);
+        if (startVersion != endVersion) {
+            loader(oldCopy(file)).save(copy); // save the old copy
+            loader.save(node); // save the updated version
+        }
+        if (endVersion == config.version) {
+            logger.info("Updated " + name + " from version " + startVersion + " to " + endVersion);
+            return VersionCheck.UPDATED;
         } else {
-            mapped = null;
+            logger.severe("Failed to update " + name + " from version " + startVersion + " to " + endVersion);
+            return VersionCheck.INVALID;
         }
+    }
 
-        if (mapped == null) {
-            return useMinimalDefaults(config);
+    /**
+     * @return Every YAML file in the directory of the given config, sorted by path. Empty if it has no directory.
+     */
+    private List<Path> directorySources(ConfigId config) throws IOException {
+        if (config.directory == null) {
+            return Collections.emptyList();
+        }
+        Path root = directory.resolve(config.directory);
+        if (!Files.isDirectory(root)) {
+            return Collections.emptyList();
+        }
+
+        try (Stream<Path> files = Files.walk(root)) {
+            return files
+                .filter(Files::isRegularFile)
+                .filter(path -> {
+                    String name = path.getFileName().toString();
+                    return name.endsWith(".yml") && !name.startsWith("old-"); // skip copies made before updating
+                })
+                .sorted()
+                .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Merges the maps of a file from a config directory into the main file of the config. Entries that are already
+     * defined are not replaced.
+     * @return false if anything was ignored
+     */
+    private boolean merge(ConfigurationNode target, ConfigurationNode source, String name) {
+        boolean complete = true;
+        for (Map.Entry<Object, ? extends ConfigurationNode> child : source.childrenMap().entrySet()) {
+            Object key = child.getKey();
+            if (Configuration.VERSION_KEY.equals(key)) {
+                continue;
+            }
+
+            ConfigurationNode value = child.getValue();
+            if (!value.isMap()) {
+                logger.warn("Ignoring '" + key + "' in " + name + " because only maps can be split into multiple files");
+                complete = false;
+                continue;
+            }
+
+            for (Map.Entry<Object, ? extends ConfigurationNode> entry : value.childrenMap().entrySet()) {
+                ConfigurationNode existing = target.node(key, entry.getKey());
+                if (existing.virtual()) {
+                    existing.from(entry.getValue());
+                } else {
+                    logger.warn("Ignoring '" + entry.getKey() + "' in " + name + " because it is already defined");
+                    complete = false;
+                }
+            }
+        }
+        return complete;
+    }
+
+    /**
+     * Store a configuration that has been parsed. The config will only be loaded into memory if there were zero errors.
+     * @param config The configuration that was parsed
+     * @param parsed The result of parsing it
+     * @param fallback Whether to use minimal defaults if the configuration couldn't be mapped
+     * @return The success state
+     */
+    private boolean commit(ConfigId config, Parsed parsed, boolean fallback) {
+        if (parsed.mapped == null) {
+            return fallback && useMinimalDefaults(config);
         } else {
-            configurations.put(config.clazz, mapped);
-            nodes.put(config.clazz, node);
+            configurations.put(config.clazz, parsed.mapped);
+            nodes.put(config.clazz, parsed.node);
             return true;
         }
     }
 
+    private YamlConfigurationLoader loader(File file) {
+        // the builder is shared, so configs being parsed in parallel must not build at the same time
+        synchronized (loaderBuilder) {
+            return loaderBuilder.file(file).build();
+        }
+    }
+
     private boolean useMinimalDefaults(ConfigId config) {
         try {
             // Get the default values so that the plugin can be reloaded at a later time
@@ -269,8 +626,7 @@ public class ConfigManager {
         }
     }
 
-    private File oldCopy(ConfigId config) {
-        Path configFile = Paths.get(config.file);
+    private File oldCopy(Path configFile) {
         Path parent = configFile.getParent();
 
         String newName = "old-" + configFile.getFileName();
@@ -282,4 +638,48 @@ public class ConfigManager {
             return directory.resolve(parent).resolve(newName).toFile();
         }
     }
+
+    private enum VersionCheck {
+        CORRECT,
+        UPDATED,
+        INVALID
+    }
+
+    /**
+     * The contents of a configuration's files, which have been read but not mapped
+     */
+    public static final class RawConfig {
+
+        private final ConfigId config;
+        private final ConfigurationNode node;
+        private final boolean valid; // false if the version is invalid, so it shouldn't be mapped
+        @Nullable
+        private final NodeCache cache; // the cache to save a snapshot of the node to, once it has been mapped
+        @Nullable
+        private final byte[] hash;
+
+        private RawConfig(ConfigId config, ConfigurationNode node, boolean valid, @Nullable NodeCache cache, @Nullable byte[] hash) {
+            this.config = config;
+            this.node = node;
+            this.valid = valid;
+            this.cache = cache;
+            this.hash = hash;
+        }
+
+        public ConfigId config() {
+            return config;
+        }
+    }
+
+    private static class Parsed {
+
+        private final ConfigurationNode node;
+        @Nullable
+        private final Configuration mapped;
+
+        private Parsed(ConfigurationNode node, @Nullable Configuration mapped) {
+            this.node = node;
+            this.mapped = mapped;
+        }
+    }
 }
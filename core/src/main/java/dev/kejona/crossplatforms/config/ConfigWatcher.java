@@ -0,0 +1,263 @@
+package dev.kejona.crossplatforms.config;
+
+import dev.kejona.crossplatforms.Logger;
+import dev.kejona.crossplatforms.handler.ServerHandler;
+import dev.kejona.crossplatforms.reloadable.Reloadable;
+import dev.kejona.crossplatforms.reloadable.ReloadableRegistry;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Watches config files for changes, and reloads only the config files that changed and whatever depends on them.
+ * Files are read and snapshots saved on the watcher thread, and configs are mapped and their dependents reloaded on
+ * the main thread.
+ */
+public class ConfigWatcher implements Reloadable {
+
+    /**
+     * How long files must go without changes before they are reloaded. Editors often write a file multiple times.
+     * Every config that changed within this time is reloaded together.
+     */
+    private static final long SETTLE_TIME = TimeUnit.MILLISECONDS.toNanos(500);
+    private static final long POLL_INTERVAL = 100;
+
+    private final ConfigManager configManager;
+    private final ServerHandler serverHandler;
+    private final Logger logger = Logger.get();
+
+    @Nullable
+    private WatchService service;
+    @Nullable
+    private Thread thread;
+
+    public ConfigWatcher(ConfigManager configManager, ServerHandler serverHandler) {
+        this.configManager = configManager;
+        this.serverHandler = serverHandler;
+    }
+
+    @Override
+    public boolean reload() {
+        boolean enabled = configManager.getConfig(GeneralConfig.class)
+            .map(GeneralConfig::isWatchConfigs)
+            .orElse(false);
+
+        if (enabled) {
+            return start();
+        } else {
+            stop();
+            return true;
+        }
+    }
+
+    @Override
+    public boolean dependsOn(Class<? extends Configuration> config) {
+        return config == GeneralConfig.class;
+    }
+
+    /**
+     * Starts watching config files, if not already
+     * @return false if the files could not be watched
+     */
+    public synchronized boolean start() {
+        if (thread != null) {
+            return true;
+        }
+
+        Map<Path, ConfigId> files = new HashMap<>();
+        Map<Path, ConfigId> sources = new HashMap<>(); // directories containing more files of configs
+        for (ConfigId id : configManager.getIdentifiers()) {
+            files.put(configManager.getDirectory().resolve(id.file).toAbsolutePath().normalize(), id);
+            if (id.directory != null) {
+                sources.put(configManager.getDirectory().resolve(id.directory).toAbsolutePath().normalize(), id);
+            }
+        }
+
+        try {
+            WatchService service = FileSystems.getDefault().newWatchService();
+            for (Path file : files.keySet()) {
+                register(service, file.getParent());
+            }
+            for (Path root : sources.keySet()) {
+                if (Files.isDirectory(root)) {
+                    try (Stream<Path> directories = Files.walk(root)) {
+                        for (Path directory : (Iterable<Path>) directories.filter(Files::isDirectory)::iterator) {
+                            register(service, directory);
+                        }
+                    }
+                }
+            }
+            this.service = service;
+        } catch (IOException e) {
+            logger.severe("Failed to watch config files for changes: " + e.getMessage());
+            if (logger.isDebug()) {
+                e.printStackTrace();
+            }
+            return false;
+        }
+
+        WatchService service = this.service;
+        thread = new Thread(() -> watch(service, files, sources), "CrossplatForms Config Watcher");
+        thread.setDaemon(true);
+        thread.start();
+        logger.info("Watching config files for changes");
+        return true;
+    }
+
+    private static void register(WatchService service, Path directory) throws IOException {
+        if (Files.isDirectory(directory)) {
+            // registering the same directory again returns the same key
+            directory.register(
+                service,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY,
+                StandardWatchEventKinds.ENTRY_DELETE
+            );
+        }
+    }
+
+    /**
+     * Stops watching config files, if currently watching
+     */
+    public synchronized void stop() {
+        if (thread == null) {
+            return;
+        }
+
+        try {
+            if (service != null) {
+                service.close(); // causes the thread to exit
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to close config watcher: " + e.getMessage());
+        }
+        thread.interrupt();
+        thread = null;
+        service = null;
+        logger.debug("Stopped watching config files for changes");
+    }
+
+    private void watch(WatchService service, Map<Path, ConfigId> files, Map<Path, ConfigId> sources) {
+        // configs with changes since the last reload
+        Set<ConfigId> pending = new LinkedHashSet<>();
+        long lastChange = 0;
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = service.poll(POLL_INTERVAL, TimeUnit.MILLISECONDS);
+                if (key != null) {
+                    Path directory = (Path) key.watchable();
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                            continue;
+                        }
+                        Path file = directory.resolve((Path) event.context()).toAbsolutePath().normalize();
+                        ConfigId id = event.kind() == StandardWatchEventKinds.ENTRY_DELETE ? null : files.get(file);
+                        if (id == null) {
+                            id = source(sources, file);
+                        }
+                        if (id != null) {
+                            pending.add(id);
+                            lastChange = System.nanoTime();
+                        }
+                    }
+                    key.reset();
+                }
+
+                if (!pending.isEmpty() && System.nanoTime() - lastChange >= SETTLE_TIME) {
+                    reload(new ArrayList<>(pending));
+                    pending.clear();
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // stopped
+        }
+    }
+
+    /**
+     * @return The config that the given file is a part of, if it is in the directory of a config
+     */
+    @Nullable
+    private static ConfigId source(Map<Path, ConfigId> sources, Path file) {
+        String name = file.getFileName().toString();
+        if (!name.endsWith(".yml") || name.startsWith("old-")) {
+            return null;
+        }
+        for (Map.Entry<Path, ConfigId> source : sources.entrySet()) {
+            if (file.startsWith(source.getKey())) {
+                return source.getValue();
+            }
+        }
+        return null;
+    }
+
+    private void reload(List<ConfigId> ids) throws InterruptedException {
+        String names = ids.stream().map(id -> id.file).collect(Collectors.joining(", "));
+        logger.info("Detected changes to " + names + ", reloading");
+        long start = System.currentTimeMillis();
+
+        // only file IO is done here. mapping runs post processors, which may use the server API
+        List<ConfigManager.RawConfig> read = new ArrayList<>(ids.size());
+        for (ConfigId id : ids) {
+            ConfigManager.RawConfig raw = configManager.read(id);
+            if (raw != null) {
+                read.add(raw);
+            }
+        }
+        if (read.isEmpty()) {
+            return;
+        }
+
+        CompletableFuture<List<ConfigManager.RawConfig>> mapped = new CompletableFuture<>();
+        serverHandler.executeSafely(() -> {
+            List<ConfigManager.RawConfig> loaded = new ArrayList<>(read.size());
+            try {
+                for (ConfigManager.RawConfig raw : read) {
+                    if (configManager.load(raw)) {
+                        loaded.add(raw);
+                    }
+                }
+            } finally {
+                mapped.complete(loaded);
+            }
+            if (loaded.isEmpty()) {
+                return;
+            }
+
+            // dependents of several configs are only reloaded once
+            List<Class<? extends Configuration>> configs = loaded.stream().map(raw -> raw.config().clazz).collect(Collectors.toList());
+            if (ReloadableRegistry.reloadDependents(configs)) {
+                logger.info("Reloaded " + names + " in " + (System.currentTimeMillis() - start) + "ms");
+            } else {
+                logger.severe("There was one or more errors reloading " + names);
+            }
+        });
+
+        // writing snapshots of large configs takes a while, so it isn't done on the main thread
+        try {
+            for (ConfigManager.RawConfig raw : mapped.get()) {
+                configManager.saveSnapshot(raw);
+            }
+        } catch (ExecutionException e) {
+            throw new AssertionError("Never completed exceptionally", e);
+        }
+    }
+}
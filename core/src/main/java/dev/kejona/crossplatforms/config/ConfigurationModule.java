@@ -7,6 +7,8 @@ import dev.kejona.crossplatforms.handler.BedrockHandler;
 import dev.kejona.crossplatforms.handler.Placeholders;
 import dev.kejona.crossplatforms.handler.ServerHandler;
 import dev.kejona.crossplatforms.interfacing.Interfacer;
+import dev.kejona.crossplatforms.interfacing.java.MenuRefresher;
+import dev.kejona.crossplatforms.metrics.MetricsRegistry;
 import lombok.AllArgsConstructor;
 
 @AllArgsConstructor
@@ -16,6 +18,8 @@ public class ConfigurationModule extends AbstractModule {
     private final BedrockHandler bedrockHandler;
     private final ServerHandler serverHandler;
     private final Placeholders placeholders;
+    private final MetricsRegistry metrics;
+    private final MenuRefresher menuRefresher;
 
     @Override
     protected void configure() {
@@ -29,6 +33,8 @@ public class ConfigurationModule extends AbstractModule {
         bind(BedrockHandler.class).toProvider(Providers.of(bedrockHandler));
         bind(ServerHandler.class).toInstance(serverHandler);
         bind(Placeholders.class).toInstance(placeholders);
+        bind(MetricsRegistry.class).toInstance(metrics);
+        bind(MenuRefresher.class).toInstance(menuRefresher);
         bind(SkinCache.class).asEagerSingleton();
     }
 }
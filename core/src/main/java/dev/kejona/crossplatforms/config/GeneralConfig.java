@@ -34,8 +34,27 @@ public class GeneralConfig extends Configuration {
 
     private boolean unsafeCommandRegistration = false;
 
+    private boolean watchConfigs = false;
+
+    private boolean parallelConfigLoading = false;
+
+    private boolean cacheConfigs = false;
+
+    private boolean lazyInterfaces = false;
+
     private boolean enableDebug = false;
 
+    private boolean enableMetrics = false;
+
+    private int broadcastPerTick = 20;
+
+    private int menuRefreshesPerTick = 100;
+
+    private boolean asyncForms = false;
+
+    @Nonnull
+    private PlaceholderCache placeholderCache = new PlaceholderCache();
+
     public static ConfigurationTransformation.Versioned updater() {
         return ConfigurationTransformation.versionedBuilder()
             .versionKey(Configuration.VERSION_KEY)
@@ -71,4 +90,21 @@ public class GeneralConfig extends Configuration {
 
         return builder.build();
     }
+
+    @Getter
+    @ConfigSerializable
+    @SuppressWarnings("FieldMayBeFinal")
+    public static class PlaceholderCache {
+
+        /**
+         * Time in milliseconds to cache placeholders that are not listed in {@link #ttl}
+         */
+        private long defaultTtl = 0;
+
+        /**
+         * Times in milliseconds to cache specific placeholders, keyed by placeholder identifier or expansion name
+         */
+        @Nonnull
+        private Map<String, Long> ttl = Collections.emptyMap();
+    }
 }
@@ -0,0 +1,268 @@
+package dev.kejona.crossplatforms.config;
+
+import dev.kejona.crossplatforms.Constants;
+import dev.kejona.crossplatforms.Logger;
+import org.spongepowered.configurate.ConfigurationNode;
+
+import javax.annotation.Nullable;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Stores parsed configuration nodes in a compact binary format, so that YAML files that haven't changed don't need to
+ * be parsed again on the next startup. A snapshot is only used if both the contents of the YAML files and the plugin
+ * version are the same as when the snapshot was written. Any other snapshot is ignored and later overwritten.
+ */
+public class NodeCache {
+
+    private static final int MAGIC = 0x43464E43; // CFNC
+    private static final int FORMAT = 1;
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte INTEGER = 2;
+    private static final byte LONG = 3;
+    private static final byte DOUBLE = 4;
+    private static final byte FLOAT = 5;
+    private static final byte BOOLEAN = 6;
+    private static final byte BIG_INTEGER = 7;
+    private static final byte MAP = 8;
+    private static final byte LIST = 9;
+
+    private final Path directory;
+    private final byte[] pluginVersion;
+    private final Logger logger = Logger.get();
+
+    /**
+     * @param directory The directory to store snapshots in
+     */
+    public NodeCache(Path directory) {
+        this(directory, Constants.version() + "-" + Constants.commit());
+    }
+
+    public NodeCache(Path directory, String pluginVersion) {
+        this.directory = directory;
+        this.pluginVersion = pluginVersion.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param files The files that a config is loaded from
+     * @return The SHA-256 hash of the paths and contents of the files
+     */
+    public static byte[] hash(List<Path> files) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+
+        for (Path file : files) {
+            digest.update(file.toString().getBytes(StandardCharsets.UTF_8));
+            byte[] contents = Files.readAllBytes(file);
+            digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(contents.length).array());
+            digest.update(contents);
+        }
+        return digest.digest();
+    }
+
+    /**
+     * Loads the snapshot of a config, if it exists and was made from the same file contents and plugin version
+     * @param config The config to load
+     * @param hash The hash of the config's current file contents
+     * @param nodeFactory Creates the empty root node to load the snapshot into
+     * @return The loaded node, or null if there is no suitable snapshot
+     */
+    @Nullable
+    public ConfigurationNode load(ConfigId config, byte[] hash, Supplier<? extends ConfigurationNode> nodeFactory) {
+        Path snapshot = snapshot(config);
+        if (!Files.isRegularFile(snapshot)) {
+            return null;
+        }
+
+        try {
+            // read into the heap, since a mapped file can't be replaced on some systems until it is garbage collected
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(snapshot));
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT) {
+                return null;
+            }
+            if (!Arrays.equals(pluginVersion, readBytes(buffer)) || !Arrays.equals(hash, readBytes(buffer))) {
+                logger.debug("Snapshot of " + config.file + " is outdated");
+                return null;
+            }
+
+            ConfigurationNode node = nodeFactory.get();
+            readNode(buffer, node);
+            logger.debug("Loaded " + config.file + " from snapshot");
+            return node;
+        } catch (IOException | BufferUnderflowException | IllegalArgumentException e) {
+            logger.debug("Failed to read snapshot of " + config.file + ": " + e);
+            return null;
+        }
+    }
+
+    /**
+     * Saves a snapshot of a config. Failures are ignored, since the YAML file can always be used instead.
+     * @param config The config to save
+     * @param hash The hash of the file contents that the node was loaded from
+     * @param node The loaded node
+     */
+    public void save(ConfigId config, byte[] hash, ConfigurationNode node) {
+        Path snapshot = snapshot(config);
+        Path temp = snapshot.resolveSibling(snapshot.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(snapshot.getParent());
+            try (OutputStream file = Files.newOutputStream(temp);
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT);
+                writeBytes(out, pluginVersion);
+                writeBytes(out, hash);
+                writeNode(out, node);
+            }
+            Files.move(temp, snapshot, StandardCopyOption.REPLACE_EXISTING);
+            logger.debug("Saved snapshot of " + config.file);
+        } catch (IOException e) {
+            logger.warn("Failed to save snapshot of " + config.file + ": " + e);
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException ignored) {
+                // no-op
+            }
+        }
+    }
+
+    private Path snapshot(ConfigId config) {
+        return directory.resolve(config.file + ".bin");
+    }
+
+    private static void writeNode(DataOutputStream out, ConfigurationNode node) throws IOException {
+        if (node.isMap()) {
+            Map<Object, ? extends ConfigurationNode> children = node.childrenMap();
+            out.writeByte(MAP);
+            out.writeInt(children.size());
+            for (Map.Entry<Object, ? extends ConfigurationNode> entry : children.entrySet()) {
+                writeScalar(out, entry.getKey());
+                writeNode(out, entry.getValue());
+            }
+        } else if (node.isList()) {
+            List<? extends ConfigurationNode> children = node.childrenList();
+            out.writeByte(LIST);
+            out.writeInt(children.size());
+            for (ConfigurationNode child : children) {
+                writeNode(out, child);
+            }
+        } else {
+            writeScalar(out, node.rawScalar());
+        }
+    }
+
+    private static void writeScalar(DataOutputStream out, @Nullable Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof String) {
+            out.writeByte(STRING);
+            writeBytes(out, ((String) value).getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof Integer) {
+            out.writeByte(INTEGER);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            out.writeByte(LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof Double) {
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof Float) {
+            out.writeByte(FLOAT);
+            out.writeFloat((Float) value);
+        } else if (value instanceof Boolean) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof BigInteger) {
+            out.writeByte(BIG_INTEGER);
+            writeBytes(out, ((BigInteger) value).toByteArray());
+        } else {
+            // e.g. timestamps. very unlikely in our configs, so just use the YAML file
+            throw new IOException("Unsupported scalar type " + value.getClass().getName());
+        }
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static void readNode(ByteBuffer buffer, ConfigurationNode node) {
+        byte type = buffer.get();
+        if (type == MAP) {
+            int size = buffer.getInt();
+            if (size == 0) {
+                node.raw(Collections.emptyMap());
+            }
+            for (int i = 0; i < size; i++) {
+                Object key = readScalar(buffer, buffer.get());
+                readNode(buffer, node.node(key));
+            }
+        } else if (type == LIST) {
+            int size = buffer.getInt();
+            if (size == 0) {
+                node.raw(Collections.emptyList());
+            }
+            for (int i = 0; i < size; i++) {
+                readNode(buffer, node.appendListNode());
+            }
+        } else {
+            node.raw(readScalar(buffer, type));
+        }
+    }
+
+    @Nullable
+    private static Object readScalar(ByteBuffer buffer, byte type) {
+        switch (type) {
+            case NULL:
+                return null;
+            case STRING:
+                return new String(readBytes(buffer), StandardCharsets.UTF_8);
+            case INTEGER:
+                return buffer.getInt();
+            case LONG:
+                return buffer.getLong();
+            case DOUBLE:
+                return buffer.getDouble();
+            case FLOAT:
+                return buffer.getFloat();
+            case BOOLEAN:
+                return buffer.get() != 0;
+            case BIG_INTEGER:
+                return new BigInteger(readBytes(buffer));
+            default:
+                throw new IllegalArgumentException("Unknown value type " + type);
+        }
+    }
+
+    private static byte[] readBytes(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalArgumentException("Invalid length " + length);
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return bytes;
+    }
+}
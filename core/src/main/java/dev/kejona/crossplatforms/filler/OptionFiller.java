@@ -14,15 +14,22 @@ public interface OptionFiller extends KeyedType {
 
     Pattern PLACEHOLDER = Pattern.compile("%raw_text%");
 
+    /**
+     * Fills options. If this filler has a page size, only the first page is filled, since dropdowns and step sliders
+     * can't change pages.
+     */
     default void fillOptions(List<Option> container, PlayerContext context) {
         Option template = optionTemplate();
 
+        int pageSize = pageSize();
+        Stream<String> raw = pageSize > 0 ? rawOptions(context, 0, pageSize) : rawOptions(context);
+
         Stream<Option> options;
         if (template == null) {
-            options = rawOptions(context).map(Option::new);
+            options = raw.map(Option::new);
         } else {
             // Note: it is key to set the returnText of the Option so that it is the raw value without formatting
-            options = rawOptions(context).map(s -> new Option(FillerUtils.replace(template.display(), PLACEHOLDER, s), s));
+            options = raw.map(s -> new Option(FillerUtils.replace(template.display(), PLACEHOLDER, s), s));
         }
 
         FillerUtils.addAtIndex(options, container, insertIndex());
@@ -31,8 +38,26 @@ public interface OptionFiller extends KeyedType {
     @Nonnull
     Stream<String> rawOptions(PlayerContext context);
 
+    /**
+     * Implementations should override this if they can generate a range of options without generating the skipped
+     * options. The default implementation skips and limits {@link #rawOptions(PlayerContext)}.
+     * @param skip The amount of options to skip
+     * @param limit The maximum amount of options to generate
+     */
+    @Nonnull
+    default Stream<String> rawOptions(PlayerContext context, long skip, long limit) {
+        return rawOptions(context).skip(skip).limit(limit);
+    }
+
     @Nullable
     Option optionTemplate();
 
     int insertIndex();
+
+    /**
+     * @return The maximum amount of options to fill, or 0 if there is no limit
+     */
+    default int pageSize() {
+        return 0;
+    }
 }
@@ -10,6 +10,7 @@ import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.List;
 import java.util.stream.Stream;
 
 @ConfigSerializable
@@ -29,13 +30,27 @@ public class PlayerFiller extends UniversalFiller {
     @Nonnull
     @Override
     public Stream<String> rawOptions(PlayerContext context) {
-        return serverHandler.getPlayerNames().sorted();
+        return serverHandler.getSortedPlayerNames().stream();
     }
 
     @Nonnull
     @Override
     public Stream<SimpleButton> rawButtons(PlayerContext context) {
-        return serverHandler.getPlayersSorted().map(player -> new SimpleButton(player.getName(), headLink(player)));
+        return serverHandler.getSortedPlayers().stream().map(player -> new SimpleButton(player.getName(), headLink(player)));
+    }
+
+    @Nonnull
+    @Override
+    public Stream<String> rawOptions(PlayerContext context, long skip, long limit) {
+        return window(serverHandler.getSortedPlayerNames(), skip, limit).stream();
+    }
+
+    @Nonnull
+    @Override
+    public Stream<SimpleButton> rawButtons(PlayerContext context, long skip, long limit) {
+        // only looks up the heads of the players in the window
+        return window(serverHandler.getSortedPlayers(), skip, limit).stream()
+            .map(player -> new SimpleButton(player.getName(), headLink(player)));
     }
 
     @Override
@@ -48,6 +63,12 @@ public class PlayerFiller extends UniversalFiller {
         return skinCache.getAvatarUrl(player);
     }
 
+    private static <E> List<E> window(List<E> list, long skip, long limit) {
+        int from = (int) Math.min(skip, list.size());
+        int to = (int) Math.min(from + limit, list.size());
+        return list.subList(from, to);
+    }
+
     public static void register(FillerSerializer serializer) {
         serializer.filler(TYPE, PlayerFiller.class);
     }
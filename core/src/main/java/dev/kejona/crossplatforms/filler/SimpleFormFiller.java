@@ -7,26 +7,70 @@ import dev.kejona.crossplatforms.serialize.KeyedType;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public interface SimpleFormFiller extends KeyedType {
 
     default void fillButtons(List<SimpleButton> container, PlayerContext context) {
+        fillButtons(container, context, 0);
+    }
+
+    /**
+     * Fills the buttons of a page. If this filler has no page size, every button is filled regardless of the page.
+     * @param page The page to fill, starting at 0
+     * @return true if there are more buttons after the given page
+     */
+    default boolean fillButtons(List<SimpleButton> container, PlayerContext context, int page) {
         SimpleButton template = buttonTemplate();
 
-        Stream<SimpleButton> options = rawButtons(context);
+        int pageSize = pageSize();
+        boolean more = false;
+        Stream<SimpleButton> options;
+        if (pageSize > 0) {
+            // one more than the page size, to find out if there is a next page
+            List<SimpleButton> window = rawButtons(context, (long) page * pageSize, pageSize + 1L)
+                .collect(Collectors.toList());
+            if (window.size() > pageSize) {
+                more = true;
+                window = window.subList(0, pageSize);
+            }
+            options = window.stream();
+        } else {
+            options = rawButtons(context);
+        }
+
         if (template != null) {
             options = options.map(template::withRaw);
         }
 
         FillerUtils.addAtIndex(options, container, insertIndex());
+        return more;
     }
 
     @Nonnull
     Stream<SimpleButton> rawButtons(PlayerContext context);
 
+    /**
+     * Implementations should override this if they can generate a range of buttons without generating the skipped
+     * buttons. The default implementation skips and limits {@link #rawButtons(PlayerContext)}.
+     * @param skip The amount of buttons to skip
+     * @param limit The maximum amount of buttons to generate
+     */
+    @Nonnull
+    default Stream<SimpleButton> rawButtons(PlayerContext context, long skip, long limit) {
+        return rawButtons(context).skip(skip).limit(limit);
+    }
+
     @Nullable
     SimpleButton buttonTemplate();
 
     int insertIndex();
+
+    /**
+     * @return The maximum amount of buttons to fill on each page, or 0 if all buttons should be filled on one page
+     */
+    default int pageSize() {
+        return 0;
+    }
 }
@@ -31,6 +31,9 @@ public abstract class UniversalFiller implements OptionFiller, SimpleFormFiller
     @SuppressWarnings("FieldMayBeFinal")
     private int insertIndex = -1;
 
+    @SuppressWarnings("FieldMayBeFinal")
+    private int pageSize = 0;
+
     @Nullable
     @Override
     public Option optionTemplate() {
@@ -46,6 +49,12 @@ public abstract class UniversalFiller implements OptionFiller, SimpleFormFiller
         return rawOptions(context).map(SimpleButton::new);
     }
 
+    @Nonnull
+    @Override
+    public Stream<SimpleButton> rawButtons(PlayerContext context, long skip, long limit) {
+        return rawOptions(context, skip, limit).map(SimpleButton::new);
+    }
+
     @ConfigSerializable
     private static class OptionFormat {
         Option text;
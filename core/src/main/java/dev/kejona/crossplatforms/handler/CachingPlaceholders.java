@@ -0,0 +1,282 @@
+package dev.kejona.crossplatforms.handler;
+
+import dev.kejona.crossplatforms.CrossplatForms;
+import dev.kejona.crossplatforms.Logger;
+import dev.kejona.crossplatforms.config.Configuration;
+import dev.kejona.crossplatforms.config.GeneralConfig;
+import dev.kejona.crossplatforms.reloadable.Reloadable;
+import dev.kejona.crossplatforms.resolver.Template;
+import lombok.Getter;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * Caches the results of another {@link Placeholders} implementation, for each player and placeholder. How long a
+ * placeholder is cached for is configured in the general config. Placeholders without a cache time are passed to the
+ * underlying implementation as usual.
+ */
+public class CachingPlaceholders implements Placeholders, Reloadable {
+
+    /**
+     * Maximum amount of compiled texts to keep. Texts are usually from configs, but may also be generated.
+     */
+    private static final int MAX_TEMPLATES = 1024;
+
+    @Getter
+    private final Placeholders delegate;
+
+    /**
+     * Provides the current time in nanoseconds
+     */
+    private final LongSupplier clock;
+
+    /**
+     * Tests if a player is online, so that values aren't cached for players that have left
+     */
+    private final Predicate<UUID> online;
+
+    private final Map<UUID, Map<String, Entry>> cache = new ConcurrentHashMap<>();
+    private final Map<String, Template> templates = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Time to live in nanoseconds for placeholders that have no specific time
+     */
+    private volatile long defaultTtl = 0;
+
+    /**
+     * Time to live in nanoseconds, keyed by placeholder identifier or expansion name
+     */
+    private volatile Map<String, Long> ttls = Collections.emptyMap();
+
+    public CachingPlaceholders(Placeholders delegate, Predicate<UUID> online) {
+        this(delegate, online, System::nanoTime);
+    }
+
+    CachingPlaceholders(Placeholders delegate, Predicate<UUID> online, LongSupplier clock) {
+        this.delegate = delegate;
+        this.online = online;
+        this.clock = clock;
+    }
+
+    /**
+     * Sets the cache times and clears any cached values.
+     * @param config The configuration to use. If null, caching is disabled.
+     */
+    public void configure(@Nullable GeneralConfig.PlaceholderCache config) {
+        long defaultTtl = 0;
+        Map<String, Long> ttls = new HashMap<>();
+        if (config != null) {
+            defaultTtl = toNanos(config.getDefaultTtl());
+            for (Map.Entry<String, Long> entry : config.getTtl().entrySet()) {
+                ttls.put(entry.getKey(), toNanos(entry.getValue()));
+            }
+        }
+
+        this.defaultTtl = defaultTtl;
+        this.ttls = ttls.isEmpty() ? Collections.emptyMap() : ttls;
+        cache.clear();
+        templates.clear();
+    }
+
+    @Override
+    public boolean reload() {
+        Logger.get().debug("Placeholder cache had " + getHits() + " hits and " + getMisses() + " misses");
+        configure(CrossplatForms.getInstance().getConfigManager()
+            .getConfig(GeneralConfig.class)
+            .map(GeneralConfig::getPlaceholderCache)
+            .orElse(null));
+        return true;
+    }
+
+    @Override
+    public boolean dependsOn(Class<? extends Configuration> config) {
+        return config == GeneralConfig.class;
+    }
+
+    /**
+     * @return true if any placeholder may be cached
+     */
+    public boolean isEnabled() {
+        return defaultTtl > 0 || !ttls.isEmpty();
+    }
+
+    /**
+     * Removes all cached values of a player. Should be called when a player disconnects.
+     * @param uuid the UUID of the player
+     */
+    public void invalidate(@Nonnull UUID uuid) {
+        cache.remove(uuid);
+    }
+
+    /**
+     * Removes all cached values of every player.
+     */
+    public void invalidateAll() {
+        cache.clear();
+    }
+
+    /**
+     * @return the amount of players with cached values
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * @return the amount of placeholders that were resolved from the cache
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the amount of cacheable placeholders that had to be resolved by the underlying implementation
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    @Override
+    public String setPlaceholders(@Nonnull FormPlayer player, @Nonnull String text) {
+        if (text.isEmpty() || !isEnabled()) {
+            return delegate.setPlaceholders(player, text);
+        }
+
+        Template template = template(text);
+        List<String> tokens = template.placeholders();
+        boolean cacheable = false;
+        boolean uncacheable = false;
+        for (String token : tokens) {
+            if (ttl(token) > 0) {
+                cacheable = true;
+            } else {
+                uncacheable = true;
+            }
+        }
+
+        if (!cacheable) {
+            return delegate.setPlaceholders(player, text);
+        }
+
+        Map<String, Entry> entries = entries(player.getUuid());
+        if (entries == null) {
+            return delegate.setPlaceholders(player, text);
+        }
+
+        String result = template.render(token -> {
+            long ttl = ttl(token);
+            return ttl > 0 ? cached(player, entries, token, ttl) : null;
+        });
+
+        if (uncacheable) {
+            // let the underlying implementation handle the rest
+            return delegate.setPlaceholders(player, result);
+        }
+        return result;
+    }
+
+    private Template template(String text) {
+        Template template = templates.get(text);
+        if (template == null) {
+            template = Template.compile(text);
+            if (templates.size() < MAX_TEMPLATES) {
+                templates.put(text, template);
+            }
+        }
+        return template;
+    }
+
+    /**
+     * @return The cached values of a player, or null if the player is not online
+     */
+    @Nullable
+    private Map<String, Entry> entries(UUID uuid) {
+        Map<String, Entry> entries = cache.get(uuid);
+        if (entries != null) {
+            return entries;
+        }
+
+        // placeholders may still be resolved for a player that has left, e.g. by a form that was being built
+        if (!online.test(uuid)) {
+            return null;
+        }
+        Map<String, Entry> created = new ConcurrentHashMap<>();
+        entries = cache.putIfAbsent(uuid, created);
+        if (entries != null) {
+            return entries;
+        }
+        if (!online.test(uuid)) {
+            // left while creating, possibly after being invalidated
+            cache.remove(uuid, created);
+        }
+        return created;
+    }
+
+    private String cached(FormPlayer player, Map<String, Entry> entries, String token, long ttl) {
+        long now = clock.getAsLong();
+        Entry entry = entries.get(token);
+        if (entry != null && now - entry.expiry < 0) {
+            hits.increment();
+            return entry.value;
+        }
+
+        misses.increment();
+        String value = delegate.setPlaceholders(player, token);
+        entries.put(token, new Entry(value, now + ttl));
+        return value;
+    }
+
+    /**
+     * @param token a placeholder token including delimiters
+     * @return the time to live of the token in nanoseconds, 0 or less if it should not be cached.
+     */
+    private long ttl(String token) {
+        if (token.charAt(0) != '%') {
+            return 0; // only %placeholder% tokens are resolved by implementations
+        }
+
+        Map<String, Long> ttls = this.ttls;
+        String identifier = token.substring(1, token.length() - 1);
+        Long ttl = ttls.get(identifier);
+        if (ttl == null) {
+            int split = identifier.indexOf('_');
+            if (split > 0) {
+                ttl = ttls.get(identifier.substring(0, split)); // expansion name
+            }
+        }
+        return ttl == null ? defaultTtl : ttl;
+    }
+
+    private static long toNanos(long millis) {
+        return millis <= 0 ? 0 : TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+    private static final class Entry {
+
+        private final String value;
+
+        /**
+         * Time in nanoseconds that this entry expires at
+         */
+        private final long expiry;
+
+        private Entry(String value, long expiry) {
+            this.value = value;
+            this.expiry = expiry;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package dev.kejona.crossplatforms.handler;
 
+import dev.kejona.crossplatforms.resolver.KeywordMatcher;
 import dev.kejona.crossplatforms.resolver.MapResolver;
 import dev.kejona.crossplatforms.resolver.Resolver;
 import dev.kejona.crossplatforms.resolver.PlayerResolver;
@@ -44,42 +45,56 @@ public interface Placeholders {
      * Returns the inputted text with placeholders set, if PlaceholderAPI is loaded. If not, it returns the same text.
      * @param player The player
      * @param text The text
-     * @param additional Additional placeholders to apply
+     * @param additional Additional placeholders to apply, which should be built once for every map and reused
      * @return the formatted text.
      */
     @Nonnull
-    default String setPlaceholders(@Nonnull FormPlayer player, @Nonnull String text, @Nonnull Map<String, String> additional) {
+    default String setPlaceholders(@Nonnull FormPlayer player, @Nonnull String text, @Nonnull KeywordMatcher additional) {
         if (text.isEmpty()) {
             return text;
         }
 
-        String resolved = text;
-        if (!additional.isEmpty()) {
-            for (String key : additional.keySet()) {
-                resolved = resolved.replace(key, additional.get(key));
-            }
-        }
-
-        return setPlaceholders(player, resolved);
+        return setPlaceholders(player, additional.replace(text));
     }
 
     /**
      * Returns the inputted text with placeholders set, if PlaceholderAPI is loaded. If not, it returns the same text.
      * @param player The player
      * @param text The text
-     * @param additional Additional placeholders to apply
+     * @param additional Additional placeholders to apply, which should be built once for every map and reused
      * @return the formatted text.
      */
     @Nonnull
-    default List<String> setPlaceholders(@Nonnull FormPlayer player, @Nonnull List<String> text, Map<String, String> additional) {
+    default List<String> setPlaceholders(@Nonnull FormPlayer player, @Nonnull List<String> text, @Nonnull KeywordMatcher additional) {
         List<String> processedText = new ArrayList<>();
         if (text.isEmpty()) {
             return processedText;
         }
 
         for (String line : text) {
-            processedText.add(setPlaceholders(player, line, additional));
+            processedText.add(line.isEmpty() ? line : setPlaceholders(player, additional.replace(line)));
         }
         return processedText;
     }
+
+    /**
+     * Builds a {@link KeywordMatcher} for the additional placeholders on every call.
+     * @deprecated Build the matcher once with {@link KeywordMatcher#of(Map)} and use
+     * {@link #setPlaceholders(FormPlayer, String, KeywordMatcher)}, or use {@link #resolver(FormPlayer, Map)}.
+     */
+    @Deprecated
+    @Nonnull
+    default String setPlaceholders(@Nonnull FormPlayer player, @Nonnull String text, @Nonnull Map<String, String> additional) {
+        return setPlaceholders(player, text, KeywordMatcher.of(additional));
+    }
+
+    /**
+     * @deprecated Build the matcher once with {@link KeywordMatcher#of(Map)} and use
+     * {@link #setPlaceholders(FormPlayer, List, KeywordMatcher)}, or use {@link #resolver(FormPlayer, Map)}.
+     */
+    @Deprecated
+    @Nonnull
+    default List<String> setPlaceholders(@Nonnull FormPlayer player, @Nonnull List<String> text, Map<String, String> additional) {
+        return setPlaceholders(player, text, KeywordMatcher.of(additional));
+    }
 }
@@ -9,9 +9,12 @@ import net.kyori.adventure.audience.Audience;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -36,7 +39,7 @@ public interface ServerHandler {
     Stream<FormPlayer> getPlayers();
 
     default Stream<FormPlayer> getPlayersSorted() {
-        return getPlayers().sorted(PLAYER_COMPARATOR);
+        return getSortedPlayers().stream();
     }
 
     /**
@@ -46,6 +49,26 @@ public interface ServerHandler {
         return getPlayers().map(FormPlayer::getName);
     }
 
+    /**
+     * Implementations should override this to return a snapshot that is maintained as players join and leave, such as
+     * {@link SortedPlayers#players()}. The default implementation sorts {@link #getPlayers()} on every call.
+     * @return An immutable list of every player, sorted by {@link #PLAYER_COMPARATOR}
+     */
+    @Nonnull
+    default List<FormPlayer> getSortedPlayers() {
+        return Collections.unmodifiableList(getPlayers().sorted(PLAYER_COMPARATOR).collect(Collectors.toList()));
+    }
+
+    /**
+     * Implementations should override this to return a snapshot that is maintained as players join and leave, such as
+     * {@link SortedPlayers#names()}. The default implementation sorts {@link #getPlayerNames()} on every call.
+     * @return An immutable list of the name of every player, sorted ignoring case
+     */
+    @Nonnull
+    default List<String> getSortedPlayerNames() {
+        return Collections.unmodifiableList(getPlayerNames().sorted(String.CASE_INSENSITIVE_ORDER).collect(Collectors.toList()));
+    }
+
     @Nonnull
     Audience asAudience(CommandOrigin origin);
 
@@ -87,6 +110,20 @@ public interface ServerHandler {
      */
     void clearInterceptCommands();
 
+    /**
+     * Replace all previously registered intercept commands. Implementations should make the new commands take effect
+     * at once, so that commands sent while reloading are intercepted by either the old or new commands. The default
+     * implementation clears the commands and then registers each.
+     * @param commands The commands to register, in order of priority
+     * @see #registerInterceptCommand(InterceptCommand)
+     */
+    default void setInterceptCommands(List<InterceptCommand> commands) {
+        clearInterceptCommands();
+        for (InterceptCommand command : commands) {
+            registerInterceptCommand(command);
+        }
+    }
+
     /**
      * Execute the given runnable in a manner that allows for thread safe access to the server API of the given implementation.
      * The default implementation is simply running the runnable immediately
@@ -95,4 +132,32 @@ public interface ServerHandler {
     default void executeSafely(Runnable runnable) {
         runnable.run();
     }
+
+    /**
+     * Execute the given runnable in the same manner as {@link #executeSafely(Runnable)}, but not before the next
+     * server tick. Platforms without ticks should delay it by the length of one tick.
+     * The default implementation simply calls {@link #executeSafely(Runnable)}, which may run it immediately.
+     * @param runnable The runnable to execute
+     */
+    default void executeNextTick(Runnable runnable) {
+        executeSafely(runnable);
+    }
+
+    /**
+     * @return true if the current thread can access the server API of the given implementation without using
+     * {@link #executeSafely(Runnable)}. The default implementation always returns true.
+     */
+    default boolean isPrimaryThread() {
+        return true;
+    }
+
+    /**
+     * @return An executor for building forms off of the primary thread, or null if the implementation doesn't
+     * benefit from it. If present, {@link #getPlayer(UUID)}, {@link #getPlayer(String)}, {@link #getPlayers()},
+     * {@link #getPlayerNames()} and their sorted variants must be usable on the threads of the executor.
+     */
+    @Nullable
+    default Executor getFormExecutor() {
+        return null;
+    }
 }
@@ -0,0 +1,106 @@
+package dev.kejona.crossplatforms.handler;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Online players sorted by name ignoring case, which is kept up to date as players join and leave. Readers get an
+ * immutable snapshot without any sorting or copying. Joins and leaves copy the snapshot instead, which happens far less
+ * often than it is read.
+ */
+public class SortedPlayers {
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    /**
+     * Adds a player, or replaces the player with the same UUID
+     */
+    public synchronized void add(@Nonnull FormPlayer player) {
+        FormPlayer[] players = without(snapshot.players, player.getUuid());
+
+        // insert after any equal names
+        String name = player.getName();
+        int low = 0;
+        int high = players.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (String.CASE_INSENSITIVE_ORDER.compare(players[mid].getName(), name) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        FormPlayer[] added = new FormPlayer[players.length + 1];
+        System.arraycopy(players, 0, added, 0, low);
+        added[low] = player;
+        System.arraycopy(players, low, added, low + 1, players.length - low);
+        snapshot = new Snapshot(added);
+    }
+
+    public synchronized void remove(@Nonnull UUID uuid) {
+        FormPlayer[] players = snapshot.players;
+        FormPlayer[] removed = without(players, uuid);
+        if (removed != players) {
+            snapshot = new Snapshot(removed);
+        }
+    }
+
+    /**
+     * @return An immutable list of every player, sorted by name ignoring case
+     */
+    @Nonnull
+    public List<FormPlayer> players() {
+        return snapshot.playerList;
+    }
+
+    /**
+     * @return An immutable list of the name of every player, sorted ignoring case
+     */
+    @Nonnull
+    public List<String> names() {
+        return snapshot.nameList;
+    }
+
+    public int size() {
+        return snapshot.players.length;
+    }
+
+    /**
+     * @return The players without the player with the given UUID, or the same array if there is no such player
+     */
+    private static FormPlayer[] without(FormPlayer[] players, UUID uuid) {
+        for (int i = 0; i < players.length; i++) {
+            if (players[i].getUuid().equals(uuid)) {
+                FormPlayer[] removed = new FormPlayer[players.length - 1];
+                System.arraycopy(players, 0, removed, 0, i);
+                System.arraycopy(players, i + 1, removed, i, players.length - i - 1);
+                return removed;
+            }
+        }
+        return players;
+    }
+
+    private static final class Snapshot {
+
+        private static final Snapshot EMPTY = new Snapshot(new FormPlayer[0]);
+
+        private final FormPlayer[] players;
+        private final List<FormPlayer> playerList;
+        private final List<String> nameList;
+
+        private Snapshot(FormPlayer[] players) {
+            String[] names = new String[players.length];
+            for (int i = 0; i < players.length; i++) {
+                names[i] = players[i].getName();
+            }
+
+            this.players = players;
+            this.playerList = Collections.unmodifiableList(Arrays.asList(players));
+            this.nameList = Collections.unmodifiableList(Arrays.asList(names));
+        }
+    }
+}
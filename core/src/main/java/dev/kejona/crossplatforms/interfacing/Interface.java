@@ -6,10 +6,14 @@ import dev.kejona.crossplatforms.Logger;
 import dev.kejona.crossplatforms.command.defaults.OpenCommand;
 import dev.kejona.crossplatforms.handler.FormPlayer;
 import dev.kejona.crossplatforms.handler.Placeholders;
+import dev.kejona.crossplatforms.handler.ServerHandler;
+import dev.kejona.crossplatforms.metrics.MetricsRegistry;
 import dev.kejona.crossplatforms.permission.Permission;
 import dev.kejona.crossplatforms.permission.PermissionDefault;
 import dev.kejona.crossplatforms.resolver.MapResolver;
+import dev.kejona.crossplatforms.resolver.MemoizedResolver;
 import dev.kejona.crossplatforms.resolver.Resolver;
+import dev.kejona.crossplatforms.resolver.Template;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
@@ -20,11 +24,15 @@ import org.spongepowered.configurate.objectmapping.meta.Required;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.StringJoiner;
+import java.util.function.Consumer;
 
 @ToString
 @ConfigSerializable
@@ -32,7 +40,13 @@ import java.util.StringJoiner;
 public abstract class Interface {
 
     @Inject
-    private transient Placeholders placeholders;
+    protected transient Placeholders placeholders;
+
+    @Inject
+    protected transient ServerHandler serverHandler;
+
+    @Inject
+    protected transient MetricsRegistry metrics;
 
     @Getter
     // Stuff that is generated after deserialization, once the identifier has been loaded
@@ -46,6 +60,13 @@ public abstract class Interface {
     @Getter
     protected String title = "";
 
+    /**
+     * The title compiled at load time
+     */
+    @Getter
+    @ToString.Exclude
+    protected transient Template titleTemplate = Template.EMPTY;
+
     private Map<Interface.Limit, PermissionDefault> permissionDefaults = Collections.emptyMap();
 
     @Getter
@@ -62,12 +83,13 @@ public abstract class Interface {
             joiner.add(OpenCommand.required(arg.identifier()));
         }
         argumentSyntax = joiner.toString();
+
+        titleTemplate = Template.compile(title);
     }
 
     public void send(FormPlayer recipient, Map<String, String> args) throws ArgumentException {
-        Resolver resolver = placeholders.resolver(recipient);
         if (arguments.isEmpty()) {
-            send(recipient, resolver);
+            dispatch(recipient, null);
             return;
         }
 
@@ -75,14 +97,40 @@ public abstract class Interface {
         for (Argument def : arguments) {
             placeholders.put(def.placeholder(), def.validate(args.get(def.identifier())));
         }
-        send(recipient, new MapResolver(placeholders).then(resolver));
+        dispatch(recipient, new MapResolver(placeholders));
     }
 
     public void send(FormPlayer recipient, @Nullable String... args) throws ArgumentException {
-        Resolver resolver = placeholders.resolver(recipient);
+        dispatch(recipient, argumentResolver(args));
+    }
+
+    /**
+     * Sends this interface to many players, spreading the work over multiple ticks. Arguments are validated and
+     * resolved once for all recipients, so only player specific placeholders are resolved for each of them.
+     * @param recipients The players to send to. Players that have left by the time it is their turn are skipped.
+     * @param perTick The maximum amount of players to send to each tick
+     * @param args The arguments to use, if this interface has any
+     * @throws ArgumentException if the arguments are invalid, in which case this is not sent to anyone
+     */
+    public void sendAll(@Nonnull Collection<FormPlayer> recipients, int perTick, @Nullable String... args) throws ArgumentException {
+        if (perTick < 1) {
+            throw new IllegalArgumentException("Amount of players per tick must be at least 1: " + perTick);
+        }
+
+        MapResolver arguments = argumentResolver(args);
+        Resolver shared = arguments == null ? null : new MemoizedResolver(arguments);
+        Broadcast broadcast = new Broadcast(new ArrayList<>(recipients).iterator(), perTick, broadcaster(shared));
+        serverHandler.executeSafely(broadcast);
+    }
+
+    /**
+     * @return A resolver for the given arguments, or null if this interface has no arguments.
+     * @throws ArgumentException if the given arguments are not valid for this interface
+     */
+    @Nullable
+    private MapResolver argumentResolver(@Nullable String... args) throws ArgumentException {
         if (arguments.isEmpty()) {
-            send(recipient, resolver);
-            return;
+            return null;
         }
         if (args == null || arguments.size() != args.length) {
             throw new ArgumentException("Incorrect number of arguments, should be " + arguments.size());
@@ -94,11 +142,66 @@ public abstract class Interface {
             placeholders.put(def.placeholder(), def.validate(args[i]));
             i++;
         }
-        send(recipient, new MapResolver(placeholders).then(resolver));
+        return new MapResolver(placeholders);
+    }
+
+    /**
+     * Sends this interface after arguments have been validated. Implementations may override this to change where
+     * and how the interface is built.
+     * @param recipient The player to send to
+     * @param arguments Resolver for the arguments of this interface, or null if there are none. Must be applied before
+     *                  player placeholders.
+     */
+    protected void dispatch(@Nonnull FormPlayer recipient, @Nullable Resolver arguments) {
+        Resolver resolver = placeholders.resolver(recipient);
+        sendAndRecord(recipient, arguments == null ? resolver : arguments.then(resolver));
+    }
+
+    /**
+     * Creates what sends this interface to each recipient of a broadcast. Implementations may override this to build
+     * the parts of the interface that are the same for every recipient only once.
+     * @param arguments Resolver for the arguments that every recipient shares, or null if there are none
+     */
+    protected Consumer<FormPlayer> broadcaster(@Nullable Resolver arguments) {
+        return recipient -> dispatch(recipient, arguments);
+    }
+
+    /**
+     * Sends this interface, recording how long it took if metrics are enabled
+     */
+    protected final void sendAndRecord(@Nonnull FormPlayer recipient, @Nonnull Resolver resolver) {
+        long start = metrics.startTimer();
+        send(recipient, resolver);
+        metrics.opened(this, start);
     }
 
     protected abstract void send(@Nonnull FormPlayer recipient, @Nonnull Resolver resolver);
 
+    /**
+     * Passes every template of this interface that has been compiled at load time. Strings that are generated or
+     * resolved when the interface is sent are not included.
+     */
+    public void forEachTemplate(Consumer<Template> consumer) {
+        consumer.accept(titleTemplate);
+    }
+
+    /**
+     * Logs how many strings of this interface are plain text, and are never given to placeholder resolvers, compared
+     * to how many must be resolved every time it is sent. Only if debug is enabled.
+     */
+    public void debugTemplates() {
+        Logger logger = Logger.get();
+        if (!logger.isDebug()) {
+            return;
+        }
+
+        int[] counts = new int[2]; // plain, dynamic
+        forEachTemplate(template -> counts[template.isPlain() ? 0 : 1]++);
+        int total = counts[0] + counts[1];
+        int percent = total == 0 ? 100 : counts[0] * 100 / total;
+        logger.debug("'" + identifier + "' has " + counts[0] + " static and " + counts[1] + " dynamic strings (" + percent + "% static)");
+    }
+
     /**
      * e.g. "crossplatforms.form."
      */
@@ -113,7 +216,21 @@ public abstract class Interface {
             Logger.get().severe("Permissions in menu or form '" + identifier + "' have already been generated!");
         }
 
-        String mainPermission = getPermissionBase() + identifier;
+        permissions = generatePermissions(getPermissionBase(), identifier, permissionDefaults, registry);
+    }
+
+    /**
+     * Generates the permissions of an interface, without needing the interface itself
+     * @param permissionBase e.g. "crossplatforms.form."
+     * @param identifier The identifier of the interface
+     * @param permissionDefaults The permission defaults configured for the interface
+     * @param registry The config that the interface is from
+     */
+    public static Map<Interface.Limit, Permission> generatePermissions(String permissionBase,
+                                                                       String identifier,
+                                                                       Map<Interface.Limit, PermissionDefault> permissionDefaults,
+                                                                       InterfaceConfig registry) {
+        String mainPermission = permissionBase + identifier;
 
         ImmutableMap.Builder<Interface.Limit, Permission> builder = ImmutableMap.builder();
         for (Interface.Limit limit : Interface.Limit.values()) {
@@ -124,7 +241,7 @@ public abstract class Interface {
             builder.put(limit, new Permission(mainPermission + limit.permissionSuffix, limit.description, permissionDefault));
         }
 
-        permissions = builder.build();
+        return builder.build();
     }
 
     @RequiredArgsConstructor
@@ -136,4 +253,36 @@ public abstract class Interface {
         public final String description;
         public final PermissionDefault fallbackDefault;
     }
+
+    /**
+     * Sends this interface to a limited amount of players each tick, until every player has been sent to.
+     */
+    @RequiredArgsConstructor
+    private final class Broadcast implements Runnable {
+
+        private final Iterator<FormPlayer> recipients;
+        private final int perTick;
+
+        /**
+         * Sends to a single recipient, reusing what is the same for every recipient
+         */
+        private final Consumer<FormPlayer> sender;
+
+        @Override
+        public void run() {
+            int sent = 0;
+            while (sent < perTick && recipients.hasNext()) {
+                // fetch the player again, since they may have left
+                FormPlayer recipient = serverHandler.getPlayer(recipients.next().getUuid());
+                if (recipient != null) {
+                    sender.accept(recipient);
+                    sent++;
+                }
+            }
+
+            if (recipients.hasNext()) {
+                serverHandler.executeNextTick(this);
+            }
+        }
+    }
 }
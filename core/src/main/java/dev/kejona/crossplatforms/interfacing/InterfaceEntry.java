@@ -0,0 +1,190 @@
+package dev.kejona.crossplatforms.interfacing;
+
+import dev.kejona.crossplatforms.Logger;
+import dev.kejona.crossplatforms.permission.Permission;
+import dev.kejona.crossplatforms.permission.PermissionDefault;
+import dev.kejona.crossplatforms.serialize.Lazy;
+import dev.kejona.crossplatforms.utils.ConfigurateUtils;
+import io.leangen.geantyref.TypeToken;
+import lombok.Getter;
+import lombok.ToString;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.serialize.SerializationException;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * A form or menu in a registry. The identifier and permissions are always available, but the interface itself
+ * may not be deserialized until it is first needed.
+ * @param <T> The type of interface
+ */
+@ToString(onlyExplicitlyIncluded = true)
+public final class InterfaceEntry<T extends Interface> {
+
+    private static final TypeToken<Map<Interface.Limit, PermissionDefault>> PERMISSION_DEFAULTS = new TypeToken<Map<Interface.Limit, PermissionDefault>>() {};
+
+    @Getter
+    @ToString.Include
+    private final String identifier;
+
+    @Getter
+    private final Map<Interface.Limit, Permission> permissions;
+
+    private final boolean arguments;
+    private final boolean allowBedrock;
+
+    private final Lazy<T> source;
+    private final InterfaceConfig config;
+
+    @Nullable
+    private volatile T value;
+    private volatile boolean failed = false;
+
+    private InterfaceEntry(String identifier, Map<Interface.Limit, Permission> permissions, boolean arguments, boolean allowBedrock, Lazy<T> source, InterfaceConfig config) {
+        this.identifier = identifier;
+        this.permissions = permissions;
+        this.arguments = arguments;
+        this.allowBedrock = allowBedrock;
+        this.source = source;
+        this.config = config;
+    }
+
+    /**
+     * Creates an entry for an interface. If it has not been deserialized, only its metadata is read.
+     * @param identifier The identifier of the interface
+     * @param source The interface
+     * @param config The config the interface is from
+     * @param permissionBase The permission base of the interface type, e.g. "crossplatforms.form."
+     * @param allowBedrock The setting that allows bedrock players to use the interface, or null if they always can
+     * @throws SerializationException if the metadata of the interface could not be read
+     */
+    public static <T extends Interface> InterfaceEntry<T> of(@Nonnull String identifier,
+                                                             @Nonnull Lazy<T> source,
+                                                             @Nonnull InterfaceConfig config,
+                                                             @Nonnull String permissionBase,
+                                                             @Nullable AllowBedrock<T> allowBedrock) throws SerializationException {
+        T ui = source.getIfLoaded();
+        if (ui != null) {
+            prepare(ui, config);
+            InterfaceEntry<T> entry = new InterfaceEntry<>(
+                identifier,
+                ui.getPermissions(),
+                !ui.getArguments().isEmpty(),
+                allowBedrock == null || allowBedrock.test(ui),
+                source,
+                config
+            );
+            entry.value = ui;
+            return entry;
+        }
+
+        ConfigurationNode node = source.node();
+        if (node == null) {
+            throw new IllegalStateException("Lazy interface has no value or node"); // not possible
+        }
+        Map<Interface.Limit, PermissionDefault> defaults = node.node("permission-defaults").get(PERMISSION_DEFAULTS, Collections.emptyMap());
+        return new InterfaceEntry<>(
+            identifier,
+            Interface.generatePermissions(permissionBase, identifier, defaults, config),
+            !node.node("arguments").empty(),
+            allowBedrock == null || node.node(allowBedrock.key).getBoolean(false),
+            source,
+            config
+        );
+    }
+
+    private static void prepare(Interface ui, InterfaceConfig config) {
+        ui.generatePermissions(config);
+        ui.debugTemplates();
+    }
+
+    /**
+     * Get the interface, deserializing it if it has not been already.
+     * @return The interface, or null if it failed to deserialize
+     */
+    @Nullable
+    public T get() {
+        T value = this.value;
+        if (value == null && !failed) {
+            return load();
+        }
+        return value;
+    }
+
+    @Nullable
+    private synchronized T load() {
+        if (value != null || failed) {
+            return value;
+        }
+
+        try {
+            long start = System.currentTimeMillis();
+            T ui = source.get();
+            prepare(ui, config);
+            value = ui;
+            Logger.get().debug("Loaded '" + identifier + "' on first use in " + (System.currentTimeMillis() - start) + "ms");
+        } catch (SerializationException e) {
+            failed = true;
+            Logger logger = Logger.get();
+            logger.severe("Failed to load '" + identifier + "': " + ConfigurateUtils.stripPackageNames(e.getMessage()));
+            if (logger.isDebug()) {
+                e.printStackTrace();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * @return true if the interface has been deserialized
+     */
+    public boolean isLoaded() {
+        return value != null;
+    }
+
+    /**
+     * @see Interface#permission(Interface.Limit)
+     */
+    public String permission(Interface.Limit limit) {
+        return permissions.get(limit).key();
+    }
+
+    /**
+     * @return true if the interface has arguments that must be given when opening it
+     */
+    public boolean hasArguments() {
+        return arguments;
+    }
+
+    /**
+     * @return true if bedrock players may use the interface
+     */
+    public boolean isAllowBedrock() {
+        return allowBedrock;
+    }
+
+    /**
+     * A setting of an interface that allows bedrock players to use it
+     */
+    public static final class AllowBedrock<T extends Interface> {
+
+        private final String key;
+        private final Predicate<T> getter;
+
+        /**
+         * @param key The key of the setting in the config
+         * @param getter Gets the setting from a deserialized interface
+         */
+        public AllowBedrock(String key, Predicate<T> getter) {
+            this.key = key;
+            this.getter = getter;
+        }
+
+        private boolean test(T ui) {
+            return getter.test(ui);
+        }
+    }
+}
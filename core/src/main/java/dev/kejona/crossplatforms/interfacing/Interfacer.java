@@ -1,15 +1,22 @@
 package dev.kejona.crossplatforms.interfacing;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import dev.kejona.crossplatforms.interfacing.bedrock.BedrockForm;
 import dev.kejona.crossplatforms.interfacing.bedrock.BedrockFormRegistry;
 import dev.kejona.crossplatforms.interfacing.java.JavaMenu;
 import dev.kejona.crossplatforms.interfacing.java.JavaMenuRegistry;
+import lombok.AccessLevel;
 import lombok.Getter;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 @Getter
 public final class Interfacer {
@@ -17,13 +24,21 @@ public final class Interfacer {
     private BedrockFormRegistry bedrockRegistry;
     private JavaMenuRegistry javaRegistry;
 
+    /**
+     * Lookups and listings of the current registry snapshots. Rebuilt when either registry has been reloaded.
+     */
+    @Getter(AccessLevel.NONE)
+    private volatile Index index;
+
     public void load(BedrockFormRegistry bedrockRegistry, JavaMenuRegistry javaRegistry) {
         this.bedrockRegistry = bedrockRegistry;
         this.javaRegistry = javaRegistry;
+        this.index = null;
     }
 
     /**
-     * Get an interface to fetch
+     * Get an interface to fetch. If there is no interface with the exact identifier, the identifier is matched
+     * ignoring case.
      * @param name The named identifier of the interface
      * @param bedrock true if the interface is for a bedrock player
      * @return Always returns null or a {@link JavaMenu} if bedrock is false. May return null or a {@link BedrockForm} if
@@ -32,40 +47,122 @@ public final class Interfacer {
      */
     @Nullable
     public Interface getInterface(@Nullable String name, boolean bedrock) {
-        if (bedrock) {
-            BedrockForm form = bedrockRegistry.getForm(name);
-            if (form == null) {
-                JavaMenu menu = javaRegistry.getMenu(name);
-                if (menu != null && menu.isAllowBedrock()) {
-                    return menu;
-                } else {
-                    return null;
-                }
-            } else {
-                return form;
-            }
-        } else {
-            return javaRegistry.getMenu(name);
+        InterfaceEntry<?> entry = getEntry(name, bedrock);
+        return entry == null ? null : entry.get();
+    }
+
+    /**
+     * Get the entry of an interface, without deserializing it.
+     * @see #getInterface(String, boolean)
+     */
+    @Nullable
+    public InterfaceEntry<?> getEntry(@Nullable String name, boolean bedrock) {
+        if (name == null) {
+            return null;
         }
+        return index().lookup(name, bedrock);
     }
 
     /**
-     * @return A list of all forms and menus registered. This list is not backed.
+     * @return A list of all forms and menus registered. This list is not backed. Any interfaces that have not been
+     * deserialized yet will be, so prefer {@link #getEntries(boolean)} if only identifiers or permissions are needed.
      */
     @Nonnull
     public List<Interface> getInterfaces(boolean bedrock) {
-        List<Interface> list = new ArrayList<>();
-        if (bedrock) {
-            list.addAll(bedrockRegistry.getForms().values());
-            for (JavaMenu menu : javaRegistry.getMenus().values()) {
+        List<InterfaceEntry<?>> entries = getEntries(bedrock);
+        List<Interface> list = new ArrayList<>(entries.size());
+        for (InterfaceEntry<?> entry : entries) {
+            Interface ui = entry.get();
+            if (ui != null) {
+                list.add(ui);
+            }
+        }
+        return list;
+    }
+
+    /**
+     * @return An immutable list of the entries of all forms and menus available to the given platform, which does not
+     * require deserializing any interfaces. Forms are listed before menus.
+     */
+    @Nonnull
+    public List<InterfaceEntry<?>> getEntries(boolean bedrock) {
+        Index index = index();
+        return bedrock ? index.bedrock : index.java;
+    }
+
+    /**
+     * @return An immutable list of the entries of every form and menu, regardless of platform. Forms are listed
+     * before menus.
+     */
+    @Nonnull
+    public List<InterfaceEntry<?>> getEntries() {
+        return index().all;
+    }
+
+    private Index index() {
+        Map<String, InterfaceEntry<BedrockForm>> forms = bedrockRegistry.getEntries();
+        Map<String, InterfaceEntry<JavaMenu>> menus = javaRegistry.getEntries();
+
+        Index index = this.index;
+        // registries publish a new map when reloaded, so comparing identity is enough
+        if (index == null || index.forms != forms || index.menus != menus) {
+            index = new Index(forms, menus);
+            this.index = index;
+        }
+        return index;
+    }
+
+    private static final class Index {
+
+        private final Map<String, InterfaceEntry<BedrockForm>> forms;
+        private final Map<String, InterfaceEntry<JavaMenu>> menus;
+
+        private final List<InterfaceEntry<?>> bedrock;
+        private final List<InterfaceEntry<?>> java;
+        private final List<InterfaceEntry<?>> all;
+
+        private final Map<String, InterfaceEntry<?>> bedrockLookup;
+        private final Map<String, InterfaceEntry<?>> bedrockLookupLower;
+        private final Map<String, InterfaceEntry<?>> javaLookupLower;
+
+        private Index(Map<String, InterfaceEntry<BedrockForm>> forms, Map<String, InterfaceEntry<JavaMenu>> menus) {
+            this.forms = forms;
+            this.menus = menus;
+
+            ImmutableList.Builder<InterfaceEntry<?>> bedrock = ImmutableList.builder();
+            Map<String, InterfaceEntry<?>> bedrockLookup = new LinkedHashMap<>(forms);
+            bedrock.addAll(forms.values());
+            for (InterfaceEntry<JavaMenu> menu : menus.values()) {
                 if (menu.isAllowBedrock()) {
-                    list.add(menu);
+                    bedrock.add(menu);
+                    bedrockLookup.putIfAbsent(menu.getIdentifier(), menu); // forms have priority
                 }
             }
-        } else {
-            list.addAll(javaRegistry.getMenus().values());
+
+            this.bedrock = bedrock.build();
+            this.java = ImmutableList.copyOf(menus.values());
+            this.all = ImmutableList.<InterfaceEntry<?>>builder().addAll(forms.values()).addAll(menus.values()).build();
+            this.bedrockLookup = ImmutableMap.copyOf(bedrockLookup);
+            this.bedrockLookupLower = lowerCase(this.bedrock);
+            this.javaLookupLower = lowerCase(this.java);
         }
 
-        return list;
+        @Nullable
+        private InterfaceEntry<?> lookup(String name, boolean bedrock) {
+            InterfaceEntry<?> entry = bedrock ? bedrockLookup.get(name) : menus.get(name);
+            if (entry == null) {
+                entry = (bedrock ? bedrockLookupLower : javaLookupLower).get(name.toLowerCase(Locale.ROOT));
+            }
+            return entry;
+        }
+
+        private static Map<String, InterfaceEntry<?>> lowerCase(List<InterfaceEntry<?>> entries) {
+            Map<String, InterfaceEntry<?>> map = new HashMap<>();
+            for (InterfaceEntry<?> entry : entries) {
+                // the first entry has priority if identifiers only differ by case
+                map.putIfAbsent(entry.getIdentifier().toLowerCase(Locale.ROOT), entry);
+            }
+            return ImmutableMap.copyOf(map);
+        }
     }
 }
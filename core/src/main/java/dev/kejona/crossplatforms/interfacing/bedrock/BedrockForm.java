@@ -2,13 +2,17 @@ package dev.kejona.crossplatforms.interfacing.bedrock;
 
 import com.google.inject.Inject;
 import dev.kejona.crossplatforms.Constants;
+import dev.kejona.crossplatforms.CrossplatForms;
 import dev.kejona.crossplatforms.Logger;
 import dev.kejona.crossplatforms.action.Action;
+import dev.kejona.crossplatforms.config.GeneralConfig;
 import dev.kejona.crossplatforms.handler.BedrockHandler;
 import dev.kejona.crossplatforms.handler.FormPlayer;
-import dev.kejona.crossplatforms.handler.ServerHandler;
+import dev.kejona.crossplatforms.interfacing.Argument;
 import dev.kejona.crossplatforms.interfacing.Interface;
+import dev.kejona.crossplatforms.resolver.PrefetchedResolver;
 import dev.kejona.crossplatforms.resolver.Resolver;
+import dev.kejona.crossplatforms.resolver.Template;
 import dev.kejona.crossplatforms.serialize.KeyedType;
 import lombok.Getter;
 import lombok.ToString;
@@ -18,9 +22,16 @@ import org.geysermc.cumulus.response.result.InvalidFormResponseResult;
 import org.geysermc.cumulus.util.FormImage;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 
+import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 @ToString
 @Getter
@@ -28,18 +39,138 @@ import java.util.List;
 @SuppressWarnings("FieldMayBeFinal")
 public abstract class BedrockForm extends Interface implements KeyedType {
 
-    @Inject
-    protected transient ServerHandler serverHandler;
-
     @Inject
     protected transient BedrockHandler bedrockHandler;
     protected transient Logger logger = Logger.get();
 
-    protected final transient String permissionBase = Constants.Id() + ".form.";
+    protected final transient String permissionBase = permissionBase();
 
     // this needs to be moved to the form implementation if form specific actions are introduced
     private List<Action<? super BedrockForm>> incorrectActions = Collections.emptyList();
 
+    /**
+     * @return The base of the permissions of every form, e.g. "crossplatforms.form."
+     */
+    public static String permissionBase() {
+        return Constants.Id() + ".form.";
+    }
+
+    /**
+     * Builds and sends the form on the form executor of the server, if there is one and it is enabled. The form is
+     * prepared and its placeholders are resolved beforehand on the current thread, in one batch.
+     */
+    @Override
+    protected void dispatch(@Nonnull FormPlayer recipient, @Nullable Resolver arguments) {
+        dispatch(recipient, arguments, this::prepare);
+    }
+
+    /**
+     * Broadcasts without arguments prepare the form with a {@link #skeleton()}, which is built once and used for
+     * every recipient.
+     */
+    @Override
+    protected Consumer<FormPlayer> broadcaster(@Nullable Resolver arguments) {
+        if (arguments != null) {
+            return super.broadcaster(arguments);
+        }
+        Preparer skeleton = skeleton();
+        return recipient -> dispatch(recipient, null, skeleton);
+    }
+
+    /**
+     * Dispatches this form with the given preparer, for example to send another page of it. Must be called on the
+     * main thread.
+     * @param recipient The player to send to
+     * @param arguments Resolver for the arguments of this form, or null if there are none
+     * @param preparer Prepares the form for the player
+     */
+    protected final void dispatch(@Nonnull FormPlayer recipient, @Nullable Resolver arguments, @Nonnull Preparer preparer) {
+        long start = metrics.startTimer();
+        Resolver live = placeholders.resolver(recipient);
+        Resolver full = arguments == null ? live : arguments.then(live);
+        PreparedForm form = preparer.prepare(recipient, full);
+        if (form == null) {
+            return;
+        }
+        form.arguments = arguments;
+
+        Executor executor = serverHandler.getFormExecutor();
+        if (executor == null || !serverHandler.isPrimaryThread() || !asyncForms()) {
+            form.send(full, full);
+            metrics.opened(this, start);
+            return;
+        }
+
+        List<Template> templates = new ArrayList<>();
+        form.forEachTemplate(templates::add);
+        Set<String> excluded = new HashSet<>();
+        for (Argument argument : getArguments()) {
+            excluded.add(argument.placeholder());
+        }
+
+        Resolver prefetched = PrefetchedResolver.prefetch(live, serverHandler, templates, excluded);
+        Resolver resolver = arguments == null ? prefetched : arguments.then(prefetched);
+        executor.execute(() -> {
+            try {
+                // actions are run later, so they resolve everything again when the player responds
+                form.send(resolver, full);
+                metrics.opened(this, start);
+            } catch (Throwable e) {
+                logger.severe("Failed to build form '" + identifier + "' for " + recipient.getName() + ": " + e.getMessage());
+                if (logger.isDebug()) {
+                    e.printStackTrace();
+                }
+            }
+        });
+    }
+
+    @Override
+    public final void send(@Nonnull FormPlayer recipient, @Nonnull Resolver resolver) {
+        PreparedForm form = prepare(recipient, resolver);
+        if (form != null) {
+            form.send(resolver, resolver);
+        }
+    }
+
+    /**
+     * Does everything for sending this form that may touch the server API, such as running fillers. Must be called
+     * on the main thread.
+     * @param recipient The player to send to
+     * @param resolver The resolver to use for anything done while preparing
+     * @return The prepared form, or null if it can't be sent to the player
+     */
+    @Nullable
+    protected abstract PreparedForm prepare(@Nonnull FormPlayer recipient, @Nonnull Resolver resolver);
+
+    /**
+     * @return true if the player is a Bedrock player, otherwise logs that they are not and returns false
+     */
+    protected final boolean isBedrockPlayer(@Nonnull FormPlayer player) {
+        UUID uuid = player.getUuid();
+        if (bedrockHandler.isBedrockPlayer(uuid)) {
+            return true;
+        }
+        logger.severe(player.getName() + " with UUID " + uuid + " is not a Bedrock Player!");
+        return false;
+    }
+
+    /**
+     * Builds the parts of this form that are the same for every player, such as buttons and components without any
+     * placeholders, for sending it to many players. The default implementation doesn't reuse anything.
+     * @return A preparer that reuses the parts
+     */
+    @Nonnull
+    protected Preparer skeleton() {
+        return this::prepare;
+    }
+
+    private static boolean asyncForms() {
+        return CrossplatForms.getInstance().getConfigManager()
+            .getConfig(GeneralConfig.class)
+            .map(GeneralConfig::isAsyncForms)
+            .orElse(false);
+    }
+
     /**
      * Properly execute the response handler of a form, taking into account thread safety
      * @param runnable The response handler to execute
@@ -48,20 +179,43 @@ public abstract class BedrockForm extends Interface implements KeyedType {
     protected final void executeHandler(Runnable runnable) {
         if (bedrockHandler.executesResponseHandlersSafely()) {
             logger.debug("Executing response handler on this thread: " + Thread.currentThread().getName());
-            runnable.run();
+            runAndRecord(runnable);
         } else {
             serverHandler.executeSafely(() -> {
                 logger.debug("Executing response handler on thread: " + Thread.currentThread().getName());
-                runnable.run();
+                runAndRecord(runnable);
             });
         }
     }
 
+    /**
+     * Properly execute the response handler of a valid response, recording the response time.
+     * @param sent The time that the form was sent, from {@link dev.kejona.crossplatforms.metrics.MetricsRegistry#startTimer()}
+     * @param runnable The response handler to execute
+     * @see #executeHandler(Runnable)
+     */
+    protected final void executeHandler(long sent, Runnable runnable) {
+        metrics.responded(this, sent);
+        executeHandler(runnable);
+    }
+
+    private void runAndRecord(Runnable runnable) {
+        long start = metrics.startTimer();
+        runnable.run();
+        metrics.executed(this, start);
+    }
+
     /**
      * Handles closed or invalid form responses.
      * Note: this calls {@link #executeHandler(Runnable)}, so it should not be called to execute this method.
      */
     protected void handleIncorrect(FormPlayer player, Resolver resolver, FormResponseResult<? extends FormResponse> result) {
+        if (result.isClosed()) {
+            metrics.closed(this);
+        } else {
+            metrics.invalid(this);
+        }
+
         if (result.isInvalid() && logger.isDebug()) {
             logger.info("Handling invalid result from " + player.getName() + " for form " + getIdentifier());
             if (result instanceof InvalidFormResponseResult) {
@@ -73,6 +227,44 @@ public abstract class BedrockForm extends Interface implements KeyedType {
         executeHandler(() -> Action.affectPlayer(player, incorrectActions, resolver, this));
     }
 
+    /**
+     * Prepares a form for a player
+     * @see #prepare(FormPlayer, Resolver)
+     */
+    @FunctionalInterface
+    protected interface Preparer {
+
+        @Nullable
+        PreparedForm prepare(@Nonnull FormPlayer recipient, @Nonnull Resolver resolver);
+    }
+
+    /**
+     * A form that has been prepared for a player, which can be built and sent on any thread
+     */
+    protected abstract class PreparedForm {
+
+        /**
+         * Resolver for the arguments that the form was dispatched with, or null if there are none
+         */
+        @Nullable
+        protected Resolver arguments = null;
+
+        /**
+         * Passes every template that is resolved when this is sent, including anything generated while preparing
+         */
+        public void forEachTemplate(Consumer<Template> consumer) {
+            BedrockForm.this.forEachTemplate(consumer);
+        }
+
+        /**
+         * Builds and sends the form
+         * @param resolver The resolver for building the form, which should only be used for strings from
+         *                 {@link #forEachTemplate(Consumer)}
+         * @param handlers The resolver for the response handlers, which resolves placeholders when the player responds
+         */
+        public abstract void send(@Nonnull Resolver resolver, @Nonnull Resolver handlers);
+    }
+
     @Nullable
     public static FormImage createFormImage(@Nullable String data) {
         if (data == null || data.isEmpty()) {
@@ -1,63 +1,95 @@
 package dev.kejona.crossplatforms.interfacing.bedrock;
 
+import com.google.common.collect.ImmutableMap;
 import dev.kejona.crossplatforms.Logger;
 import dev.kejona.crossplatforms.config.ConfigManager;
+import dev.kejona.crossplatforms.config.Configuration;
+import dev.kejona.crossplatforms.interfacing.InterfaceEntry;
 import dev.kejona.crossplatforms.permission.Permission;
 import dev.kejona.crossplatforms.permission.Permissions;
+import dev.kejona.crossplatforms.permission.RegisteredPermissions;
 import dev.kejona.crossplatforms.reloadable.Reloadable;
 import dev.kejona.crossplatforms.reloadable.ReloadableRegistry;
+import dev.kejona.crossplatforms.serialize.Lazy;
+import dev.kejona.crossplatforms.utils.ConfigurateUtils;
 import lombok.Getter;
+import org.spongepowered.configurate.serialize.SerializationException;
 
 import javax.annotation.Nullable;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 
 public class BedrockFormRegistry implements Reloadable {
 
     private final ConfigManager configManager;
-    private final Permissions permissions;
+    private final RegisteredPermissions permissions;
 
+    /**
+     * Every form, which may not have been deserialized yet. This is an immutable snapshot that is replaced as a whole
+     * on reload, so it may be read from any thread.
+     */
     @Getter
-    private final Map<String, BedrockForm> forms = new HashMap<>();
+    private volatile Map<String, InterfaceEntry<BedrockForm>> entries = Collections.emptyMap();
 
     /**
      * If bedrock forms are enabled. may be false if disabled in the config or if all forms failed to load.
      */
     @Getter
-    private boolean enabled = false;
+    private volatile boolean enabled = false;
 
     public BedrockFormRegistry(ConfigManager configManager, Permissions permissions) {
         this.configManager = configManager;
-        this.permissions = permissions;
+        this.permissions = new RegisteredPermissions(permissions);
         ReloadableRegistry.register(this);
         load();
     }
 
-    private void load() {
-        forms.clear();
+    private synchronized void load() {
+        Map<String, InterfaceEntry<BedrockForm>> previous = entries;
 
         if (!configManager.getConfig(FormConfig.class).isPresent()) {
+            entries = Collections.emptyMap();
             enabled = false;
             Logger.get().warn("Form config is not present, not enabling forms.");
             return;
         }
 
         FormConfig config = configManager.getConfig(FormConfig.class).get();
-        enabled = config.isEnable();
-        if (enabled) {
+        ImmutableMap.Builder<String, InterfaceEntry<BedrockForm>> builder = ImmutableMap.builder();
+        if (config.isEnable()) {
             Set<Permission> permissions = new HashSet<>();
 
-            for (String identifier : config.getForms().keySet()) {
-                BedrockForm form = config.getForms().get(identifier);
-                forms.put(identifier, form);
+            for (Map.Entry<String, Lazy<BedrockForm>> form : config.getForms().entrySet()) {
+                String identifier = form.getKey();
+                InterfaceEntry<BedrockForm> entry;
+                try {
+                    entry = InterfaceEntry.of(identifier, form.getValue(), config, BedrockForm.permissionBase(), null);
+                } catch (SerializationException e) {
+                    Logger.get().severe("Failed to load form '" + identifier + "': " + ConfigurateUtils.stripPackageNames(e.getMessage()));
+                    continue;
+                }
 
-                form.generatePermissions(config);
-                permissions.addAll(form.getPermissions().values());
+                builder.put(identifier, entry);
+                permissions.addAll(entry.getPermissions().values());
             }
 
-            this.permissions.registerPermissions(permissions);
+            this.permissions.update(permissions);
+        } else {
+            this.permissions.update(Collections.emptySet());
+        }
+
+        // publish the new forms at once, so that concurrent lookups never see a partially loaded registry
+        Map<String, InterfaceEntry<BedrockForm>> entries = builder.build();
+        this.entries = entries;
+        this.enabled = config.isEnable();
+
+        if (!previous.isEmpty()) {
+            long added = entries.keySet().stream().filter(id -> !previous.containsKey(id)).count();
+            long removed = previous.keySet().stream().filter(id -> !entries.containsKey(id)).count();
+            Logger.get().debug("Reloaded forms: " + added + " added, " + removed + " removed, " + entries.size() + " total");
         }
     }
 
@@ -67,6 +99,11 @@ public class BedrockFormRegistry implements Reloadable {
         return true;
     }
 
+    @Override
+    public boolean dependsOn(Class<? extends Configuration> config) {
+        return config == FormConfig.class;
+    }
+
     /**
      * Get a BedrockForm, based off its name.
      * @param formName The menu name
@@ -74,6 +111,22 @@ public class BedrockFormRegistry implements Reloadable {
      */
     @Nullable
     public BedrockForm getForm(@Nullable String formName) {
-        return forms.get(formName);
+        InterfaceEntry<BedrockForm> entry = entries.get(formName);
+        return entry == null ? null : entry.get();
+    }
+
+    /**
+     * Get every form, deserializing any that have not been yet. Prefer {@link #getEntries()} if possible.
+     * @return A map of form identifiers to forms. Forms that failed to deserialize are not included.
+     */
+    public Map<String, BedrockForm> getForms() {
+        Map<String, BedrockForm> forms = new LinkedHashMap<>();
+        for (InterfaceEntry<BedrockForm> entry : entries.values()) {
+            BedrockForm form = entry.get();
+            if (form != null) {
+                forms.put(entry.getIdentifier(), form);
+            }
+        }
+        return forms;
     }
 }
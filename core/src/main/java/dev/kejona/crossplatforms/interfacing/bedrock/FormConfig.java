@@ -5,6 +5,7 @@ import dev.kejona.crossplatforms.interfacing.InterfaceConfig;
 import dev.kejona.crossplatforms.parser.BlockPlaceholderParser;
 import dev.kejona.crossplatforms.parser.Parser;
 import dev.kejona.crossplatforms.parser.ReplacementParser;
+import dev.kejona.crossplatforms.serialize.Lazy;
 import dev.kejona.crossplatforms.utils.ConfigurateUtils;
 import io.leangen.geantyref.TypeToken;
 import lombok.Getter;
@@ -32,7 +33,7 @@ public class FormConfig extends InterfaceConfig {
     public static final int VERSION = 5;
     public static final int MINIMUM_VERSION = 1;
 
-    private Map<String, BedrockForm> forms = Collections.emptyMap();
+    private Map<String, Lazy<BedrockForm>> forms = Collections.emptyMap();
 
     public static ConfigurationTransformation.Versioned updater() {
         return ConfigurationTransformation.versionedBuilder()
@@ -1,6 +1,7 @@
 package dev.kejona.crossplatforms.interfacing.bedrock;
 
 import dev.kejona.crossplatforms.Logger;
+import dev.kejona.crossplatforms.resolver.Template;
 import dev.kejona.crossplatforms.utils.ParseUtils;
 import dev.kejona.crossplatforms.utils.StringUtils;
 import lombok.ToString;
@@ -12,6 +13,7 @@ import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -62,6 +64,15 @@ public abstract class OptionalElement {
         return false;
     }
 
+    /**
+     * Passes the should-show expressions, which are resolved before deciding if this should be shown
+     */
+    protected void forEachExpression(Consumer<Template> consumer) {
+        for (String expression : shouldShow) {
+            consumer.accept(Template.compile(expression));
+        }
+    }
+
     private static String toPlain(String text) {
         if (StringUtils.hasChar(text, LegacyComponentSerializer.SECTION_CHAR)) {
             return PLAIN.serialize(LEGACY.deserialize(text));
@@ -8,11 +8,14 @@ import dev.kejona.crossplatforms.handler.FormPlayer;
 import dev.kejona.crossplatforms.interfacing.bedrock.BedrockForm;
 import dev.kejona.crossplatforms.resolver.MapResolver;
 import dev.kejona.crossplatforms.resolver.Resolver;
+import dev.kejona.crossplatforms.resolver.Template;
 import dev.kejona.crossplatforms.serialize.KeyedType;
 import lombok.ToString;
+import org.geysermc.cumulus.component.Component;
 import org.geysermc.cumulus.form.CustomForm;
 import org.geysermc.cumulus.util.FormImage;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.PostProcess;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -21,7 +24,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
+import java.util.function.Consumer;
 
 @ToString(callSuper = true)
 @ConfigSerializable
@@ -32,6 +35,10 @@ public class CustomBedrockForm extends BedrockForm implements KeyedType {
 
     @Nullable
     private String image = null;
+    @Nullable
+    @ToString.Exclude
+    private transient Template imageTemplate = null;
+
     private List<CustomComponent> components = Collections.emptyList();
     private List<Action<? super CustomBedrockForm>> actions = Collections.emptyList();
 
@@ -40,50 +47,125 @@ public class CustomBedrockForm extends BedrockForm implements KeyedType {
         return TYPE;
     }
 
+    @PostProcess
+    private void compileImage() {
+        imageTemplate = Template.compile(image);
+    }
+
     @Override
-    public void send(@Nonnull FormPlayer player, @Nonnull Resolver resolver) {
-        Logger logger = Logger.get();
-        UUID uuid = player.getUuid();
+    public void forEachTemplate(Consumer<Template> consumer) {
+        super.forEachTemplate(consumer);
+        if (imageTemplate != null) {
+            consumer.accept(imageTemplate);
+        }
+    }
+
+    @Nullable
+    @Override
+    protected PreparedForm prepare(@Nonnull FormPlayer player, @Nonnull Resolver resolver) {
+        return isBedrockPlayer(player) ? prepare(player, resolver, null) : null;
+    }
+
+    /**
+     * Builds every component that is the same for every player, which then doesn't have to be copied or resolved.
+     */
+    @Nonnull
+    @Override
+    protected Preparer skeleton() {
+        Component[] prebuilt = new Component[components.size()];
+        boolean any = false;
+        for (int i = 0; i < prebuilt.length; i++) {
+            CustomComponent component = components.get(i);
+            if (component.isStatic()) {
+                try {
+                    prebuilt[i] = component.cumulusComponent();
+                    any = true;
+                } catch (IllegalValueException e) {
+                    // reported to each player when built like any other component
+                }
+            }
+        }
+        if (!any) {
+            return this::prepare;
+        }
 
-        if (!bedrockHandler.isBedrockPlayer(uuid)) {
-            logger.severe("Player with UUID " + uuid + " is not a Bedrock Player!");
-            return;
+        return (player, resolver) -> isBedrockPlayer(player) ? prepare(player, resolver, prebuilt) : null;
+    }
+
+    /**
+     * @param prebuilt Components to use instead of building the component at the same index, which may be null
+     */
+    private PreparedForm prepare(FormPlayer player, Resolver resolver, @Nullable Component[] prebuilt) {
+        // copy the components and run their fillers, which may touch the server API
+        PlayerContext context = new PlayerContext(player, resolver);
+        List<CustomComponent> filled = new ArrayList<>(components.size());
+        for (int i = 0; i < components.size(); i++) {
+            CustomComponent component = components.get(i);
+            if (prebuilt != null && prebuilt[i] != null) {
+                filled.add(component); // static, so it is never modified
+            } else {
+                CustomComponent copy = component.copy();
+                copy.fill(context);
+                filled.add(copy);
+            }
         }
 
-        CustomForm.Builder builder = CustomForm.builder().title(resolver.apply(super.getTitle()));
+        return new PreparedForm() {
+            @Override
+            public void forEachTemplate(Consumer<Template> consumer) {
+                super.forEachTemplate(consumer);
+                for (int i = 0; i < filled.size(); i++) {
+                    if (prebuilt == null || prebuilt[i] == null) {
+                        filled.get(i).forEachTemplate(consumer);
+                    }
+                }
+            }
+
+            @Override
+            public void send(@Nonnull Resolver resolver, @Nonnull Resolver handlers) {
+                sendFilled(player, resolver, handlers, filled, prebuilt);
+            }
+        };
+    }
 
-        FormImage image = createFormImage(resolver.apply(this.image));
+    private void sendFilled(FormPlayer player, Resolver resolver, Resolver handlers, List<CustomComponent> components,
+                            @Nullable Component[] prebuilt) {
+        Logger logger = Logger.get();
+        CustomForm.Builder builder = CustomForm.builder().title(resolver.render(getTitleTemplate()));
+
+        FormImage image = createFormImage(resolver.render(imageTemplate));
         if (image != null) {
             // cleanup when cumulus gets CustomForm.Builder#icon(@Nullable FormImage) method
             builder.icon(image.type(), image.data());
         }
 
-        // Setup and add components
-        List<CustomComponent> formatted = new ArrayList<>();
-        try {
-            PlayerContext context = new PlayerContext(player, resolver); // todo: move upwards
-            for (CustomComponent component : this.components) {
-                // resolve placeholders
-                CustomComponent prepared = component.preparedCopy(context);
-                formatted.add(prepared);
-
-                // add component to form
-                builder.optionalComponent(prepared.cumulusComponent(), prepared.show());
+        // Resolve placeholders of the components and add them to the form
+        PlayerContext context = new PlayerContext(player, resolver);
+        for (int i = 0; i < components.size(); i++) {
+            CustomComponent component = components.get(i);
+            if (prebuilt != null && prebuilt[i] != null) {
+                builder.optionalComponent(prebuilt[i], component.show());
+                continue;
+            }
+            try {
+                component.prepare(context);
+                builder.optionalComponent(component.cumulusComponent(), component.show());
+            } catch (IllegalValueException e) {
+                player.warn("There was an error sending a form to you.");
+                logger.severe("Failed to send form " + identifier + " to " + player.getName() + " because the " + e.identifier() + " of component " + i + " was '" + e.value() + "' and could not be converted to a " + e.expectedType());
+                return;
             }
-        } catch (IllegalValueException e) {
-            player.warn("There was an error sending a form to you.");
-            logger.severe("Failed to send form " + identifier + " to " + player.getName() + " because the " + e.identifier() + " of component " + (components.size() - 1) + " was '" + e.value() + "' and could not be converted to a " + e.expectedType());
-            return;
         }
 
-        builder.closedOrInvalidResultHandler((result) -> handleIncorrect(player, resolver, result));
+        builder.closedOrInvalidResultHandler((result) -> handleIncorrect(player, handlers, result));
 
-        builder.validResultHandler((form, response) -> executeHandler(() -> {
+        long sent = metrics.startTimer();
+        builder.validResultHandler((form, response) -> executeHandler(sent, () -> {
             response.includeLabels(true); // allow label to be used as result placeholder
 
             Map<String, String> resultPlaceholders = new HashMap<>();
-            for (int i = 0; i < formatted.size(); i++) {
-                CustomComponent component = formatted.get(i);
+            for (int i = 0; i < components.size(); i++) {
+                CustomComponent component = components.get(i);
                 Object result = response.valueAt(i);
 
                 String value;
@@ -103,14 +185,14 @@ public class CustomBedrockForm extends BedrockForm implements KeyedType {
                 }
             }
 
-            Resolver subResolver = new MapResolver(resultPlaceholders).then(resolver);
+            Resolver subResolver = new MapResolver(resultPlaceholders).then(handlers);
 
             // Handle effects of pressing the button
             Action.affectPlayer(player, actions, subResolver, this);
         }));
 
         // Send the form to the floodgate player
-        bedrockHandler.sendForm(uuid, builder.build());
+        bedrockHandler.sendForm(player.getUuid(), builder.build());
     }
 
     private static String placeholder(int i) {
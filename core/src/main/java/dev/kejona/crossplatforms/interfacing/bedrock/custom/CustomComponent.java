@@ -7,6 +7,7 @@ import dev.kejona.crossplatforms.handler.FormPlayer;
 import dev.kejona.crossplatforms.interfacing.bedrock.OptionalElement;
 import dev.kejona.crossplatforms.parser.Parser;
 import dev.kejona.crossplatforms.resolver.Resolver;
+import dev.kejona.crossplatforms.resolver.Template;
 import dev.kejona.crossplatforms.serialize.KeyedType;
 import lombok.Getter;
 import lombok.Setter;
@@ -14,9 +15,11 @@ import lombok.ToString;
 import org.geysermc.cumulus.component.Component;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @ToString(callSuper = true)
@@ -62,6 +65,42 @@ public abstract class CustomComponent extends OptionalElement implements KeyedTy
         this.mode = source.mode;
     }
 
+    /**
+     * Adds anything that is generated for a player, such as the options of fillers. This may touch the server API, so
+     * it should be called on the main thread. {@link #prepare(PlayerContext)} fills the component if this hasn't been
+     * called yet.
+     */
+    public void fill(@Nonnull PlayerContext context) {
+        // no-op
+    }
+
+    /**
+     * Passes every string that {@link #prepare(PlayerContext)} resolves, which includes anything that has been filled
+     */
+    public void forEachTemplate(@Nonnull Consumer<Template> consumer) {
+        accept(consumer, text);
+        forEachExpression(consumer);
+    }
+
+    /**
+     * @return true if this component is the same for every player, meaning that it has nothing to fill and that none
+     * of its strings contain placeholders. It then does not need to be prepared.
+     */
+    public boolean isStatic() {
+        boolean[] plain = {true};
+        forEachTemplate(template -> plain[0] &= template.isPlain());
+        return plain[0];
+    }
+
+    /**
+     * Compiles and passes the given string to the consumer, if it is not null
+     */
+    protected static void accept(@Nonnull Consumer<Template> consumer, @Nullable String s) {
+        if (s != null) {
+            consumer.accept(Template.compile(s));
+        }
+    }
+
     public void prepare(@Nonnull PlayerContext context) {
         Resolver resolver = context.resolver();
         text = resolver.apply(text);
@@ -2,6 +2,7 @@ package dev.kejona.crossplatforms.interfacing.bedrock.custom;
 
 import com.google.inject.Inject;
 import dev.kejona.crossplatforms.context.PlayerContext;
+import dev.kejona.crossplatforms.resolver.Template;
 import lombok.Getter;
 import lombok.ToString;
 import org.geysermc.cumulus.component.Component;
@@ -10,6 +11,7 @@ import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 
 import javax.annotation.Nonnull;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 @ToString(callSuper = true)
 @Getter
@@ -52,6 +54,13 @@ public class Input extends AbstractComponent<Input> {
         return InputComponent.of(text, placeholder, defaultText);
     }
 
+    @Override
+    public void forEachTemplate(@Nonnull Consumer<Template> consumer) {
+        super.forEachTemplate(consumer);
+        accept(consumer, placeholder);
+        accept(consumer, defaultText);
+    }
+
     @Override
     public void prepare(@Nonnull PlayerContext context) {
         super.prepare(context);
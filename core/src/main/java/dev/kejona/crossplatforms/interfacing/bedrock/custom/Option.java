@@ -1,10 +1,12 @@
 package dev.kejona.crossplatforms.interfacing.bedrock.custom;
 
 import dev.kejona.crossplatforms.resolver.Resolver;
+import dev.kejona.crossplatforms.resolver.Template;
 import org.jetbrains.annotations.Contract;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.function.Consumer;
 
 public class Option {
 
@@ -34,6 +36,16 @@ public class Option {
         }
     }
 
+    /**
+     * Passes the strings that {@link #with(Resolver)} resolves
+     */
+    public void forEachTemplate(@Nonnull Consumer<Template> consumer) {
+        consumer.accept(Template.compile(display));
+        if (returnText != null) {
+            consumer.accept(Template.compile(returnText));
+        }
+    }
+
     @Nonnull
     public String display() {
         return display;
@@ -5,6 +5,7 @@ import dev.kejona.crossplatforms.IllegalValueException;
 import dev.kejona.crossplatforms.context.PlayerContext;
 import dev.kejona.crossplatforms.handler.FormPlayer;
 import dev.kejona.crossplatforms.resolver.Resolver;
+import dev.kejona.crossplatforms.resolver.Template;
 import dev.kejona.crossplatforms.utils.ParseUtils;
 import lombok.Getter;
 import lombok.ToString;
@@ -13,6 +14,7 @@ import org.geysermc.cumulus.component.SliderComponent;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 
 import javax.annotation.Nonnull;
+import java.util.function.Consumer;
 
 @ToString(callSuper = true)
 @Getter
@@ -53,6 +55,15 @@ public class Slider extends AbstractComponent<Slider> {
         );
     }
 
+    @Override
+    public void forEachTemplate(@Nonnull Consumer<Template> consumer) {
+        super.forEachTemplate(consumer);
+        accept(consumer, min);
+        accept(consumer, max);
+        accept(consumer, step);
+        accept(consumer, defaultValue);
+    }
+
     @Override
     public void prepare(@Nonnull PlayerContext context) {
         super.prepare(context);
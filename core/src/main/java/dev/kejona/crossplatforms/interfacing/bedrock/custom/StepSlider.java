@@ -6,6 +6,7 @@ import dev.kejona.crossplatforms.context.PlayerContext;
 import dev.kejona.crossplatforms.filler.OptionFiller;
 import dev.kejona.crossplatforms.handler.FormPlayer;
 import dev.kejona.crossplatforms.resolver.Resolver;
+import dev.kejona.crossplatforms.resolver.Template;
 import dev.kejona.crossplatforms.utils.ParseUtils;
 import lombok.Getter;
 import lombok.ToString;
@@ -16,6 +17,7 @@ import javax.annotation.Nonnull;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @ToString(callSuper = true)
@@ -60,12 +62,31 @@ public class StepSlider extends AbstractComponent<StepSlider> {
     }
 
     @Override
-    public void prepare(@Nonnull PlayerContext context) {
-        super.prepare(context);
-        // apply fillers
+    public void fill(@Nonnull PlayerContext context) {
         for (OptionFiller filler : fillers) {
             filler.fillOptions(steps, context);
         }
+        fillers = Collections.emptyList(); // only fill once
+    }
+
+    @Override
+    public boolean isStatic() {
+        return fillers.isEmpty() && super.isStatic();
+    }
+
+    @Override
+    public void forEachTemplate(@Nonnull Consumer<Template> consumer) {
+        super.forEachTemplate(consumer);
+        for (Option option : steps) {
+            option.forEachTemplate(consumer);
+        }
+        accept(consumer, defaultStep);
+    }
+
+    @Override
+    public void prepare(@Nonnull PlayerContext context) {
+        super.prepare(context);
+        fill(context);
 
         // apply placeholders
         Resolver resolver = context.resolver();
@@ -3,6 +3,7 @@ package dev.kejona.crossplatforms.interfacing.bedrock.custom;
 import com.google.inject.Inject;
 import dev.kejona.crossplatforms.IllegalValueException;
 import dev.kejona.crossplatforms.context.PlayerContext;
+import dev.kejona.crossplatforms.resolver.Template;
 import dev.kejona.crossplatforms.utils.ParseUtils;
 import lombok.Getter;
 import lombok.ToString;
@@ -10,6 +11,7 @@ import org.geysermc.cumulus.component.ToggleComponent;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 
 import javax.annotation.Nonnull;
+import java.util.function.Consumer;
 
 @ToString(callSuper = true)
 @Getter
@@ -30,6 +32,12 @@ public class Toggle extends AbstractComponent<Toggle> {
         return ToggleComponent.of(text, ParseUtils.getBoolean(defaultValue, "default-value"));
     }
 
+    @Override
+    public void forEachTemplate(@Nonnull Consumer<Template> consumer) {
+        super.forEachTemplate(consumer);
+        accept(consumer, defaultValue);
+    }
+
     @Override
     public void prepare(@Nonnull PlayerContext context) {
         super.prepare(context);
@@ -1,18 +1,20 @@
 package dev.kejona.crossplatforms.interfacing.bedrock.modal;
 
-import dev.kejona.crossplatforms.Logger;
 import dev.kejona.crossplatforms.action.Action;
 import dev.kejona.crossplatforms.handler.FormPlayer;
 import dev.kejona.crossplatforms.interfacing.bedrock.BedrockForm;
 import dev.kejona.crossplatforms.resolver.Resolver;
+import dev.kejona.crossplatforms.resolver.Template;
 import lombok.ToString;
 import org.geysermc.cumulus.form.ModalForm;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.PostProcess;
 import org.spongepowered.configurate.objectmapping.meta.Required;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.List;
-import java.util.UUID;
+import java.util.function.Consumer;
 
 @ToString(callSuper = true)
 @ConfigSerializable
@@ -23,6 +25,9 @@ public class ModalBedrockForm extends BedrockForm {
 
     private String content = "";
 
+    @ToString.Exclude
+    private transient Template contentTemplate = Template.EMPTY;
+
     @Required
     private ModalButton button1 = null;
 
@@ -34,39 +39,55 @@ public class ModalBedrockForm extends BedrockForm {
         return TYPE;
     }
 
+    @PostProcess
+    private void compileContent() {
+        contentTemplate = Template.compile(content);
+    }
+
     @Override
-    public void send(@Nonnull FormPlayer player, @Nonnull Resolver resolver) {
-        Logger logger = Logger.get();
-        UUID uuid = player.getUuid();
+    public void forEachTemplate(Consumer<Template> consumer) {
+        super.forEachTemplate(consumer);
+        consumer.accept(contentTemplate);
+        consumer.accept(button1.getTextTemplate());
+        consumer.accept(button2.getTextTemplate());
+    }
 
-        if (!bedrockHandler.isBedrockPlayer(uuid)) {
-            logger.severe("Player with UUID " + uuid + " is not a Bedrock Player!");
-            return;
+    @Nullable
+    @Override
+    protected PreparedForm prepare(@Nonnull FormPlayer player, @Nonnull Resolver resolver) {
+        if (!isBedrockPlayer(player)) {
+            return null;
         }
 
-        ModalForm form = ModalForm.builder()
-            .title(resolver.apply(getTitle()))
-            .content(resolver.apply(content))
-            .button1(resolver.apply(button1.getText()))
-            .button2(resolver.apply(button2.getText()))
-            .closedOrInvalidResultHandler((result) -> handleIncorrect(player, resolver, result))
-            .validResultHandler(response -> executeHandler(() -> {
-                int id = response.clickedButtonId();
-                List<Action<? super ModalBedrockForm>> actions;
-                if (id == 0) {
-                    actions = button1.getActions();
-                } else if (id == 1) {
-                    actions = button2.getActions();
-                } else {
-                    throw new AssertionError("Got " + id + " from modal form response instead of 0 or 1");
-                }
+        return new PreparedForm() {
+            @Override
+            public void send(@Nonnull Resolver resolver, @Nonnull Resolver handlers) {
+                long sent = metrics.startTimer();
+                ModalForm form = ModalForm.builder()
+                    .title(resolver.render(getTitleTemplate()))
+                    .content(resolver.render(contentTemplate))
+                    .button1(resolver.render(button1.getTextTemplate()))
+                    .button2(resolver.render(button2.getTextTemplate()))
+                    .closedOrInvalidResultHandler((result) -> handleIncorrect(player, handlers, result))
+                    .validResultHandler(response -> executeHandler(sent, () -> {
+                        int id = response.clickedButtonId();
+                        List<Action<? super ModalBedrockForm>> actions;
+                        if (id == 0) {
+                            actions = button1.getActions();
+                        } else if (id == 1) {
+                            actions = button2.getActions();
+                        } else {
+                            throw new AssertionError("Got " + id + " from modal form response instead of 0 or 1");
+                        }
 
-                // Handle effects of pressing the button
-                Action.affectPlayer(player, actions, resolver, this);
-            }))
-            .build();
+                        // Handle effects of pressing the button
+                        Action.affectPlayer(player, actions, handlers, ModalBedrockForm.this);
+                    }))
+                    .build();
 
-        // Send the form to the floodgate player
-        bedrockHandler.sendForm(uuid, form);
+                // Send the form to the floodgate player
+                bedrockHandler.sendForm(player.getUuid(), form);
+            }
+        };
     }
 }
@@ -1,9 +1,11 @@
 package dev.kejona.crossplatforms.interfacing.bedrock.modal;
 
 import dev.kejona.crossplatforms.action.Action;
+import dev.kejona.crossplatforms.resolver.Template;
 import lombok.Getter;
 import lombok.ToString;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.PostProcess;
 import org.spongepowered.configurate.objectmapping.meta.Required;
 
 import java.util.Collections;
@@ -19,4 +21,15 @@ public class ModalButton {
     private String text = null;
 
     private List<Action<? super ModalBedrockForm>> actions = Collections.emptyList();
+
+    /**
+     * The text compiled at load time
+     */
+    @ToString.Exclude
+    private transient Template textTemplate = Template.EMPTY;
+
+    @PostProcess
+    private void compileText() {
+        textTemplate = Template.compile(text);
+    }
 }
@@ -1,20 +1,24 @@
 package dev.kejona.crossplatforms.interfacing.bedrock.simple;
 
-import dev.kejona.crossplatforms.Logger;
 import dev.kejona.crossplatforms.context.PlayerContext;
 import dev.kejona.crossplatforms.resolver.Resolver;
+import dev.kejona.crossplatforms.resolver.Template;
 import dev.kejona.crossplatforms.filler.SimpleFormFiller;
 import dev.kejona.crossplatforms.handler.FormPlayer;
 import dev.kejona.crossplatforms.interfacing.bedrock.BedrockForm;
 import lombok.ToString;
 import org.geysermc.cumulus.form.SimpleForm;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.PostProcess;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.function.Consumer;
 
 @ToString(callSuper = true)
 @ConfigSerializable
@@ -24,48 +28,259 @@ public class SimpleBedrockForm extends BedrockForm {
     public static final String TYPE = "simple_form";
 
     private String content = "";
+
+    @ToString.Exclude
+    private transient Template contentTemplate = Template.EMPTY;
+
     private List<SimpleButton> buttons = Collections.emptyList();
     private List<SimpleFormFiller> fillers = Collections.emptyList();
 
+    /**
+     * The appearance of the buttons that change the page, if any filler has a page size. Their actions are not run.
+     */
+    private SimpleButton previousPage = new SimpleButton("Previous Page");
+    private SimpleButton nextPage = new SimpleButton("Next Page");
+
+    /**
+     * The prebuilt buttons if this form is the same for every player, in which case the title and content are plain
+     * text too. Otherwise, null.
+     */
+    @Nullable
+    @ToString.Exclude
+    private transient SimpleButton.Snapshot[] staticButtons = null;
+
     @Override
     public String type() {
         return TYPE;
     }
 
-    @Override
-    public void send(@Nonnull FormPlayer player, @Nonnull Resolver resolver) {
-        Logger logger = Logger.get();
-        UUID uuid = player.getUuid();
-        if (!bedrockHandler.isBedrockPlayer(uuid)) {
-            logger.severe(player.getName() + " with UUID " + uuid + " is not a Bedrock Player!");
+    @PostProcess
+    private void compileContent() {
+        contentTemplate = Template.compile(content);
+    }
+
+    @PostProcess
+    private void prebuildStatic() {
+        // this runs after the buttons have been post processed, but possibly before other methods of this class
+        staticButtons = null;
+        if (!fillers.isEmpty() || !getArguments().isEmpty()) {
+            return;
+        }
+        if (!Template.isPlain(getTitle()) || !Template.isPlain(content)) {
             return;
         }
+        for (SimpleButton button : buttons) {
+            if (!button.isStatic()) {
+                return;
+            }
+        }
 
-        SimpleForm.Builder form = SimpleForm.builder()
-            .title(resolver.apply(getTitle()))
-            .content(resolver.apply(content));
+        SimpleButton.Snapshot[] snapshots = new SimpleButton.Snapshot[buttons.size()];
+        for (int i = 0; i < snapshots.length; i++) {
+            snapshots[i] = buttons.get(i).snapshot();
+        }
+        staticButtons = snapshots;
+    }
+
+    /**
+     * @return true if this form is the same for every player, and is sent without resolving anything
+     */
+    public boolean isStatic() {
+        return staticButtons != null;
+    }
 
+    @Override
+    public void forEachTemplate(Consumer<Template> consumer) {
+        super.forEachTemplate(consumer);
+        consumer.accept(contentTemplate);
+        for (SimpleButton button : buttons) {
+            button.forEachTemplate(consumer);
+        }
+        if (isPaged()) {
+            previousPage.forEachTemplate(consumer);
+            nextPage.forEachTemplate(consumer);
+        }
+    }
+
+    /**
+     * @return true if any filler has a page size, in which case the form is sent one page at a time
+     */
+    public boolean isPaged() {
+        for (SimpleFormFiller filler : fillers) {
+            if (filler.pageSize() > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Nullable
+    @Override
+    protected PreparedForm prepare(@Nonnull FormPlayer player, @Nonnull Resolver resolver) {
+        if (!isBedrockPlayer(player)) {
+            return null;
+        }
+
+        if (staticButtons != null) {
+            return new PreparedForm() {
+                @Override
+                public void forEachTemplate(Consumer<Template> consumer) {
+                    // nothing is resolved
+                }
+
+                @Override
+                public void send(@Nonnull Resolver resolver, @Nonnull Resolver handlers) {
+                    sendStatic(player, handlers);
+                }
+            };
+        }
+
+        return preparePage(player, resolver, 0, Collections.emptyMap());
+    }
+
+    /**
+     * Takes a snapshot of every configured button that is the same for every player, unless the whole form already is.
+     */
+    @Nonnull
+    @Override
+    protected Preparer skeleton() {
+        if (staticButtons != null) {
+            return this::prepare;
+        }
+
+        Map<SimpleButton, SimpleButton.Snapshot> snapshots = new IdentityHashMap<>();
+        for (SimpleButton button : buttons) {
+            if (button.isStatic()) {
+                snapshots.put(button, button.snapshot());
+            }
+        }
+        if (snapshots.isEmpty()) {
+            return this::prepare;
+        }
+
+        return (player, resolver) -> isBedrockPlayer(player) ? preparePage(player, resolver, 0, snapshots) : null;
+    }
+
+    /**
+     * Fills the given page of this form, which may touch the server API.
+     * @param page The page of the fillers to send, starting at 0
+     * @param snapshots Snapshots of configured buttons to add instead of resolving them
+     */
+    private PreparedForm preparePage(FormPlayer player, Resolver resolver, int page,
+                                     Map<SimpleButton, SimpleButton.Snapshot> snapshots) {
         // make a copy of the buttons
         List<SimpleButton> buttons = new ArrayList<>(this.buttons);
 
         // fill the copy with additional buttons
         PlayerContext context = new PlayerContext(player, resolver);
+        boolean more = false;
         for (SimpleFormFiller filler : fillers) {
-            filler.fillButtons(buttons, context);
+            more |= filler.fillButtons(buttons, context, page);
         }
+        boolean hasNext = more;
+
+        return new PreparedForm() {
+            @Override
+            public void forEachTemplate(Consumer<Template> consumer) {
+                super.forEachTemplate(consumer);
+                if (!fillers.isEmpty()) {
+                    // the configured buttons have already been passed, but it is simpler to pass them again
+                    for (SimpleButton button : buttons) {
+                        button.forEachTemplate(consumer);
+                    }
+                }
+            }
+
+            @Override
+            public void send(@Nonnull Resolver resolver, @Nonnull Resolver handlers) {
+                sendPage(player, resolver, handlers, arguments, page, buttons, hasNext, snapshots);
+            }
+        };
+    }
+
+    private Preparer pagePreparer(int page, Map<SimpleButton, SimpleButton.Snapshot> snapshots) {
+        return (player, resolver) -> preparePage(player, resolver, page, snapshots);
+    }
+
+    /**
+     * Sends the given page of this form. If a page button is clicked, the other page is dispatched like any other send
+     * of this form, so that everything on it is resolved again.
+     * @param resolver The resolver for building the form
+     * @param handlers The resolver for the response handlers
+     * @param arguments The arguments that the form was dispatched with
+     * @param buttons The buttons of the page, after filling
+     * @param more true if there is a page after this one
+     */
+    private void sendPage(FormPlayer player, Resolver resolver, Resolver handlers, @Nullable Resolver arguments, int page,
+                          List<SimpleButton> buttons, boolean more, Map<SimpleButton, SimpleButton.Snapshot> snapshots) {
+        SimpleForm.Builder form = SimpleForm.builder()
+            .title(resolver.render(getTitleTemplate()))
+            .content(resolver.render(contentTemplate));
 
         // resolve relevant placeholders and add it to the form
-        buttons.forEach(button -> button.addTo(form, resolver));
+        for (SimpleButton button : buttons) {
+            SimpleButton.Snapshot snapshot = snapshots.get(button);
+            if (snapshot == null) {
+                button.addTo(form, resolver);
+            } else {
+                snapshot.addTo(form);
+            }
+        }
+
+        // the page buttons go after every other button, and are not in the list of buttons
+        int previous = -1;
+        int next = -1;
+        if (page > 0) {
+            previous = buttons.size();
+            previousPage.addTo(form, resolver);
+        }
+        if (more) {
+            next = previous < 0 ? buttons.size() : previous + 1;
+            nextPage.addTo(form, resolver);
+        }
+        int previousId = previous;
+        int nextId = next;
 
         // actions for incorrect response (closed or invalid response)
-        form.closedOrInvalidResultHandler((result) -> handleIncorrect(player, resolver, result));
+        form.closedOrInvalidResultHandler((result) -> handleIncorrect(player, handlers, result));
 
         // actions for correct response
-        form.validResultHandler(response -> executeHandler(
-            () -> buttons.get(response.clickedButtonId()).click(player, this, resolver)
-        ));
+        long sent = metrics.startTimer();
+        form.validResultHandler(response -> executeHandler(sent, () -> {
+            int id = response.clickedButtonId();
+            if (id == previousId) {
+                dispatch(player, arguments, pagePreparer(page - 1, snapshots));
+            } else if (id == nextId) {
+                dispatch(player, arguments, pagePreparer(page + 1, snapshots));
+            } else {
+                buttons.get(id).click(player, this, handlers);
+            }
+        }));
 
         // Send the form to the floodgate player
-        bedrockHandler.sendForm(uuid, form.build());
+        bedrockHandler.sendForm(player.getUuid(), form.build());
+    }
+
+    /**
+     * Sends this form using the prebuilt buttons, only attaching the response handlers for the player.
+     */
+    private void sendStatic(FormPlayer player, Resolver handlers) {
+        SimpleForm.Builder form = SimpleForm.builder()
+            .title(getTitle())
+            .content(content);
+
+        for (SimpleButton.Snapshot button : staticButtons) {
+            button.addTo(form);
+        }
+
+        form.closedOrInvalidResultHandler((result) -> handleIncorrect(player, handlers, result));
+
+        // buttons are never modified after loading, so no copy is necessary
+        long sent = metrics.startTimer();
+        form.validResultHandler(response -> executeHandler(sent,
+            () -> buttons.get(response.clickedButtonId()).click(player, this, handlers)
+        ));
+
+        bedrockHandler.sendForm(player.getUuid(), form.build());
     }
 }
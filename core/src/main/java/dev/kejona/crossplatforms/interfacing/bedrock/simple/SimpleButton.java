@@ -3,6 +3,7 @@ package dev.kejona.crossplatforms.interfacing.bedrock.simple;
 import dev.kejona.crossplatforms.handler.Placeholders;
 import dev.kejona.crossplatforms.resolver.MapResolver;
 import dev.kejona.crossplatforms.resolver.Resolver;
+import dev.kejona.crossplatforms.resolver.Template;
 import dev.kejona.crossplatforms.action.Action;
 import dev.kejona.crossplatforms.filler.SimpleFormFiller;
 import dev.kejona.crossplatforms.handler.FormPlayer;
@@ -15,6 +16,7 @@ import org.geysermc.cumulus.form.SimpleForm;
 import org.geysermc.cumulus.util.FormImage;
 import org.jetbrains.annotations.Contract;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.PostProcess;
 import org.spongepowered.configurate.objectmapping.meta.Setting;
 
 import javax.annotation.Nonnull;
@@ -23,6 +25,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 @ToString(callSuper = true)
 @AllArgsConstructor
@@ -43,13 +46,29 @@ public class SimpleButton extends OptionalElement {
     @Nullable
     private transient SimpleButton raw = null;
 
+    @Nullable
+    @ToString.Exclude
+    private transient Template textTemplate;
+
+    @Nullable
+    @ToString.Exclude
+    private transient Template imageTemplate;
+
     public SimpleButton(@Nonnull String text) {
         this.text = text;
+        compileTemplates();
     }
 
     public SimpleButton(@Nonnull String text, @Nullable String imageData) {
         this.text = text;
         this.imageData = imageData;
+        compileTemplates();
+    }
+
+    @PostProcess
+    private void compileTemplates() {
+        textTemplate = Template.compile(text);
+        imageTemplate = Template.compile(imageData);
     }
 
     @Nonnull
@@ -88,14 +107,18 @@ public class SimpleButton extends OptionalElement {
         SimpleButton copy = new SimpleButton();
         if (this.text == null) {
             copy.text = raw.text; // user did not override, use raw as text
+            copy.textTemplate = raw.textTemplate;
         } else {
             copy.text = this.text;
+            copy.textTemplate = this.textTemplate;
         }
 
         if (this.imageData == null) {
             copy.imageData = raw.imageData; // user did not override...
+            copy.imageTemplate = raw.imageTemplate;
         } else {
             copy.imageData = this.imageData;
+            copy.imageTemplate = this.imageTemplate;
         }
 
         copy.actions = this.actions; // we don't support generated actions
@@ -104,22 +127,87 @@ public class SimpleButton extends OptionalElement {
         return copy;
     }
 
+    /**
+     * Passes every string of this button that is resolved when it is added to a form. The raw placeholders of
+     * generated buttons are replaced beforehand, since they are not resolved by the given resolver.
+     */
+    void forEachTemplate(Consumer<Template> consumer) {
+        if (raw == null) {
+            if (textTemplate != null) {
+                consumer.accept(textTemplate);
+            }
+            if (imageTemplate != null) {
+                consumer.accept(imageTemplate);
+            }
+            forEachExpression(consumer);
+            return;
+        }
+
+        MapResolver resolver = new MapResolver(additionalPlaceholders());
+        if (textTemplate != null) {
+            consumer.accept(Template.compile(resolver.render(textTemplate)));
+        }
+        if (imageTemplate != null) {
+            consumer.accept(Template.compile(resolver.render(imageTemplate)));
+        }
+        for (String expression : shouldShow) {
+            consumer.accept(Template.compile(resolver.apply(expression)));
+        }
+    }
+
+    /**
+     * @return true if nothing about this button depends on placeholders, meaning it looks the same for every player.
+     */
+    boolean isStatic() {
+        if (raw != null) {
+            return false;
+        }
+        if (textTemplate != null && !textTemplate.isPlain()) {
+            return false;
+        }
+        if (imageTemplate != null && !imageTemplate.isPlain()) {
+            return false;
+        }
+        for (String expression : shouldShow) {
+            if (!Template.isPlain(expression)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Takes a snapshot of what this button looks like on a form. Should only be used if {@link #isStatic()} is true.
+     */
+    Snapshot snapshot() {
+        String display = text == null ? "" : text;
+        return new Snapshot(display, BedrockForm.createFormImage(imageData), show());
+    }
+
     public void addTo(SimpleForm.Builder form, Resolver baseResolver) {
-        final Map<String, String> morePlaceholders = additionalPlaceholders();
-        Resolver resolver = new MapResolver(morePlaceholders).then(baseResolver);
+        Resolver resolver;
+        if (raw == null) {
+            resolver = baseResolver; // no additional placeholders
+        } else {
+            resolver = new MapResolver(additionalPlaceholders()).then(baseResolver);
+        }
 
         String display;
         if (text == null || text.isEmpty()) {
             display = "";
-        } else {
+        } else if (textTemplate == null) {
             display = resolver.apply(text);
+        } else {
+            display = resolver.render(textTemplate);
         }
 
         FormImage image;
         if (imageData == null || imageData.isEmpty()) {
             image = null;
-        } else {
+        } else if (imageTemplate == null) {
             image = BedrockForm.createFormImage(resolver.apply(imageData));
+        } else {
+            image = BedrockForm.createFormImage(resolver.render(imageTemplate));
         }
 
         boolean show = show(shouldShow.stream().map(resolver));
@@ -134,4 +222,22 @@ public class SimpleButton extends OptionalElement {
 
         Action.affectPlayer(player, actions, resolver, form);
     }
+
+    /**
+     * The appearance of a static button on a form
+     */
+    @AllArgsConstructor
+    static final class Snapshot {
+
+        private final String text;
+
+        @Nullable
+        private final FormImage image;
+
+        private final boolean show;
+
+        void addTo(SimpleForm.Builder form) {
+            form.optionalButton(text, image, show);
+        }
+    }
 }
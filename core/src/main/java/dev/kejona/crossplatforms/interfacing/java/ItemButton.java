@@ -21,6 +21,11 @@ public class ItemButton extends ConfiguredItem {
     private List<Action<? super JavaMenu>> leftClick = Collections.emptyList();
     private List<Action<? super JavaMenu>> rightClick = Collections.emptyList();
 
+    /**
+     * Ticks between each refresh of this button while the menu is open, or 0 to never refresh it
+     */
+    private int refreshInterval = 0;
+
     @Inject
     private ItemButton() {
         super();
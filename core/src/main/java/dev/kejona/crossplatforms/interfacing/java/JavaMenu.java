@@ -3,21 +3,35 @@ package dev.kejona.crossplatforms.interfacing.java;
 import com.google.inject.Inject;
 import dev.kejona.crossplatforms.Constants;
 import dev.kejona.crossplatforms.action.Action;
+import dev.kejona.crossplatforms.context.PlayerContext;
 import dev.kejona.crossplatforms.handler.FormPlayer;
 import dev.kejona.crossplatforms.interfacing.Interface;
 import dev.kejona.crossplatforms.inventory.ClickHandler;
+import dev.kejona.crossplatforms.inventory.ConfiguredItem;
 import dev.kejona.crossplatforms.inventory.InventoryController;
 import dev.kejona.crossplatforms.inventory.InventoryFactory;
 import dev.kejona.crossplatforms.inventory.InventoryHandle;
 import dev.kejona.crossplatforms.inventory.InventoryLayout;
+import dev.kejona.crossplatforms.inventory.ItemHandle;
+import dev.kejona.crossplatforms.resolver.MapResolver;
 import dev.kejona.crossplatforms.resolver.Resolver;
+import dev.kejona.crossplatforms.resolver.Template;
 import lombok.Getter;
 import lombok.ToString;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.PostProcess;
+import org.spongepowered.configurate.serialize.SerializationException;
 
 import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
 
 @ToString
 @Getter
@@ -30,12 +44,14 @@ public class JavaMenu extends Interface {
     /**
      * Implements {@link Interface#getPermissionBase()} with lombok getter
      */
-    protected final transient String permissionBase = Constants.Id() + ".menu.";
+    protected final transient String permissionBase = permissionBase();
 
     @Inject
     protected transient InventoryFactory factory;
     @Inject
     protected transient InventoryController controller;
+    @Inject
+    protected transient MenuRefresher refresher;
 
     private boolean allowBedrock = false;
 
@@ -44,52 +60,449 @@ public class JavaMenu extends Interface {
 
     private Map<Integer, ItemButton> buttons = Collections.emptyMap();
 
+    private List<MenuFiller> fillers = Collections.emptyList();
+    @Nullable
+    private PageButton previousPage = null;
+    @Nullable
+    private PageButton nextPage = null;
+
+    /**
+     * The button at each slot, compiled at load time. Empty slots are null.
+     */
+    @ToString.Exclude
+    private transient ItemButton[] slots = new ItemButton[0];
+
+    /**
+     * The items of buttons that look the same for every player, indexed by slot. Built on the first send, since the
+     * inventory factory may not be usable while loading. Slots with dynamic or no buttons are null.
+     */
+    @Nullable
+    @ToString.Exclude
+    private transient volatile ItemHandle[] staticItems = null;
+
+    /**
+     * The slots of buttons that are refreshed while the menu is open
+     */
+    @ToString.Exclude
+    private transient int[] refreshSlots = new int[0];
+
+    /**
+     * The slots that the buttons of fillers are placed in, in ascending order. Empty if there are no fillers.
+     */
+    @ToString.Exclude
+    private transient int[] fillSlots = new int[0];
+
+    /**
+     * @return The base of the permissions of every menu, e.g. "crossplatforms.menu."
+     */
+    public static String permissionBase() {
+        return Constants.Id() + ".menu.";
+    }
+
+    @PostProcess
+    private void compileSlots() throws SerializationException {
+        if (type == InventoryLayout.CHEST && size == 5) {
+            // Extra safeguard for hopper
+            type = InventoryLayout.HOPPER;
+        }
+
+        int length = 0;
+        for (Map.Entry<Integer, ItemButton> entry : buttons.entrySet()) {
+            int slot = entry.getKey();
+            if (slot < 0) {
+                throw new SerializationException("Button slot " + slot + " is negative");
+            }
+            if (entry.getValue() != null) {
+                length = Math.max(length, slot + 1);
+            }
+        }
+
+        ItemButton[] slots = new ItemButton[length];
+        for (Map.Entry<Integer, ItemButton> entry : buttons.entrySet()) {
+            if (entry.getValue() != null) {
+                slots[entry.getKey()] = entry.getValue();
+            }
+        }
+        this.slots = slots;
+        this.staticItems = null;
+
+        int refreshing = 0;
+        int[] refreshSlots = new int[length];
+        for (int slot = 0; slot < length; slot++) {
+            ItemButton button = slots[slot];
+            if (button != null && button.getRefreshInterval() > 0 && !button.isStatic()) {
+                refreshSlots[refreshing++] = slot;
+            }
+        }
+        this.refreshSlots = Arrays.copyOf(refreshSlots, refreshing);
+
+        this.fillSlots = new int[0];
+        if (!fillers.isEmpty()) {
+            int inventorySize = inventorySize();
+            checkPageButton(previousPage, inventorySize);
+            checkPageButton(nextPage, inventorySize);
+            if (previousPage != null && nextPage != null && previousPage.getSlot() == nextPage.getSlot()) {
+                throw new SerializationException("The previous and next page buttons have the same slot");
+            }
+
+            int filling = 0;
+            int[] fillSlots = new int[inventorySize];
+            for (int slot = 0; slot < inventorySize; slot++) {
+                if (button(slot) == null && !isPageButton(previousPage, slot) && !isPageButton(nextPage, slot)) {
+                    fillSlots[filling++] = slot;
+                }
+            }
+            this.fillSlots = Arrays.copyOf(fillSlots, filling);
+        }
+    }
+
+    private void checkPageButton(@Nullable PageButton button, int inventorySize) throws SerializationException {
+        if (button == null) {
+            return;
+        }
+        int slot = button.getSlot();
+        if (slot < 0 || slot >= inventorySize) {
+            throw new SerializationException("Page button slot " + slot + " is outside of the inventory");
+        }
+        if (button(slot) != null) {
+            throw new SerializationException("Page button slot " + slot + " is already used by a button");
+        }
+    }
+
+    private static boolean isPageButton(@Nullable PageButton button, int slot) {
+        return button != null && button.getSlot() == slot;
+    }
+
+    /**
+     * @return The amount of slots in the inventory of this menu
+     */
+    private int inventorySize() {
+        switch (type) {
+            case HOPPER:
+                return 5;
+            case DISPENSER:
+                return 9;
+            default:
+                return size;
+        }
+    }
+
     /**
      * @param slot The inventory slot
      * @return If there is a button at the given inventory slot
      */
     public boolean isButton(int slot) {
-        return buttons.get(slot) != null;
+        return button(slot) != null;
+    }
+
+    @Nullable
+    private ItemButton button(int slot) {
+        return slot >= 0 && slot < slots.length ? slots[slot] : null;
+    }
+
+    private ItemHandle[] staticItems() {
+        ItemHandle[] items = staticItems;
+        if (items == null) {
+            // may be built more than once if sent concurrently, which is harmless
+            items = new ItemHandle[slots.length];
+            for (int slot = 0; slot < slots.length; slot++) {
+                ItemButton button = slots[slot];
+                if (button != null && button.isStatic()) {
+                    items[slot] = button.convert();
+                }
+            }
+            staticItems = items;
+        }
+        return items;
+    }
+
+    @Override
+    public void forEachTemplate(Consumer<Template> consumer) {
+        super.forEachTemplate(consumer);
+        for (ItemButton button : buttons.values()) {
+            button.forEachTemplate(consumer);
+        }
+        for (MenuFiller filler : fillers) {
+            filler.getFormat().forEachTemplate(consumer);
+        }
+        if (previousPage != null) {
+            previousPage.forEachTemplate(consumer);
+        }
+        if (nextPage != null) {
+            nextPage.forEachTemplate(consumer);
+        }
     }
 
     @Override
     public void send(@Nonnull FormPlayer recipient, @Nonnull Resolver resolver) {
-        String title = resolver.apply(this.title);
+        String title = resolver.render(getTitleTemplate());
         InventoryHandle inventory;
         if (type == InventoryLayout.CHEST) {
-            if (size == 5) {
-                // Extra safeguard for hopper
-                type = InventoryLayout.HOPPER;
-                inventory = factory.inventory(title, InventoryLayout.HOPPER);
-            } else {
-                inventory = factory.chest(title, size);
-            }
+            inventory = factory.chest(title, size);
         } else {
             inventory = factory.inventory(title, type);
         }
         // todo: size validation/restraint
-        for (Integer slot : buttons.keySet()) {
-            ItemButton button = buttons.get(slot);
-            inventory.setSlot(slot, button.convertAndResolve(resolver));
+        ItemHandle[] items = staticItems();
+        // what refreshed buttons were last rendered as, indexed by slot
+        boolean refreshing = refreshSlots.length > 0 && controller.updatesInPlace();
+        ConfiguredItem.Rendered[] rendered = refreshing ? new ConfiguredItem.Rendered[slots.length] : null;
+        for (int slot = 0; slot < slots.length; slot++) {
+            ItemButton button = slots[slot];
+            if (button != null) {
+                // inventories copy or only serialize the items they are given, so static items can be shared
+                ItemHandle item = items[slot];
+                if (item == null) {
+                    ConfiguredItem.Rendered render = button.render(resolver);
+                    if (rendered != null) {
+                        rendered[slot] = render;
+                    }
+                    item = button.convert(render);
+                }
+                inventory.setSlot(slot, item);
+            }
         }
 
+        Pages pages = fillers.isEmpty() ? null : showPages(recipient, inventory, resolver);
         ClickHandler clickHandler = (slot, rightClick) -> {
-            if (isButton(slot)) {
-                ItemButton button = buttons.get(slot);
-
-                affectPlayer(recipient, button.getAnyClick(), resolver);
-                if (rightClick) {
-                    affectPlayer(recipient, button.getRightClick(), resolver);
-                } else {
-                    affectPlayer(recipient, button.getLeftClick(), resolver);
-                }
+            ItemButton button = button(slot);
+            if (button != null) {
+                click(recipient, button, rightClick, resolver);
+            } else if (pages != null) {
+                pages.click(recipient, slot, rightClick);
             }
         };
 
         controller.openInventory(recipient, inventory, clickHandler);
+        if (rendered != null) {
+            refresher.add(new Refresh(recipient.getUuid(), inventory, resolver, rendered));
+        }
+    }
+
+    private Pages showPages(FormPlayer recipient, InventoryHandle inventory, Resolver resolver) {
+        // only the values are generated for every page, buttons are only built for pages that are shown
+        PlayerContext context = new PlayerContext(recipient, resolver);
+        List<Filled> values = new ArrayList<>();
+        for (MenuFiller filler : fillers) {
+            for (String value : filler.values(context)) {
+                values.add(new Filled(filler.getFormat(), value));
+            }
+        }
+
+        Pages pages = new Pages(recipient.getUuid(), inventory, resolver, values);
+        pages.show(0);
+        return pages;
+    }
+
+    private void click(FormPlayer player, ItemButton button, boolean rightClick, Resolver resolver) {
+        affectPlayer(player, button.getAnyClick(), resolver);
+        if (rightClick) {
+            affectPlayer(player, button.getRightClick(), resolver);
+        } else {
+            affectPlayer(player, button.getLeftClick(), resolver);
+        }
     }
 
     private void affectPlayer(FormPlayer player, Iterable<Action<? super JavaMenu>> actions, Resolver resolver) {
+        long start = metrics.startTimer();
         actions.forEach(a -> a.affectPlayer(player, resolver, this));
+        metrics.executed(this, start);
+    }
+
+    /**
+     * Refreshes the buttons of this menu for a player that has it open
+     */
+    private final class Refresh implements MenuRefresher.Session {
+
+        private final UUID player;
+        private final InventoryHandle inventory;
+        private final Resolver resolver;
+        private final ConfiguredItem.Rendered[] rendered;
+
+        /**
+         * The tick that each of {@link #refreshSlots} is next due at, or 0 before the first tick
+         */
+        private final long[] due = new long[refreshSlots.length];
+
+        private Refresh(UUID player, InventoryHandle inventory, Resolver resolver, ConfiguredItem.Rendered[] rendered) {
+            this.player = player;
+            this.inventory = inventory;
+            this.resolver = resolver;
+            this.rendered = rendered;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return controller.isOpen(player, inventory);
+        }
+
+        @Override
+        public int refresh(long tick, int budget) {
+            int renders = 0;
+            boolean changed = false;
+            for (int i = 0; i < refreshSlots.length && renders < budget; i++) {
+                int slot = refreshSlots[i];
+                ItemButton button = slots[slot];
+                if (due[i] == 0) {
+                    // rendered when sent
+                    due[i] = tick + button.getRefreshInterval();
+                }
+                if (tick < due[i]) {
+                    continue;
+                }
+
+                due[i] = tick + button.getRefreshInterval();
+                renders++;
+                ConfiguredItem.Rendered render = button.render(resolver);
+                if (!render.equals(rendered[slot])) {
+                    rendered[slot] = render;
+                    inventory.setSlot(slot, button.convert(render));
+                    changed = true;
+                }
+            }
+
+            if (changed) {
+                controller.update(player, inventory);
+            }
+            return renders;
+        }
+    }
+
+    /**
+     * A value of a filler and the button it is shown with
+     */
+    private static final class Filled {
+
+        private final ItemButton format;
+        private final String value;
+
+        private Filled(ItemButton format, String value) {
+            this.format = format;
+            this.value = value;
+        }
+
+        private Resolver resolver(Resolver resolver) {
+            return new MapResolver(Collections.singletonMap(MenuFiller.PLACEHOLDER, value)).then(resolver);
+        }
+    }
+
+    /**
+     * The buttons of fillers for a player that has this menu open, split into pages that fit in the fill slots.
+     * Pages are turned within the same inventory. The pages next to the current page are built on the next tick after
+     * it is shown, so that turning to them only requires setting the slots.
+     */
+    private final class Pages {
+
+        private final UUID player;
+        private final InventoryHandle inventory;
+        private final Resolver resolver;
+        private final List<Filled> values;
+        private final int pageCount;
+
+        private int page = -1;
+
+        /**
+         * The items of pages that have been built ahead of time, by page index
+         */
+        private final Map<Integer, ItemHandle[]> prefetched = new HashMap<>();
+
+        private Pages(UUID player, InventoryHandle inventory, Resolver resolver, List<Filled> values) {
+            this.player = player;
+            this.inventory = inventory;
+            this.resolver = resolver;
+            this.values = values;
+            int perPage = fillSlots.length;
+            this.pageCount = perPage == 0 ? 1 : Math.max(1, (values.size() + perPage - 1) / perPage);
+        }
+
+        private synchronized void show(int page) {
+            ItemHandle[] items = prefetched.remove(page);
+            if (items == null) {
+                items = build(page);
+            }
+            for (int i = 0; i < fillSlots.length; i++) {
+                if (items[i] == null) {
+                    inventory.clearSlot(fillSlots[i]);
+                } else {
+                    inventory.setSlot(fillSlots[i], items[i]);
+                }
+            }
+            showPageButton(previousPage, page > 0);
+            showPageButton(nextPage, page < pageCount - 1);
+
+            this.page = page;
+            prefetched.keySet().removeIf(index -> Math.abs(index - page) > 1);
+            if (pageCount > 1) {
+                serverHandler.executeNextTick(this::prefetch);
+            }
+        }
+
+        private void showPageButton(@Nullable PageButton button, boolean show) {
+            if (button != null) {
+                if (show) {
+                    inventory.setSlot(button.getSlot(), button.convertAndResolve(resolver));
+                } else {
+                    inventory.clearSlot(button.getSlot());
+                }
+            }
+        }
+
+        private synchronized void prefetch() {
+            if (!controller.isOpen(player, inventory)) {
+                return;
+            }
+            for (int index : new int[]{page + 1, page - 1}) {
+                if (index >= 0 && index < pageCount && !prefetched.containsKey(index)) {
+                    prefetched.put(index, build(index));
+                }
+            }
+        }
+
+        /**
+         * @return The items of a page, indexed the same as {@link #fillSlots}. Elements are null past the last value.
+         */
+        private ItemHandle[] build(int page) {
+            ItemHandle[] items = new ItemHandle[fillSlots.length];
+            int start = page * fillSlots.length;
+            for (int i = 0; i < items.length && start + i < values.size(); i++) {
+                Filled filled = values.get(start + i);
+                items[i] = filled.format.convertAndResolve(filled.resolver(resolver));
+            }
+            return items;
+        }
+
+        private void click(FormPlayer recipient, int slot, boolean rightClick) {
+            Filled filled;
+            synchronized (this) {
+                if (isPageButton(previousPage, slot)) {
+                    turn(page - 1);
+                    return;
+                }
+                if (isPageButton(nextPage, slot)) {
+                    turn(page + 1);
+                    return;
+                }
+
+                int index = Arrays.binarySearch(fillSlots, slot);
+                if (index < 0) {
+                    return;
+                }
+                index += page * fillSlots.length;
+                if (index >= values.size()) {
+                    return;
+                }
+                filled = values.get(index);
+            }
+
+            // actions may send another menu, so don't hold the lock
+            JavaMenu.this.click(recipient, filled.format, rightClick, filled.resolver(resolver));
+        }
+
+        private void turn(int page) {
+            if (page >= 0 && page < pageCount && page != this.page) {
+                show(page);
+                controller.update(player, inventory);
+            }
+        }
     }
 }
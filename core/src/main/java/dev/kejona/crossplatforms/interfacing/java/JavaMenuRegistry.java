@@ -1,65 +1,97 @@
 package dev.kejona.crossplatforms.interfacing.java;
 
+import com.google.common.collect.ImmutableMap;
 import dev.kejona.crossplatforms.Logger;
 import dev.kejona.crossplatforms.config.ConfigManager;
+import dev.kejona.crossplatforms.config.Configuration;
+import dev.kejona.crossplatforms.interfacing.InterfaceEntry;
 import dev.kejona.crossplatforms.permission.Permission;
 import dev.kejona.crossplatforms.permission.Permissions;
+import dev.kejona.crossplatforms.permission.RegisteredPermissions;
 import dev.kejona.crossplatforms.reloadable.Reloadable;
 import dev.kejona.crossplatforms.reloadable.ReloadableRegistry;
+import dev.kejona.crossplatforms.serialize.Lazy;
+import dev.kejona.crossplatforms.utils.ConfigurateUtils;
 import lombok.Getter;
+import org.spongepowered.configurate.serialize.SerializationException;
 
 import javax.annotation.Nullable;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 
 public class JavaMenuRegistry implements Reloadable {
 
+    private static final InterfaceEntry.AllowBedrock<JavaMenu> ALLOW_BEDROCK = new InterfaceEntry.AllowBedrock<>("allow-bedrock", JavaMenu::isAllowBedrock);
 
     private final ConfigManager configManager;
-    private final Permissions permissions;
+    private final RegisteredPermissions permissions;
 
+    /**
+     * Every menu, which may not have been deserialized yet. This is an immutable snapshot that is replaced as a whole
+     * on reload, so it may be read from any thread.
+     */
     @Getter
-    private final Map<String, JavaMenu> menus = new HashMap<>();
+    private volatile Map<String, InterfaceEntry<JavaMenu>> entries = Collections.emptyMap();
 
     /**
      * If java menus are enabled. may be false if disabled in the config or if all forms failed to load.
      */
     @Getter
-    private boolean enabled = false;
+    private volatile boolean enabled = false;
 
     public JavaMenuRegistry(ConfigManager configManager, Permissions permissions) {
         this.configManager = configManager;
-        this.permissions = permissions;
+        this.permissions = new RegisteredPermissions(permissions);
         ReloadableRegistry.register(this);
         load();
     }
 
-    private void load() {
-        menus.clear();
+    private synchronized void load() {
+        Map<String, InterfaceEntry<JavaMenu>> previous = entries;
 
         if (!configManager.getConfig(MenuConfig.class).isPresent()) {
+            entries = Collections.emptyMap();
             enabled = false;
             Logger.get().warn("Menu config is not present, not enabling menus.");
             return;
         }
 
         MenuConfig config = configManager.getConfig(MenuConfig.class).get();
-        enabled = config.isEnable();
-        if (enabled) {
-            // todo: Permission does not implement equals/hashCode, so using a set won't really work as intended
+        ImmutableMap.Builder<String, InterfaceEntry<JavaMenu>> builder = ImmutableMap.builder();
+        if (config.isEnable()) {
             Set<Permission> permissions = new HashSet<>();
 
-            for (String identifier : config.getMenus().keySet()) {
-                JavaMenu menu = config.getMenus().get(identifier);
-                menus.put(identifier, menu);
-
-                menu.generatePermissions(config);
-                permissions.addAll(menu.getPermissions().values());
+            for (Map.Entry<String, Lazy<JavaMenu>> menu : config.getMenus().entrySet()) {
+                String identifier = menu.getKey();
+                InterfaceEntry<JavaMenu> entry;
+                try {
+                    entry = InterfaceEntry.of(identifier, menu.getValue(), config, JavaMenu.permissionBase(), ALLOW_BEDROCK);
+                } catch (SerializationException e) {
+                    Logger.get().severe("Failed to load menu '" + identifier + "': " + ConfigurateUtils.stripPackageNames(e.getMessage()));
+                    continue;
+                }
+
+                builder.put(identifier, entry);
+                permissions.addAll(entry.getPermissions().values());
             }
 
-            this.permissions.registerPermissions(permissions);
+            this.permissions.update(permissions);
+        } else {
+            this.permissions.update(Collections.emptySet());
+        }
+
+        // publish the new menus at once, so that concurrent lookups never see a partially loaded registry
+        Map<String, InterfaceEntry<JavaMenu>> entries = builder.build();
+        this.entries = entries;
+        this.enabled = config.isEnable();
+
+        if (!previous.isEmpty()) {
+            long added = entries.keySet().stream().filter(id -> !previous.containsKey(id)).count();
+            long removed = previous.keySet().stream().filter(id -> !entries.containsKey(id)).count();
+            Logger.get().debug("Reloaded menus: " + added + " added, " + removed + " removed, " + entries.size() + " total");
         }
     }
 
@@ -69,6 +101,11 @@ public class JavaMenuRegistry implements Reloadable {
         return true;
     }
 
+    @Override
+    public boolean dependsOn(Class<? extends Configuration> config) {
+        return config == MenuConfig.class;
+    }
+
     /**
      * Get a Java menu, based off its name.
      * @param menuName The menu name
@@ -76,6 +113,22 @@ public class JavaMenuRegistry implements Reloadable {
      */
     @Nullable
     public JavaMenu getMenu(@Nullable String menuName) {
-        return menus.get(menuName);
+        InterfaceEntry<JavaMenu> entry = entries.get(menuName);
+        return entry == null ? null : entry.get();
+    }
+
+    /**
+     * Get every menu, deserializing any that have not been yet. Prefer {@link #getEntries()} if possible.
+     * @return A map of menu identifiers to menus. Menus that failed to deserialize are not included.
+     */
+    public Map<String, JavaMenu> getMenus() {
+        Map<String, JavaMenu> menus = new LinkedHashMap<>();
+        for (InterfaceEntry<JavaMenu> entry : entries.values()) {
+            JavaMenu menu = entry.get();
+            if (menu != null) {
+                menus.put(entry.getIdentifier(), menu);
+            }
+        }
+        return menus;
     }
 }
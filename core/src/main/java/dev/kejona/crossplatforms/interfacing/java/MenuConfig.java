@@ -2,6 +2,7 @@ package dev.kejona.crossplatforms.interfacing.java;
 
 import dev.kejona.crossplatforms.config.Configuration;
 import dev.kejona.crossplatforms.interfacing.InterfaceConfig;
+import dev.kejona.crossplatforms.serialize.Lazy;
 import lombok.Getter;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 import org.spongepowered.configurate.transformation.ConfigurationTransformation;
@@ -21,7 +22,7 @@ public class MenuConfig extends InterfaceConfig {
     public static final int VERSION = 2;
     public static final int MINIMUM_VERSION = 1;
 
-    private Map<String, JavaMenu> menus = Collections.emptyMap();
+    private Map<String, Lazy<JavaMenu>> menus = Collections.emptyMap();
 
     public static ConfigurationTransformation.Versioned updater() {
         return ConfigurationTransformation.versionedBuilder()
@@ -0,0 +1,45 @@
+package dev.kejona.crossplatforms.interfacing.java;
+
+import dev.kejona.crossplatforms.context.PlayerContext;
+import dev.kejona.crossplatforms.filler.OptionFiller;
+import lombok.Getter;
+import lombok.ToString;
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.Required;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Fills the empty slots of a {@link JavaMenu} with a button for each value of a filler, such as every online player.
+ * The {@link #PLACEHOLDER} can be used in the format and its actions to refer to the value of a button.
+ */
+@ToString
+@Getter
+@ConfigSerializable
+@SuppressWarnings("FieldMayBeFinal")
+public class MenuFiller {
+
+    public static final String PLACEHOLDER = "%raw_text%";
+
+    /**
+     * Any filler that may be used in Bedrock forms
+     */
+    @Required
+    private OptionFiller source;
+
+    /**
+     * The button that is created for each value
+     */
+    @Required
+    private ItemButton format;
+
+    /**
+     * @return Every value to create a button for, which are only strings so that it is cheap to generate many
+     */
+    @Nonnull
+    public List<String> values(PlayerContext context) {
+        return source.rawOptions(context).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,146 @@
+package dev.kejona.crossplatforms.interfacing.java;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import dev.kejona.crossplatforms.CrossplatForms;
+import dev.kejona.crossplatforms.config.Configuration;
+import dev.kejona.crossplatforms.config.GeneralConfig;
+import dev.kejona.crossplatforms.handler.ServerHandler;
+import dev.kejona.crossplatforms.reloadable.Reloadable;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Refreshes the buttons of open Java menus that have a refresh interval. A single task runs every tick while any
+ * refreshing menu is open, and renders at most a configured amount of buttons each tick across all menus. Buttons that
+ * don't get a turn stay due until the next tick, where they are rendered once no matter how overdue they are.
+ */
+@Singleton
+public class MenuRefresher implements Reloadable {
+
+    public static final int DEFAULT_PER_TICK = 100;
+
+    private final ServerHandler serverHandler;
+
+    /**
+     * Sessions that have been added since the last tick. Sessions may be added from any thread.
+     */
+    private final Queue<Session> added = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Sessions that are being refreshed. Only accessed by ticks, which never run at the same time.
+     */
+    private final List<Session> sessions = new ArrayList<>();
+
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+    private volatile int perTick = DEFAULT_PER_TICK;
+
+    /**
+     * The amount of ticks that have been run
+     */
+    private long tick = 0;
+
+    /**
+     * The index of the session to refresh first on the next tick, so that every session gets a turn
+     */
+    private int start = 0;
+
+    @Inject
+    public MenuRefresher(ServerHandler serverHandler) {
+        this.serverHandler = serverHandler;
+    }
+
+    @Override
+    public boolean reload() {
+        setPerTick(CrossplatForms.getInstance().getConfigManager()
+            .getConfig(GeneralConfig.class)
+            .map(GeneralConfig::getMenuRefreshesPerTick)
+            .orElse(DEFAULT_PER_TICK));
+        return true;
+    }
+
+    @Override
+    public boolean dependsOn(Class<? extends Configuration> config) {
+        return config == GeneralConfig.class;
+    }
+
+    /**
+     * @param perTick The maximum amount of buttons to render each tick, across all menus
+     */
+    public void setPerTick(int perTick) {
+        this.perTick = Math.max(1, perTick);
+    }
+
+    /**
+     * Starts refreshing a menu, until it is no longer open
+     */
+    public void add(@Nonnull Session session) {
+        added.add(session);
+        if (scheduled.compareAndSet(false, true)) {
+            serverHandler.executeNextTick(this::tick);
+        }
+    }
+
+    void tick() {
+        tick++;
+        Session session;
+        while ((session = added.poll()) != null) {
+            sessions.add(session);
+        }
+        sessions.removeIf(s -> !s.isOpen());
+
+        int size = sessions.size();
+        int budget = perTick;
+        int next = 0;
+        for (int i = 0; i < size; i++) {
+            int index = (start + i) % size;
+            budget -= sessions.get(index).refresh(tick, budget);
+            if (budget <= 0) {
+                next = index; // may still have due buttons
+                break;
+            }
+        }
+        start = next;
+
+        if (sessions.isEmpty()) {
+            scheduled.set(false);
+            // a session may have been added after polling, without scheduling a tick
+            if (added.isEmpty() || !scheduled.compareAndSet(false, true)) {
+                return;
+            }
+        }
+        serverHandler.executeNextTick(this::tick);
+    }
+
+    /**
+     * @return The amount of menus being refreshed, excluding those added since the last tick
+     */
+    public int size() {
+        return sessions.size();
+    }
+
+    /**
+     * A menu that is open for a player
+     */
+    public interface Session {
+
+        /**
+         * @return false if the menu has been closed, and should no longer be refreshed
+         */
+        boolean isOpen();
+
+        /**
+         * Renders the buttons of the menu that are due, sending the ones that changed.
+         * @param tick The current tick
+         * @param budget The maximum amount of buttons to render
+         * @return The amount of buttons that were rendered
+         */
+        int refresh(long tick, int budget);
+    }
+}
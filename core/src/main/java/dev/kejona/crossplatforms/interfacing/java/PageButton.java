@@ -0,0 +1,26 @@
+package dev.kejona.crossplatforms.interfacing.java;
+
+import com.google.inject.Inject;
+import dev.kejona.crossplatforms.inventory.ConfiguredItem;
+import lombok.Getter;
+import lombok.ToString;
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.Required;
+
+/**
+ * A button that turns the page of a {@link JavaMenu} with fillers. It is only shown if there is a page to turn to.
+ */
+@ToString
+@Getter
+@ConfigSerializable
+@SuppressWarnings("FieldMayBeFinal")
+public class PageButton extends ConfiguredItem {
+
+    @Required
+    private int slot;
+
+    @Inject
+    private PageButton() {
+        super();
+    }
+}
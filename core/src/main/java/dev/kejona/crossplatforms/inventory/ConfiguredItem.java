@@ -2,12 +2,18 @@ package dev.kejona.crossplatforms.inventory;
 
 import com.google.inject.Inject;
 import dev.kejona.crossplatforms.resolver.Resolver;
+import dev.kejona.crossplatforms.resolver.Template;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.PostProcess;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
 @Getter
 @ConfigSerializable
@@ -29,20 +35,102 @@ public class ConfiguredItem {
     @Nullable
     protected SkullProfile skull;
 
+    // Compiled at load time
+    @Getter(AccessLevel.NONE)
+    protected transient Template materialTemplate;
+    @Getter(AccessLevel.NONE)
+    protected transient Template displayNameTemplate;
+    @Getter(AccessLevel.NONE)
+    protected transient List<Template> loreTemplates = Collections.emptyList();
+
     @Inject
     protected ConfiguredItem() {
 
     }
 
-    public ItemHandle convertAndResolve(Resolver resolver) {
-        String displayName = resolver.apply(this.displayName);
-        List<String> lore = resolver.apply(this.lore);
+    @PostProcess
+    private void compileTemplates() {
+        materialTemplate = Template.compile(material);
+        displayNameTemplate = Template.compile(displayName);
+        loreTemplates = Template.compile(lore);
+    }
+
+    /**
+     * Passes the templates of this item that have been compiled at load time
+     */
+    public void forEachTemplate(Consumer<Template> consumer) {
+        if (skull == null && materialTemplate != null) {
+            consumer.accept(materialTemplate);
+        }
+        if (displayNameTemplate != null) {
+            consumer.accept(displayNameTemplate);
+        }
+        loreTemplates.forEach(consumer);
+    }
 
+    /**
+     * @return true if nothing about this item depends on placeholders, meaning it looks the same for every player
+     */
+    public boolean isStatic() {
+        if (skull == null && materialTemplate != null && !materialTemplate.isPlain()) {
+            return false;
+        }
+        if (displayNameTemplate != null && !displayNameTemplate.isPlain()) {
+            return false;
+        }
+        for (Template template : loreTemplates) {
+            if (!template.isPlain()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Creates this item without resolving anything. Should only be used if {@link #isStatic()} is true.
+     */
+    public ItemHandle convert() {
         if (skull == null) {
-            String material = resolver.apply(this.material);
             return factory.item(material, displayName, lore, customModelData);
         } else {
             return factory.skullItem(skull, displayName, lore);
         }
     }
+
+    public ItemHandle convertAndResolve(Resolver resolver) {
+        return convert(render(resolver));
+    }
+
+    /**
+     * Resolves everything about this item that may depend on placeholders, without creating the item.
+     */
+    public Rendered render(Resolver resolver) {
+        String material = skull == null ? resolver.render(materialTemplate) : null;
+        return new Rendered(material, resolver.render(displayNameTemplate), resolver.render(loreTemplates));
+    }
+
+    /**
+     * Creates this item from what it was rendered as.
+     */
+    public ItemHandle convert(Rendered rendered) {
+        if (skull == null) {
+            return factory.item(rendered.material, rendered.displayName, rendered.lore, customModelData);
+        } else {
+            return factory.skullItem(skull, rendered.displayName, rendered.lore);
+        }
+    }
+
+    /**
+     * The resolved strings of an item. Two renders are equal if they would create the same item.
+     */
+    @EqualsAndHashCode
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class Rendered {
+
+        @Nullable
+        private final String material;
+        @Nullable
+        private final String displayName;
+        private final List<String> lore;
+    }
 }
@@ -2,6 +2,8 @@ package dev.kejona.crossplatforms.inventory;
 
 import dev.kejona.crossplatforms.handler.FormPlayer;
 
+import java.util.UUID;
+
 /**
  * Opens player inventories. It is expected that the implementation of {@link InventoryController} and
  * {@link InventoryFactory} are compatible.
@@ -9,4 +11,32 @@ import dev.kejona.crossplatforms.handler.FormPlayer;
 public interface InventoryController {
 
     void openInventory(FormPlayer recipient, InventoryHandle container, ClickHandler clickHandler);
+
+    /**
+     * @param player The UUID of the player
+     * @param container An inventory that was opened with {@link #openInventory(FormPlayer, InventoryHandle, ClickHandler)}
+     * @return true if the player still has the inventory open. Always false if not overridden.
+     */
+    default boolean isOpen(UUID player, InventoryHandle container) {
+        return false;
+    }
+
+    /**
+     * Sends the slots of an open inventory that have been changed with {@link InventoryHandle#setSlot(int, ItemHandle)}
+     * to the player. Does nothing if not overridden, for implementations that send changes automatically.
+     * @param player The UUID of the player
+     * @param container The open inventory
+     */
+    default void update(UUID player, InventoryHandle container) {
+
+    }
+
+    /**
+     * @return true if {@link #update(UUID, InventoryHandle)} can send changes without disturbing the player, such as
+     * by only sending the changed slots. Menus are only refreshed while open if this is true. Always true if not
+     * overridden.
+     */
+    default boolean updatesInPlace() {
+        return true;
+    }
 }
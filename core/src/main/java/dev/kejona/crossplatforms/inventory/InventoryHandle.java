@@ -12,4 +12,9 @@ public interface InventoryHandle {
     String title();
 
     void setSlot(int index, ItemHandle item);
+
+    /**
+     * Removes the item at the given slot, if any
+     */
+    void clearSlot(int index);
 }
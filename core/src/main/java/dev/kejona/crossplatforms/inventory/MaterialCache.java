@@ -0,0 +1,69 @@
+package dev.kejona.crossplatforms.inventory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Caches the platform materials that configured material names resolve to, including names that are invalid. The
+ * amount of cached names is bounded, since names may contain placeholders. Once full, names that aren't cached are
+ * resolved every time.
+ * @param <T> The platform material type
+ */
+public class MaterialCache<T> {
+
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * Marks names that don't resolve to a material, since concurrent maps can't hold null values
+     */
+    private static final Object INVALID = new Object();
+
+    private final Function<String, T> lookup;
+    private final int capacity;
+    private final Map<String, Object> cache = new ConcurrentHashMap<>();
+
+    /**
+     * @param lookup Resolves a material name, returning null if it is invalid. Only called for names that aren't
+     *               cached, so it may log a warning about invalid names.
+     */
+    public MaterialCache(@Nonnull Function<String, T> lookup) {
+        this(lookup, DEFAULT_CAPACITY);
+    }
+
+    public MaterialCache(@Nonnull Function<String, T> lookup, int capacity) {
+        this.lookup = lookup;
+        this.capacity = capacity;
+    }
+
+    /**
+     * @param name The material name
+     * @return The material, or null if the name is invalid
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public T get(@Nonnull String name) {
+        Object material = cache.get(name);
+        if (material == null) {
+            T resolved = lookup.apply(name);
+            material = resolved == null ? INVALID : resolved;
+            if (cache.size() < capacity) {
+                Object previous = cache.putIfAbsent(name, material);
+                if (previous != null) {
+                    material = previous;
+                }
+            }
+        }
+
+        return material == INVALID ? null : (T) material;
+    }
+
+    /**
+     * @return The amount of cached names
+     */
+    public int size() {
+        return cache.size();
+    }
+}
@@ -0,0 +1,90 @@
+package dev.kejona.crossplatforms.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock free histogram of durations in nanoseconds. Durations are counted in power of two buckets, so percentiles
+ * are approximate: they are the upper bound of the bucket that the percentile falls in.
+ */
+public final class Histogram {
+
+    private static final int BUCKETS = 64;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    public Histogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * @param nanos A duration in nanoseconds. Negative durations are counted as 0.
+     */
+    public void record(long nanos) {
+        if (nanos < 0) {
+            nanos = 0;
+        }
+        buckets[bucket(nanos)].increment();
+        count.increment();
+        sum.add(nanos);
+        max.accumulate(nanos);
+    }
+
+    public long count() {
+        return count.sum();
+    }
+
+    /**
+     * @return The mean duration in nanoseconds, or 0 if nothing has been recorded
+     */
+    public long mean() {
+        long count = count();
+        return count == 0 ? 0 : sum.sum() / count;
+    }
+
+    /**
+     * @return The longest duration in nanoseconds
+     */
+    public long max() {
+        return max.get();
+    }
+
+    /**
+     * @param percentile The percentile between 0 and 100
+     * @return The approximate duration in nanoseconds that the given percentage of durations are below
+     */
+    public long percentile(double percentile) {
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long target = (long) Math.ceil(total * Math.min(100, Math.max(0, percentile)) / 100);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= target && counts[i] > 0) {
+                return Math.min(upperBound(i), max());
+            }
+        }
+        return max();
+    }
+
+    private static int bucket(long nanos) {
+        return nanos == 0 ? 0 : 64 - Long.numberOfLeadingZeros(nanos) - 1;
+    }
+
+    private static long upperBound(int bucket) {
+        return bucket >= 62 ? Long.MAX_VALUE : (1L << (bucket + 1)) - 1;
+    }
+}
@@ -0,0 +1,135 @@
+package dev.kejona.crossplatforms.metrics;
+
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and timings of a single form or menu
+ */
+public class InterfaceMetrics implements InterfaceMetricsMXBean {
+
+    @Getter
+    private final String identifier;
+
+    /**
+     * Either "form" or "menu"
+     */
+    @Getter
+    private final String kind;
+
+    private final LongAdder opens = new LongAdder();
+    private final LongAdder responses = new LongAdder();
+    private final LongAdder closed = new LongAdder();
+    private final LongAdder invalid = new LongAdder();
+
+    /**
+     * Time taken to build and send the interface
+     */
+    @Getter
+    private final Histogram buildTime = new Histogram();
+
+    /**
+     * Time between sending a form and receiving a valid response
+     */
+    @Getter
+    private final Histogram responseTime = new Histogram();
+
+    /**
+     * Time taken to execute the actions of a response
+     */
+    @Getter
+    private final Histogram actionTime = new Histogram();
+
+    InterfaceMetrics(String identifier, String kind) {
+        this.identifier = identifier;
+        this.kind = kind;
+    }
+
+    void opened(long nanos) {
+        opens.increment();
+        buildTime.record(nanos);
+    }
+
+    void responded(long nanos) {
+        responses.increment();
+        responseTime.record(nanos);
+    }
+
+    void executed(long nanos) {
+        actionTime.record(nanos);
+    }
+
+    void closed() {
+        closed.increment();
+    }
+
+    void invalid() {
+        invalid.increment();
+    }
+
+    @Override
+    public long getOpens() {
+        return opens.sum();
+    }
+
+    @Override
+    public long getResponses() {
+        return responses.sum();
+    }
+
+    @Override
+    public long getClosed() {
+        return closed.sum();
+    }
+
+    @Override
+    public long getInvalid() {
+        return invalid.sum();
+    }
+
+    @Override
+    public long getBuildTimeMean() {
+        return micros(buildTime.mean());
+    }
+
+    @Override
+    public long getBuildTimeP95() {
+        return micros(buildTime.percentile(95));
+    }
+
+    @Override
+    public long getBuildTimeMax() {
+        return micros(buildTime.max());
+    }
+
+    @Override
+    public long getResponseTimeMean() {
+        return micros(responseTime.mean());
+    }
+
+    @Override
+    public long getResponseTimeP95() {
+        return micros(responseTime.percentile(95));
+    }
+
+    @Override
+    public long getActionTimeMean() {
+        return micros(actionTime.mean());
+    }
+
+    @Override
+    public long getActionTimeP95() {
+        return micros(actionTime.percentile(95));
+    }
+
+    @Override
+    public long getActionTimeMax() {
+        return micros(actionTime.max());
+    }
+
+    private static long micros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+}
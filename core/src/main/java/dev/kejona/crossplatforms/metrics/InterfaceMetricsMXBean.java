@@ -0,0 +1,35 @@
+package dev.kejona.crossplatforms.metrics;
+
+/**
+ * JMX view of {@link InterfaceMetrics}. Durations are in microseconds.
+ */
+public interface InterfaceMetricsMXBean {
+
+    String getIdentifier();
+
+    String getKind();
+
+    long getOpens();
+
+    long getResponses();
+
+    long getClosed();
+
+    long getInvalid();
+
+    long getBuildTimeMean();
+
+    long getBuildTimeP95();
+
+    long getBuildTimeMax();
+
+    long getResponseTimeMean();
+
+    long getResponseTimeP95();
+
+    long getActionTimeMean();
+
+    long getActionTimeP95();
+
+    long getActionTimeMax();
+}
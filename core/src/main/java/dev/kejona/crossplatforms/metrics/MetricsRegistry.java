@@ -0,0 +1,208 @@
+package dev.kejona.crossplatforms.metrics;
+
+import dev.kejona.crossplatforms.CrossplatForms;
+import dev.kejona.crossplatforms.Logger;
+import dev.kejona.crossplatforms.config.Configuration;
+import dev.kejona.crossplatforms.config.GeneralConfig;
+import dev.kejona.crossplatforms.interfacing.Interface;
+import dev.kejona.crossplatforms.interfacing.java.JavaMenu;
+import dev.kejona.crossplatforms.reloadable.Reloadable;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records how often forms and menus are opened, and how long they take to build and respond to. Every recording method
+ * returns immediately if metrics are disabled, so that call sites don't need to check.
+ * <p>
+ * Timings are recorded by first calling {@link #startTimer()}, which returns 0 if disabled. Recordings with a start
+ * time of 0 are ignored, so a timer started while metrics were disabled never produces a bogus duration.
+ */
+public class MetricsRegistry implements Reloadable {
+
+    public static final String JMX_DOMAIN = "dev.kejona.crossplatforms";
+
+    private final Map<String, InterfaceMetrics> metrics = new ConcurrentHashMap<>();
+
+    private volatile boolean enabled = false;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        if (this.enabled != enabled) {
+            this.enabled = enabled;
+            if (!enabled) {
+                reset();
+            }
+        }
+    }
+
+    @Override
+    public boolean reload() {
+        setEnabled(CrossplatForms.getInstance().getConfigManager()
+            .getConfig(GeneralConfig.class)
+            .map(GeneralConfig::isEnableMetrics)
+            .orElse(false));
+        return true;
+    }
+
+    @Override
+    public boolean dependsOn(Class<? extends Configuration> config) {
+        return config == GeneralConfig.class;
+    }
+
+    /**
+     * @return The current time in nanoseconds, or 0 if metrics are disabled
+     */
+    public long startTimer() {
+        if (!enabled) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        return now == 0 ? 1 : now;
+    }
+
+    /**
+     * Records that an interface was sent to a player
+     * @param start The time that building the interface started at, from {@link #startTimer()}
+     */
+    public void opened(@Nonnull Interface ui, long start) {
+        if (start != 0 && enabled) {
+            metrics(ui).opened(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Records that a valid response to a form was received
+     * @param sent The time that the form was sent at, from {@link #startTimer()}
+     */
+    public void responded(@Nonnull Interface ui, long sent) {
+        if (sent != 0 && enabled) {
+            metrics(ui).responded(System.nanoTime() - sent);
+        }
+    }
+
+    /**
+     * Records the time taken to execute the actions of a response
+     * @param start The time that executing actions started at, from {@link #startTimer()}
+     */
+    public void executed(@Nonnull Interface ui, long start) {
+        if (start != 0 && enabled) {
+            metrics(ui).executed(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Records that a form was closed without a response
+     */
+    public void closed(@Nonnull Interface ui) {
+        if (enabled) {
+            metrics(ui).closed();
+        }
+    }
+
+    /**
+     * Records that an invalid response to a form was received
+     */
+    public void invalid(@Nonnull Interface ui) {
+        if (enabled) {
+            metrics(ui).invalid();
+        }
+    }
+
+    /**
+     * @return The metrics of every interface that has been recorded, sorted by kind and identifier
+     */
+    public List<InterfaceMetrics> getMetrics() {
+        List<InterfaceMetrics> all = new ArrayList<>(metrics.values());
+        all.sort((a, b) -> {
+            int kind = a.getKind().compareTo(b.getKind());
+            return kind == 0 ? a.getIdentifier().compareTo(b.getIdentifier()) : kind;
+        });
+        return all;
+    }
+
+    /**
+     * @return The metrics of the given interface, or null if nothing has been recorded for it
+     */
+    @Nullable
+    public InterfaceMetrics getMetrics(String identifier, boolean bedrock) {
+        return metrics.get(key(identifier, kind(bedrock)));
+    }
+
+    /**
+     * Clears all metrics
+     */
+    public void reset() {
+        Collection<InterfaceMetrics> removed = new ArrayList<>(metrics.values());
+        metrics.clear();
+        for (InterfaceMetrics entry : removed) {
+            unregister(entry);
+        }
+    }
+
+    /**
+     * Disables metrics and unregisters every MBean. Should be called when the plugin is disabled.
+     */
+    public void shutdown() {
+        enabled = false;
+        reset();
+    }
+
+    private InterfaceMetrics metrics(Interface ui) {
+        String kind = kind(!(ui instanceof JavaMenu));
+        return metrics.computeIfAbsent(key(ui.getIdentifier(), kind), k -> {
+            InterfaceMetrics created = new InterfaceMetrics(ui.getIdentifier(), kind);
+            register(created);
+            return created;
+        });
+    }
+
+    private static String kind(boolean bedrock) {
+        return bedrock ? "form" : "menu";
+    }
+
+    private static String key(String identifier, String kind) {
+        return kind + ':' + identifier;
+    }
+
+    private static void register(InterfaceMetrics metrics) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = objectName(metrics);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name); // left over from a previous instance of the plugin
+            }
+            server.registerMBean(metrics, name);
+        } catch (JMException | SecurityException e) {
+            Logger.get().debug("Failed to register metrics of " + metrics.getIdentifier() + " with JMX: " + e.getMessage());
+        }
+    }
+
+    private static void unregister(InterfaceMetrics metrics) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = objectName(metrics);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+        } catch (JMException | SecurityException e) {
+            Logger.get().debug("Failed to unregister metrics of " + metrics.getIdentifier() + " from JMX: " + e.getMessage());
+        }
+    }
+
+    private static ObjectName objectName(InterfaceMetrics metrics) throws JMException {
+        return new ObjectName(JMX_DOMAIN + ":type=" + metrics.getKind() + ",name=" + ObjectName.quote(metrics.getIdentifier()));
+    }
+}
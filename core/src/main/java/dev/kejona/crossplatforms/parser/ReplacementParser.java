@@ -3,7 +3,9 @@ package dev.kejona.crossplatforms.parser;
 import com.google.inject.Inject;
 import dev.kejona.crossplatforms.handler.FormPlayer;
 import dev.kejona.crossplatforms.interfacing.bedrock.custom.CustomComponent;
+import dev.kejona.crossplatforms.resolver.KeywordMatcher;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.PostProcess;
 import org.spongepowered.configurate.objectmapping.meta.Required;
 
 import java.util.HashMap;
@@ -18,6 +20,8 @@ public class ReplacementParser implements Parser {
     @Required
     private Map<String, String> replacements = new HashMap<>(0);
 
+    private transient KeywordMatcher matcher = null;
+
     @Inject
     private ReplacementParser() {
 
@@ -25,6 +29,12 @@ public class ReplacementParser implements Parser {
 
     public ReplacementParser(Map<String, String> replacements) {
         this.replacements = replacements;
+        buildMatcher();
+    }
+
+    @PostProcess
+    private void buildMatcher() {
+        matcher = KeywordMatcher.of(replacements);
     }
 
     @Override
@@ -34,12 +44,9 @@ public class ReplacementParser implements Parser {
 
     @Override
     public String parse(FormPlayer player, CustomComponent component, String primitive) {
-        String result = primitive;
-        for (String target : replacements.keySet()) {
-            String value = replacements.get(target);
-            value = (value == null) ? "" : value;
-            result = result.replace(target, value);
+        if (matcher == null) {
+            buildMatcher();
         }
-        return result;
+        return matcher.replace(primitive);
     }
 }
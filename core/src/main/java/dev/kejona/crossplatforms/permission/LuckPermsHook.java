@@ -1,14 +1,23 @@
 package dev.kejona.crossplatforms.permission;
 
 import dev.kejona.crossplatforms.Logger;
+import net.luckperms.api.LuckPerms;
 import net.luckperms.api.LuckPermsProvider;
+import net.luckperms.api.event.EventBus;
+import net.luckperms.api.event.EventSubscription;
+import net.luckperms.api.event.group.GroupDataRecalculateEvent;
+import net.luckperms.api.event.user.UserDataRecalculateEvent;
 import net.luckperms.api.model.group.Group;
 import net.luckperms.api.model.group.GroupManager;
 import net.luckperms.api.node.types.PermissionNode;
 import net.luckperms.api.node.types.WeightNode;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
 import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 public class LuckPermsHook implements Permissions {
@@ -16,15 +25,21 @@ public class LuckPermsHook implements Permissions {
     private static final String DEFAULT_NAME = "default";
     private static final WeightNode DEFAULT_WEIGHT = WeightNode.builder(0).build();
 
-    private final GroupManager groupManager = LuckPermsProvider.get().getGroupManager();
+    private final LuckPerms luckPerms = LuckPermsProvider.get();
+    private final GroupManager groupManager = luckPerms.getGroupManager();
     private final Logger logger = Logger.get();
 
+    /**
+     * Subscriptions of change listeners, which are closed when the listeners are removed
+     */
+    private final List<EventSubscription<?>> subscriptions = new ArrayList<>();
+
     @Override
     public void registerPermissions(Collection<Permission> permissions) {
-        if (permissions.stream().map(Permission::defaultPermission).noneMatch(PermissionDefault::asBoolean)) {
-            // None of the permission defaults are TRUE - nothing needs to be done
+        if (permissions.isEmpty()) {
             return;
         }
+        // Even if none of the defaults are TRUE, existing keys must be cleared in case a default used to be TRUE
 
         groupManager.loadGroup(DEFAULT_NAME).thenAcceptAsync(defaultGroup -> {
             Group group = defaultGroup.orElse(null);
@@ -58,6 +73,40 @@ public class LuckPermsHook implements Permissions {
         });
     }
 
+    @Override
+    public void unregisterPermissions(Collection<Permission> permissions) {
+        Collection<String> keys = permissions.stream()
+            .filter(perm -> perm.defaultPermission().asBoolean())
+            .map(Permission::key)
+            .collect(Collectors.toSet());
+
+        if (keys.isEmpty()) {
+            return; // only permissions with a default of TRUE are ever set
+        }
+
+        groupManager.loadGroup(DEFAULT_NAME).thenAcceptAsync(defaultGroup -> defaultGroup.ifPresent(group -> {
+            logger.debug("Removing permissions from LP: " + keys);
+            clearPermissions(group, keys);
+            groupManager.saveGroup(group);
+        }));
+    }
+
+    @Override
+    public synchronized void addChangeListener(Consumer<UUID> listener) {
+        EventBus eventBus = luckPerms.getEventBus();
+        subscriptions.add(eventBus.subscribe(UserDataRecalculateEvent.class, event -> listener.accept(event.getUser().getUniqueId())));
+        // groups may be inherited by any player
+        subscriptions.add(eventBus.subscribe(GroupDataRecalculateEvent.class, event -> listener.accept(null)));
+    }
+
+    @Override
+    public synchronized void removeChangeListeners() {
+        for (EventSubscription<?> subscription : subscriptions) {
+            subscription.close();
+        }
+        subscriptions.clear();
+    }
+
     private void clearPermissions(Group group, Collection<String> keys) {
         group.data().clear(node -> keys.contains(node.getKey()));
     }
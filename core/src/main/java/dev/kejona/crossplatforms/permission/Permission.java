@@ -1,5 +1,6 @@
 package dev.kejona.crossplatforms.permission;
 
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 import org.spongepowered.configurate.objectmapping.meta.Required;
@@ -8,6 +9,7 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 @Getter
+@EqualsAndHashCode
 @ConfigSerializable
 @SuppressWarnings("FieldMayBeFinal")
 public final class Permission {
@@ -1,15 +1,42 @@
 package dev.kejona.crossplatforms.permission;
 
 import java.util.Collection;
+import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface Permissions {
 
     void registerPermissions(Collection<Permission> permissions);
 
+    /**
+     * Removes permissions that were previously registered. Does nothing if not overridden.
+     * @param permissions The permissions to remove
+     */
+    default void unregisterPermissions(Collection<Permission> permissions) {
+
+    }
+
     default void notifyPluginLoaded() {
 
     }
 
+    /**
+     * Registers a listener that is notified when the permissions of players may have changed. Does nothing if not
+     * overridden, since changes can't be detected on every platform.
+     * @param listener Accepts the UUID of the player whose permissions changed, or null if any player may be affected
+     */
+    default void addChangeListener(Consumer<UUID> listener) {
+
+    }
+
+    /**
+     * Removes every listener registered through {@link #addChangeListener(Consumer)}. Should be called when the plugin
+     * is disabled, so that listeners are not leaked across reloads. Does nothing if not overridden.
+     */
+    default void removeChangeListeners() {
+
+    }
+
     static Permissions empty() {
         return EmptyPermissions.INSTANCE;
     }
@@ -0,0 +1,62 @@
+package dev.kejona.crossplatforms.permission;
+
+import dev.kejona.crossplatforms.Logger;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps track of the permissions that a registry has registered, so that only permissions that have been added,
+ * changed or removed since the last time are passed to the {@link Permissions} implementation.
+ */
+public class RegisteredPermissions {
+
+    private final Permissions permissions;
+
+    /**
+     * Registered permissions by key
+     */
+    private final Map<String, Permission> registered = new HashMap<>();
+
+    public RegisteredPermissions(@Nonnull Permissions permissions) {
+        this.permissions = permissions;
+    }
+
+    /**
+     * Registers the permissions that are new or have changed, and unregisters those that are no longer present.
+     * @param current Every permission that should be registered
+     */
+    public void update(@Nonnull Collection<Permission> current) {
+        Map<String, Permission> next = new HashMap<>();
+        List<Permission> changed = new ArrayList<>();
+        List<Permission> removed = new ArrayList<>();
+        for (Permission permission : current) {
+            next.put(permission.key(), permission);
+            Permission previous = registered.get(permission.key());
+            if (!permission.equals(previous)) {
+                changed.add(permission); // implementations replace existing permissions with the same key
+            }
+        }
+
+        for (Permission permission : registered.values()) {
+            if (!next.containsKey(permission.key())) {
+                removed.add(permission);
+            }
+        }
+
+        registered.clear();
+        registered.putAll(next);
+
+        Logger.get().debug("Permissions: " + changed.size() + " new or changed, " + removed.size() + " removed, " + (next.size() - changed.size()) + " unchanged");
+        if (!removed.isEmpty()) {
+            permissions.unregisterPermissions(removed);
+        }
+        if (!changed.isEmpty()) {
+            permissions.registerPermissions(changed);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package dev.kejona.crossplatforms.reloadable;
 
+import dev.kejona.crossplatforms.config.Configuration;
+
 /**
  * Any classes that implements this interface should be able to reload their functionality.
  */
@@ -10,4 +12,13 @@ public interface Reloadable {
      * @return false if there was a severe error
      */
     boolean reload();
+
+    /**
+     * Used when a single configuration has been reloaded, to only reload what is affected by it.
+     * @param config The type of configuration that was reloaded
+     * @return true if this should be reloaded when the given configuration changes. True if not overridden.
+     */
+    default boolean dependsOn(Class<? extends Configuration> config) {
+        return true;
+    }
 }
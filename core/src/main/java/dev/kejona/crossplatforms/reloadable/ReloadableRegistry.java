@@ -3,9 +3,12 @@ package dev.kejona.crossplatforms.reloadable;
 import dev.kejona.crossplatforms.CrossplatForms;
 import dev.kejona.crossplatforms.Logger;
 import dev.kejona.crossplatforms.config.ConfigManager;
+import dev.kejona.crossplatforms.config.Configuration;
 import dev.kejona.crossplatforms.config.GeneralConfig;
 
 import javax.annotation.Nonnull;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -57,4 +60,37 @@ public class ReloadableRegistry {
 
         return success;
     }
+
+    /**
+     * Reloads everything that depends on a configuration that has already been reloaded on its own.
+     * @param config The type of configuration that was reloaded
+     * @return false if something failed to reload
+     * @see Reloadable#dependsOn(Class)
+     */
+    public static boolean reloadDependents(@Nonnull Class<? extends Configuration> config) {
+        return reloadDependents(Collections.singleton(config));
+    }
+
+    /**
+     * Reloads everything that depends on any of the given configurations, which have already been reloaded on their
+     * own. Each dependent is only reloaded once, no matter how many of the configurations it depends on.
+     * @param configs The types of configuration that were reloaded
+     * @return false if something failed to reload
+     * @see Reloadable#dependsOn(Class)
+     */
+    public static boolean reloadDependents(@Nonnull Collection<Class<? extends Configuration>> configs) {
+        Logger logger = Logger.get();
+
+        boolean success = true;
+        for (Reloadable reloadable : reloadables) {
+            if (configs.stream().anyMatch(reloadable::dependsOn)) {
+                logger.debug("Reloading " + reloadable.getClass().getSimpleName());
+                if (!reloadable.reload()) {
+                    logger.severe("Failed to reload instance of: " + reloadable.getClass().getSimpleName());
+                    success = false;
+                }
+            }
+        }
+        return success;
+    }
 }
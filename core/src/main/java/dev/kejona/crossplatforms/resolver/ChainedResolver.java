@@ -0,0 +1,30 @@
+package dev.kejona.crossplatforms.resolver;
+
+import lombok.AllArgsConstructor;
+
+import javax.annotation.Nullable;
+
+/**
+ * Applies one resolver and then another, letting the first one render compiled templates.
+ */
+@AllArgsConstructor
+class ChainedResolver implements Resolver {
+
+    private final Resolver first;
+    private final Resolver second;
+
+    @Override
+    public String apply(@Nullable String s) {
+        return second.apply(first.apply(s));
+    }
+
+    @Override
+    public String render(@Nullable Template template) {
+        String result = first.render(template);
+        if (template != null && result == template.raw()) {
+            // unchanged, so the second resolver can make use of the template too
+            return second.render(template);
+        }
+        return second.apply(result);
+    }
+}
@@ -0,0 +1,205 @@
+package dev.kejona.crossplatforms.resolver;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Replaces any number of keywords in a single left to right scan. The keywords are compiled into a trie once, so the
+ * cost of a replacement depends on the length of the text rather than the number of keywords. When multiple keywords
+ * start at the same position, the longest one is replaced. Replacement values are never scanned again.
+ */
+public final class KeywordMatcher {
+
+    private static final KeywordMatcher EMPTY = new KeywordMatcher(new Node(new char[0], new Node[0], null), true, true);
+
+    private final Node root;
+
+    /**
+     * If every keyword contains a placeholder delimiter
+     */
+    private final boolean delimited;
+
+    /**
+     * If every keyword is a simple placeholder token
+     */
+    private final boolean tokens;
+
+    private KeywordMatcher(Node root, boolean delimited, boolean tokens) {
+        this.root = root;
+        this.delimited = delimited;
+        this.tokens = tokens;
+    }
+
+    /**
+     * @param replacements keywords mapped to their replacements. Empty keywords are ignored, and null replacements
+     *                     are treated as empty strings.
+     * @return a matcher for the given replacements
+     */
+    @Nonnull
+    public static KeywordMatcher of(@Nonnull Map<String, String> replacements) {
+        if (replacements.isEmpty()) {
+            return EMPTY;
+        }
+
+        MutableNode root = new MutableNode();
+        boolean delimited = true;
+        boolean tokens = true;
+        for (Map.Entry<String, String> entry : replacements.entrySet()) {
+            String keyword = entry.getKey();
+            if (keyword == null || keyword.isEmpty()) {
+                continue;
+            }
+            delimited &= !Template.isPlain(keyword);
+            tokens &= Template.isSimpleToken(keyword);
+
+            MutableNode node = root;
+            for (int i = 0; i < keyword.length(); i++) {
+                node = node.children.computeIfAbsent(keyword.charAt(i), c -> new MutableNode());
+            }
+            String value = entry.getValue();
+            node.value = (value == null) ? "" : value;
+        }
+
+        return new KeywordMatcher(root.freeze(), delimited, tokens);
+    }
+
+    /**
+     * @return true if this matcher has no keywords, and will never change any text.
+     */
+    public boolean isEmpty() {
+        return root.chars.length == 0;
+    }
+
+    /**
+     * @return true if every keyword contains a {@code %} or {@code {} character, meaning that no keyword can be found
+     * in text that is {@link Template#isPlain(String) plain}.
+     */
+    public boolean isDelimited() {
+        return delimited;
+    }
+
+    /**
+     * @return true if every keyword is a {@link Template#isSimpleToken(String) simple token}, meaning that the
+     * placeholders of an {@link Template#isIsolated() isolated} template can be looked up with {@link #get(String)}
+     * instead of scanning it.
+     */
+    public boolean isTokens() {
+        return tokens;
+    }
+
+    /**
+     * @param keyword A whole keyword
+     * @return The replacement of the keyword, or null if it is not a keyword
+     */
+    @Nullable
+    public String get(@Nonnull String keyword) {
+        Node node = root;
+        for (int i = 0; i < keyword.length() && node != null; i++) {
+            node = node.child(keyword.charAt(i));
+        }
+        return node == null ? null : node.value;
+    }
+
+    /**
+     * Replace every keyword in the given text
+     * @param text the text to perform replacements on
+     * @return the text with replacements. If no keyword was found, the same instance that was given.
+     */
+    @Nonnull
+    public String replace(@Nonnull String text) {
+        if (isEmpty()) {
+            return text;
+        }
+
+        int length = text.length();
+        StringBuilder builder = null;
+        int copied = 0; // the index up until text has been copied to the builder
+
+        int i = 0;
+        while (i < length) {
+            // walk the trie as far as possible, remembering the longest keyword
+            Node node = root;
+            int matchEnd = -1;
+            String value = null;
+            for (int j = i; j < length; j++) {
+                node = node.child(text.charAt(j));
+                if (node == null) {
+                    break;
+                }
+                if (node.value != null) {
+                    matchEnd = j + 1;
+                    value = node.value;
+                }
+            }
+
+            if (matchEnd == -1) {
+                i++;
+            } else {
+                if (builder == null) {
+                    builder = new StringBuilder(length + 16);
+                }
+                builder.append(text, copied, i).append(value);
+                i = matchEnd;
+                copied = matchEnd;
+            }
+        }
+
+        if (builder == null) {
+            return text;
+        }
+
+        builder.append(text, copied, length);
+        return builder.toString();
+    }
+
+    private static final class Node {
+
+        /**
+         * Sorted characters of the children
+         */
+        private final char[] chars;
+        private final Node[] children;
+
+        /**
+         * The replacement value if a keyword ends at this node
+         */
+        private final String value;
+
+        private Node(char[] chars, Node[] children, String value) {
+            this.chars = chars;
+            this.children = children;
+            this.value = value;
+        }
+
+        private Node child(char c) {
+            if (chars.length == 1) {
+                // most nodes of a trie only have a single child
+                return chars[0] == c ? children[0] : null;
+            }
+
+            int index = Arrays.binarySearch(chars, c);
+            return index < 0 ? null : children[index];
+        }
+    }
+
+    private static final class MutableNode {
+
+        private final TreeMap<Character, MutableNode> children = new TreeMap<>();
+        private String value;
+
+        private Node freeze() {
+            char[] chars = new char[children.size()];
+            Node[] frozen = new Node[children.size()];
+            int i = 0;
+            for (Map.Entry<Character, MutableNode> entry : children.entrySet()) {
+                chars[i] = entry.getKey();
+                frozen[i] = entry.getValue().freeze();
+                i++;
+            }
+            return new Node(chars, frozen, value);
+        }
+    }
+}
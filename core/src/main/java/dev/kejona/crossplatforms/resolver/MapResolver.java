@@ -1,28 +1,79 @@
 package dev.kejona.crossplatforms.resolver;
 
 import dev.kejona.crossplatforms.Logger;
-import lombok.AllArgsConstructor;
 
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.Map;
+import java.util.Objects;
 
-@AllArgsConstructor
 public class MapResolver implements Resolver {
 
+    @Nullable
     private final Map<String, String> map;
 
+    /**
+     * Built on first use if only the map was given, since many resolvers are never applied to anything.
+     */
+    @Nullable
+    private KeywordMatcher matcher;
+
+    public MapResolver(@Nonnull Map<String, String> map) {
+        this.map = map;
+    }
+
+    /**
+     * @param matcher The placeholders to replace, for maps that are reused by many resolvers
+     */
+    public MapResolver(@Nonnull KeywordMatcher matcher) {
+        this.map = null;
+        this.matcher = matcher;
+    }
+
     @Override
     public String apply(final String s) {
         if (s == null) {
             return null;
         }
 
-        String result = s;
-        for (String key : map.keySet()) {
-            result = result.replace(key, map.get(key));
+        // every key is replaced in a single scan, so a value is never substituted again by another key
+        String result = matcher().replace(s);
+        if (Logger.get().isDebug()) {
+            Logger.get().info("Result of map resolver: " + result);
+        }
+        return result;
+    }
+
+    @Override
+    public String render(@Nullable Template template) {
+        if (template == null) {
+            return null;
+        }
+
+        KeywordMatcher matcher = matcher();
+        if (matcher.isEmpty() || (template.isPlain() && matcher.isDelimited())) {
+            return template.raw();
+        }
+
+        String result;
+        if (matcher.isTokens() && template.isIsolated()) {
+            // no key can be anywhere but the placeholders, so they are looked up in one pass over the segments
+            result = template.render(matcher::get);
+        } else {
+            // the keys may be anywhere in the text, e.g. nested in another token, so the raw string is scanned the
+            // same way as apply
+            result = matcher.replace(template.raw());
         }
         if (Logger.get().isDebug()) {
             Logger.get().info("Result of map resolver: " + result);
         }
         return result;
     }
+
+    private KeywordMatcher matcher() {
+        if (matcher == null) {
+            matcher = KeywordMatcher.of(Objects.requireNonNull(map));
+        }
+        return matcher;
+    }
 }
@@ -0,0 +1,38 @@
+package dev.kejona.crossplatforms.resolver;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers the results of another resolver. Only suitable for resolvers that always give the same result for the
+ * same input, such as a {@link MapResolver} that is shared between many players.
+ */
+public class MemoizedResolver implements Resolver {
+
+    private final Resolver resolver;
+
+    private final Map<String, String> applied = new ConcurrentHashMap<>();
+    private final Map<Template, String> rendered = new ConcurrentHashMap<>();
+
+    public MemoizedResolver(@Nonnull Resolver resolver) {
+        this.resolver = resolver;
+    }
+
+    @Override
+    public String apply(@Nullable String s) {
+        if (s == null) {
+            return null;
+        }
+        return applied.computeIfAbsent(s, resolver);
+    }
+
+    @Override
+    public String render(@Nullable Template template) {
+        if (template == null) {
+            return null;
+        }
+        return rendered.computeIfAbsent(template, resolver::render);
+    }
+}
@@ -15,6 +15,20 @@ public class PlayerResolver implements Resolver {
         if (s == null) {
             return null;
         }
+        if (Template.isPlain(s)) {
+            return s;
+        }
         return placeholders.setPlaceholders(player, s);
     }
+
+    @Override
+    public String render(Template template) {
+        if (template == null) {
+            return null;
+        }
+        if (template.isPlain()) {
+            return template.raw();
+        }
+        return placeholders.setPlaceholders(player, template.raw());
+    }
 }
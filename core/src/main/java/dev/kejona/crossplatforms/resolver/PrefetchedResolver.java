@@ -0,0 +1,125 @@
+package dev.kejona.crossplatforms.resolver;
+
+import dev.kejona.crossplatforms.Logger;
+import dev.kejona.crossplatforms.handler.ServerHandler;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Resolves placeholders from values that were fetched ahead of time on the main thread, so that a form can be built on
+ * another thread. Strings that contain placeholders which were not prefetched are given to the underlying resolver on
+ * the main thread, which blocks the calling thread until it is done and logs a warning.
+ */
+public class PrefetchedResolver implements Resolver {
+
+    /**
+     * Maximum time to wait for the main thread to resolve something that was not prefetched
+     */
+    private static final long FALLBACK_TIMEOUT = 5;
+
+    private final Resolver resolver;
+    private final ServerHandler serverHandler;
+    private final Map<String, String> values;
+
+    private PrefetchedResolver(Resolver resolver, ServerHandler serverHandler, Map<String, String> values) {
+        this.resolver = resolver;
+        this.serverHandler = serverHandler;
+        this.values = values;
+    }
+
+    /**
+     * Resolves every %placeholder% of the given templates. Must be called on the main thread.
+     * @param resolver The resolver to prefetch with, and to use for anything that was not prefetched
+     * @param serverHandler Used to schedule resolving on the main thread if necessary
+     * @param templates The templates that are expected to be resolved
+     * @param excluded Tokens that should not be prefetched, for example because another resolver handles them first
+     */
+    public static PrefetchedResolver prefetch(@Nonnull Resolver resolver,
+                                              @Nonnull ServerHandler serverHandler,
+                                              @Nonnull Iterable<Template> templates,
+                                              @Nonnull Collection<String> excluded) {
+        Map<String, String> values = new HashMap<>();
+        for (Template template : templates) {
+            for (String token : template.placeholders()) {
+                if (token.charAt(0) == '%' && !excluded.contains(token) && !values.containsKey(token)) {
+                    values.put(token, resolver.apply(token));
+                }
+            }
+        }
+        return new PrefetchedResolver(resolver, serverHandler, values);
+    }
+
+    @Override
+    public String apply(@Nullable String s) {
+        if (s == null) {
+            return null;
+        }
+        if (Template.isPlain(s)) {
+            return s;
+        }
+        return render(Template.compile(s));
+    }
+
+    @Override
+    public String render(@Nullable Template template) {
+        if (template == null) {
+            return null;
+        }
+        if (template.isPlain()) {
+            return template.raw();
+        }
+        if (covered(template)) {
+            return template.render(values::get);
+        }
+        return fallback(template);
+    }
+
+    /**
+     * @return true if every %placeholder% of the template was prefetched. Other tokens, such as {@code {name}}, and
+     * {@code %} characters that aren't part of a token, such as in {@code 50% off}, are left as they are.
+     */
+    private boolean covered(Template template) {
+        for (String token : template.placeholders()) {
+            if (token.charAt(0) == '%' && !values.containsKey(token)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String fallback(Template template) {
+        if (serverHandler.isPrimaryThread()) {
+            // nothing is blocked, for example when response handlers use this resolver
+            return resolver.render(template);
+        }
+
+        // everything that a form resolves should have been prefetched, so this is a bug
+        Logger.get().warn("Blocking for the main thread to resolve placeholders that were not prefetched: " + template.raw());
+        CompletableFuture<String> future = new CompletableFuture<>();
+        serverHandler.executeSafely(() -> {
+            try {
+                future.complete(resolver.render(template));
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+
+        try {
+            return future.get(FALLBACK_TIMEOUT, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            Logger.get().warn("Failed to resolve placeholders on the main thread for: " + template.raw());
+            Logger.get().debug(e.toString());
+        }
+        return template.raw();
+    }
+}
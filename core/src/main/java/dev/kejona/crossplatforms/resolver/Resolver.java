@@ -40,8 +40,34 @@ public interface Resolver extends UnaryOperator<String> {
         return resolved;
     }
 
+    /**
+     * Resolves a template that was compiled ahead of time. If not overridden, this simply applies the raw string of
+     * the template.
+     */
+    @Contract("!null -> !null; null -> null")
+    default String render(@Nullable Template template) {
+        if (template == null) {
+            return null;
+        }
+
+        return apply(template.raw());
+    }
+
+    @Contract("!null -> !null; null -> null")
+    default List<String> render(@Nullable List<Template> templates) {
+        if (templates == null) {
+            return null;
+        }
+
+        List<String> resolved = new ArrayList<>(templates.size());
+        for (Template template : templates) {
+            resolved.add(render(template));
+        }
+        return resolved;
+    }
+
     default Resolver then(Resolver resolver) {
-        return s -> resolver.apply(this.apply(s));
+        return new ChainedResolver(this, resolver);
     }
 
     static Resolver of(@Nonnull final UnaryOperator<String> keyMapper) {
@@ -0,0 +1,306 @@
+package dev.kejona.crossplatforms.resolver;
+
+import org.jetbrains.annotations.Contract;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A string that has been split into literal and placeholder segments ahead of time, so that it can be rendered by a
+ * {@link Resolver} without scanning the raw string again. Placeholders are tokens in the form of {@code %name%} or
+ * {@code {name}}, and never contain whitespace.
+ */
+public final class Template {
+
+    public static final Template EMPTY = new Template("", new String[]{""}, new String[0]);
+
+    /**
+     * Builder reused for rendering on each thread, so that rendering does not allocate one every time.
+     */
+    private static final ThreadLocal<StringBuilder> BUILDER = ThreadLocal.withInitial(() -> new StringBuilder(64));
+
+    private final String raw;
+
+    /**
+     * Literal text segments. The literal at index i precedes the placeholder at index i, and the last literal follows
+     * the last placeholder. Always one element longer than {@link #placeholders}.
+     */
+    private final String[] literals;
+
+    /**
+     * Placeholder tokens, including their delimiters.
+     */
+    private final String[] placeholders;
+
+    /**
+     * If the raw string contains no placeholder delimiters at all
+     */
+    private final boolean plain;
+
+    /**
+     * If every placeholder delimiter of the raw string belongs to a simple token, and no simple token can be found
+     * between two placeholders
+     */
+    private final boolean isolated;
+
+    private Template(String raw, String[] literals, String[] placeholders) {
+        this.raw = raw;
+        this.literals = literals;
+        this.placeholders = placeholders;
+        this.plain = isPlain(raw);
+        this.isolated = isolated(literals, placeholders);
+    }
+
+    /**
+     * @param s A string
+     * @return true if the string contains no {@code %} or {@code {} characters, meaning that no resolver can change it.
+     */
+    public static boolean isPlain(@Nonnull String s) {
+        return s.indexOf('%') == -1 && s.indexOf('{') == -1;
+    }
+
+    /**
+     * @param s A string
+     * @return true if the string is a single {@code %name%} or {@code {name}} token, with no delimiters or whitespace
+     * between its own delimiters.
+     */
+    public static boolean isSimpleToken(@Nonnull String s) {
+        int length = s.length();
+        if (length < 3) {
+            return false;
+        }
+        char first = s.charAt(0);
+        char last = s.charAt(length - 1);
+        if (!(first == '%' && last == '%') && !(first == '{' && last == '}')) {
+            return false;
+        }
+        for (int i = 1; i < length - 1; i++) {
+            char c = s.charAt(i);
+            if (isDelimiter(c) || Character.isWhitespace(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDelimiter(char c) {
+        return c == '%' || c == '{' || c == '}';
+    }
+
+    private static boolean isolated(String[] literals, String[] placeholders) {
+        for (String literal : literals) {
+            for (int i = 0; i < literal.length(); i++) {
+                if (isDelimiter(literal.charAt(i))) {
+                    return false;
+                }
+            }
+        }
+        for (int i = 0; i < placeholders.length; i++) {
+            if (!isSimpleToken(placeholders[i])) {
+                return false;
+            }
+            // the closing % of a token and the opening % of the next could enclose another token, e.g. %a%b%c%
+            String between = literals[i + 1];
+            if (i + 1 < placeholders.length && placeholders[i].charAt(0) == '%' && placeholders[i + 1].charAt(0) == '%'
+                && !between.isEmpty() && between.chars().noneMatch(Character::isWhitespace)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compiles a string into its literal and placeholder segments.
+     * @param raw The string to compile
+     * @return the compiled template, or null if the given string was null
+     */
+    @Contract("null -> null; !null -> !null")
+    public static Template compile(@Nullable String raw) {
+        if (raw == null) {
+            return null;
+        } else if (raw.isEmpty()) {
+            return EMPTY;
+        }
+
+        List<String> literals = null;
+        List<String> placeholders = null;
+
+        int length = raw.length();
+        int literalStart = 0;
+        int i = 0;
+        while (i < length) {
+            char c = raw.charAt(i);
+            int end = -1;
+            if (c == '%') {
+                end = tokenEnd(raw, i, '%');
+            } else if (c == '{') {
+                end = tokenEnd(raw, i, '}');
+            }
+
+            if (end == -1) {
+                i++;
+            } else {
+                if (literals == null) {
+                    literals = new ArrayList<>();
+                    placeholders = new ArrayList<>();
+                }
+                literals.add(raw.substring(literalStart, i));
+                placeholders.add(raw.substring(i, end + 1));
+                literalStart = end + 1;
+                i = end + 1;
+            }
+        }
+
+        if (literals == null) {
+            return new Template(raw, new String[]{raw}, new String[0]);
+        }
+
+        literals.add(raw.substring(literalStart));
+        return new Template(raw, literals.toArray(new String[0]), placeholders.toArray(new String[0]));
+    }
+
+    /**
+     * Compiles every string of a list
+     * @see #compile(String)
+     */
+    @Contract("null -> null; !null -> !null")
+    public static List<Template> compile(@Nullable List<String> raw) {
+        if (raw == null) {
+            return null;
+        } else if (raw.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Template> templates = new ArrayList<>(raw.size());
+        for (String s : raw) {
+            templates.add(compile(s));
+        }
+        return Collections.unmodifiableList(templates);
+    }
+
+    /**
+     * @return the index of the closing delimiter of the token starting at the given index, or -1 if there is no valid
+     * token there.
+     */
+    private static int tokenEnd(String s, int start, char closing) {
+        int length = s.length();
+        for (int i = start + 1; i < length; i++) {
+            char c = s.charAt(i);
+            if (c == closing) {
+                // tokens must have content between the delimiters
+                return i == start + 1 ? -1 : i;
+            } else if (Character.isWhitespace(c)) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return The string this template was compiled from
+     */
+    @Nonnull
+    public String raw() {
+        return raw;
+    }
+
+    /**
+     * @return true if this template has no placeholders, meaning it will always render to {@link #raw()}
+     */
+    public boolean isStatic() {
+        return placeholders.length == 0;
+    }
+
+    /**
+     * @return true if this template contains no placeholder delimiters at all. Resolvers return plain templates
+     * untouched without doing any work, while templates that are static but not plain, such as {@code 50% off}, may
+     * still be given to external placeholder implementations.
+     */
+    public boolean isPlain() {
+        return plain;
+    }
+
+    /**
+     * @return true if scanning {@link #raw()} for {@link #isSimpleToken(String) simple tokens} can only find the
+     * placeholders of this template. Looking up the placeholders then gives the same result as scanning the raw string,
+     * without scanning it.
+     */
+    public boolean isIsolated() {
+        return isolated;
+    }
+
+    /**
+     * @return The placeholder tokens of this template, including delimiters, in the order they appear.
+     */
+    @Nonnull
+    public List<String> placeholders() {
+        return Collections.unmodifiableList(Arrays.asList(placeholders));
+    }
+
+    /**
+     * Renders this template in a single pass.
+     * @param values Provides the value of a placeholder token, including its delimiters. If null is returned, the
+     *               token is left as is.
+     * @return The rendered string. Returns {@link #raw()} if no placeholders were replaced.
+     */
+    @Nonnull
+    public String render(@Nonnull Function<String, String> values) {
+        if (placeholders.length == 0) {
+            return raw;
+        }
+
+        StringBuilder builder = null;
+        for (int i = 0; i < placeholders.length; i++) {
+            String value = values.apply(placeholders[i]);
+            if (value != null) {
+                if (builder == null) {
+                    // first placeholder that changes something. copy everything up to it.
+                    builder = BUILDER.get();
+                    builder.setLength(0);
+                    for (int j = 0; j < i; j++) {
+                        builder.append(literals[j]).append(placeholders[j]);
+                    }
+                }
+                builder.append(literals[i]).append(value);
+            } else if (builder != null) {
+                builder.append(literals[i]).append(placeholders[i]);
+            }
+        }
+
+        if (builder == null) {
+            return raw;
+        }
+
+        builder.append(literals[placeholders.length]);
+        String result = builder.toString();
+        if (builder.capacity() > 4096) {
+            // don't hold onto very large buffers
+            BUILDER.remove();
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Template template = (Template) o;
+        return raw.equals(template.raw);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(raw);
+    }
+
+    @Override
+    public String toString() {
+        return raw;
+    }
+}
@@ -0,0 +1,135 @@
+package dev.kejona.crossplatforms.serialize;
+
+import io.leangen.geantyref.TypeToken;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.serialize.SerializationException;
+import org.spongepowered.configurate.serialize.TypeSerializer;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.function.BooleanSupplier;
+
+/**
+ * A value that may not be deserialized until it is first needed. Whether values are deserialized immediately or
+ * lazily is decided by the {@link Serializer} when the config is loaded. If immediately, errors are reported while
+ * loading the config as usual.
+ * @param <T> The type of the value
+ */
+public final class Lazy<T> {
+
+    public static final TypeToken<Lazy<?>> TYPE = new TypeToken<Lazy<?>>() {};
+
+    @Nullable
+    private final ConfigurationNode node;
+    private final Type type;
+    @Nullable
+    private volatile T value;
+
+    private Lazy(@Nullable ConfigurationNode node, Type type, @Nullable T value) {
+        this.node = node;
+        this.type = type;
+        this.value = value;
+    }
+
+    /**
+     * @return A lazy value that is already deserialized
+     */
+    public static <T> Lazy<T> of(T value) {
+        return new Lazy<>(null, value.getClass(), value);
+    }
+
+    /**
+     * @return true if the value has been deserialized
+     */
+    public boolean isLoaded() {
+        return value != null;
+    }
+
+    /**
+     * @return The value if it has been deserialized, otherwise null
+     */
+    @Nullable
+    public T getIfLoaded() {
+        return value;
+    }
+
+    /**
+     * @return The node that the value is deserialized from, or null if the value was deserialized when loading the config
+     */
+    @Nullable
+    public ConfigurationNode node() {
+        return node;
+    }
+
+    /**
+     * Gets the value, deserializing it if this is the first call.
+     * @throws SerializationException if the value failed to deserialize. Later calls will try again.
+     */
+    @SuppressWarnings("unchecked")
+    public T get() throws SerializationException {
+        T value = this.value;
+        if (value != null) {
+            return value;
+        }
+
+        synchronized (this) {
+            if (this.value == null) {
+                if (node == null) {
+                    throw new IllegalStateException("Lazy value has no value or node"); // not possible
+                }
+                Object mapped = node.get(type);
+                if (mapped == null) {
+                    throw new SerializationException(node, type, "Deserialization resulted in null");
+                }
+                this.value = (T) mapped;
+            }
+            return this.value;
+        }
+    }
+
+    /**
+     * Deserializes values immediately or lazily, depending on the given condition at the time of deserialization.
+     */
+    public static class Serializer implements TypeSerializer<Lazy<?>> {
+
+        private final BooleanSupplier lazy;
+
+        /**
+         * @param lazy Decides if values should be deserialized lazily
+         */
+        public Serializer(BooleanSupplier lazy) {
+            this.lazy = lazy;
+        }
+
+        @Override
+        public Lazy<?> deserialize(Type type, ConfigurationNode node) throws SerializationException {
+            Type valueType = valueType(type);
+            if (lazy.getAsBoolean()) {
+                return new Lazy<>(node, valueType, null);
+            }
+
+            Object value = node.get(valueType);
+            if (value == null) {
+                throw new SerializationException(node, valueType, "Deserialization resulted in null");
+            }
+            return new Lazy<>(null, valueType, value);
+        }
+
+        @Override
+        public void serialize(Type type, @Nullable Lazy<?> lazy, ConfigurationNode node) throws SerializationException {
+            if (lazy == null) {
+                node.raw(null);
+            } else {
+                node.set(valueType(type), lazy.get());
+            }
+        }
+
+        private static Type valueType(Type type) throws SerializationException {
+            if (!(type instanceof ParameterizedType)) {
+                throw new SerializationException(type, "Raw types are not supported for lazy values");
+            }
+            return ((ParameterizedType) type).getActualTypeArguments()[0];
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package dev.kejona.crossplatforms.command;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SuggestionCacheTest {
+
+    private static final long TTL = 1000;
+
+    private final UUID sender = UUID.randomUUID();
+    private final UUID target = UUID.randomUUID();
+    private final Object source = new Object();
+
+    private long time = 0;
+    private final SuggestionCache cache = new SuggestionCache(() -> time, TTL);
+    private int loads = 0;
+
+    @Test
+    public void testRange() {
+        String[] sorted = {"alpha", "Beta", "beta2", "bETa3", "gamma"};
+        assertEquals(Arrays.asList(sorted), SuggestionCache.range(sorted, ""));
+        assertEquals(Arrays.asList("Beta", "beta2", "bETa3"), SuggestionCache.range(sorted, "be"));
+        assertEquals(Arrays.asList("beta2"), SuggestionCache.range(sorted, "BETA2"));
+        assertEquals(Collections.singletonList("gamma"), SuggestionCache.range(sorted, "g"));
+        assertEquals(Collections.emptyList(), SuggestionCache.range(sorted, "delta"));
+        assertEquals(Collections.emptyList(), SuggestionCache.range(sorted, "zeta"));
+        assertEquals(Collections.emptyList(), SuggestionCache.range(new String[0], "a"));
+    }
+
+    @Test
+    public void testCaching() {
+        SuggestionCache.Key key = SuggestionCache.key("open", sender, null);
+        Supplier<Collection<String>> loader = loader("main", "Hub", "shop", "main");
+
+        assertEquals(Arrays.asList("Hub", "main", "shop"), cache.suggest(key, source, "", loader));
+        assertEquals(Collections.singletonList("shop"), cache.suggest(key, source, "s", loader));
+        assertEquals(1, loads);
+
+        // a different sender has separate suggestions
+        cache.suggest(SuggestionCache.key("open", UUID.randomUUID(), null), source, "", loader);
+        assertEquals(2, loads);
+
+        // the source has been replaced, e.g. by a reload
+        cache.suggest(key, new Object(), "", loader);
+        assertEquals(3, loads);
+
+        time += TTL;
+        cache.suggest(key, source, "", loader);
+        assertEquals(4, loads);
+    }
+
+    @Test
+    public void testInvalidate() {
+        SuggestionCache.Key open = SuggestionCache.key("open", sender, null);
+        SuggestionCache.Key send = SuggestionCache.key("send", UUID.randomUUID(), target);
+        Supplier<Collection<String>> loader = loader("main");
+
+        cache.suggest(open, source, "", loader);
+        cache.suggest(send, source, "", loader);
+        assertEquals(2, cache.size());
+
+        // suggestions for other players that depend on the target are removed too
+        cache.invalidate(target);
+        assertEquals(1, cache.size());
+        cache.invalidate(sender);
+        assertEquals(0, cache.size());
+
+        cache.suggest(open, source, "", loader);
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+        assertEquals(3, loads);
+    }
+
+    @Test
+    public void testPurge() {
+        Supplier<Collection<String>> loader = loader("main");
+        cache.suggest(SuggestionCache.key("open", sender, null), source, "", loader);
+        cache.suggest(SuggestionCache.key("open", target, null), source, "", loader);
+
+        time += TTL;
+        cache.suggest(SuggestionCache.key("open", UUID.randomUUID(), null), source, "", loader);
+        assertEquals(1, cache.size());
+    }
+
+    private Supplier<Collection<String>> loader(String... suggestions) {
+        List<String> list = Arrays.asList(suggestions);
+        return () -> {
+            loads++;
+            return list;
+        };
+    }
+}
@@ -0,0 +1,120 @@
+package dev.kejona.crossplatforms.command.custom;
+
+import dev.kejona.crossplatforms.TestServerHandler;
+import dev.kejona.crossplatforms.config.GeneralConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class InterceptCommandCacheTest {
+
+    private static final int THREADS = 8;
+    private static final int RELOADS = 2000;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    public void testReplace() throws IOException {
+        List<InterceptCommand> commands = load();
+        InterceptCommandCache cache = new TestServerHandler();
+
+        cache.setInterceptCommands(commands);
+        assertSame(commands.get(0), cache.findCommand("warp spawn"));
+
+        cache.setInterceptCommands(commands.subList(1, commands.size()));
+        assertSame(commands.get(1), cache.findCommand("warp spawn"));
+
+        cache.clearInterceptCommands();
+        assertNull(cache.findCommand("warp spawn"));
+
+        cache.registerInterceptCommand(commands.get(2));
+        assertSame(commands.get(2), cache.findCommand("home base1"));
+    }
+
+    @Test
+    public void testConcurrentReload() throws Exception {
+        List<InterceptCommand> commands = load();
+        List<InterceptCommand> exact = Collections.singletonList(commands.get(0));
+        List<InterceptCommand> patterns = commands.subList(1, commands.size());
+
+        InterceptCommandCache cache = new TestServerHandler();
+        cache.setInterceptCommands(exact);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        AtomicBoolean reloading = new AtomicBoolean(true);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> readers = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                readers.add(executor.submit(() -> {
+                    start.await();
+                    int lookups = 0;
+                    do {
+                        // both sets of commands intercept this, so there is always a match
+                        assertNotNull(cache.findCommand("warp spawn"));
+                        assertNull(cache.findCommand("gamemode creative"));
+                        lookups++;
+                    } while (reloading.get());
+                    return lookups;
+                }));
+            }
+
+            start.countDown();
+            for (int i = 0; i < RELOADS; i++) {
+                cache.setInterceptCommands(i % 2 == 0 ? patterns : exact);
+            }
+            reloading.set(false);
+
+            for (Future<Integer> reader : readers) {
+                assertTrue(reader.get(30, TimeUnit.SECONDS) > 0);
+            }
+        } finally {
+            reloading.set(false);
+            executor.shutdownNow();
+        }
+
+        long matches = 0;
+        for (InterceptCommand command : commands) {
+            matches += command.getMatches();
+        }
+        assertTrue(matches > 0);
+        assertEquals(0, commands.get(3).getMatches());
+    }
+
+    private List<InterceptCommand> load() throws IOException {
+        return InterceptMatcherTest.loadCommands(directory, String.join("\n",
+            "commands:",
+            "  exact:",
+            "    method: intercept_cancel",
+            "    exact: 'warp spawn'",
+            "  warp:",
+            "    method: intercept_cancel",
+            "    pattern: 'warp .*'",
+            "  home:",
+            "    method: intercept_cancel",
+            "    pattern: 'home\\s+base\\d+'",
+            "  unused:",
+            "    method: intercept_pass",
+            "    pattern: '(?:spawn|lobby)'",
+            "config-version: " + GeneralConfig.VERSION
+        ));
+    }
+}
@@ -0,0 +1,139 @@
+package dev.kejona.crossplatforms.command.custom;
+
+import com.google.inject.Guice;
+import dev.kejona.crossplatforms.TestLogger;
+import dev.kejona.crossplatforms.TestModule;
+import dev.kejona.crossplatforms.TestServerHandler;
+import dev.kejona.crossplatforms.config.ConfigId;
+import dev.kejona.crossplatforms.config.ConfigManager;
+import dev.kejona.crossplatforms.config.GeneralConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class InterceptMatcherTest {
+
+    private static final String CONFIG = String.join("\n",
+        "commands:",
+        "  exact:",
+        "    method: intercept_cancel",
+        "    exact: 'warp spawn'",
+        "  home:",
+        "    method: intercept_cancel",
+        "    pattern: 'home\\s+base\\d+(\\s.*)?'",
+        "  home-other:",
+        "    method: intercept_cancel",
+        "    pattern: 'home (.*)'",
+        "  any:",
+        "    method: intercept_pass",
+        "    pattern: '(?:warp|home) .*'",
+        "  named:",
+        "    method: intercept_pass",
+        "    pattern: 'tp (?<name>\\w+)'",
+        "  named-again:",
+        "    method: intercept_pass",
+        "    pattern: 'tp (?<name>\\w+) (\\w+)'",
+        "config-version: " + GeneralConfig.VERSION
+    );
+
+    @TempDir
+    private Path directory;
+
+    private List<InterceptCommand> commands;
+
+    @BeforeEach
+    public void load() throws IOException {
+        commands = loadCommands(directory, CONFIG);
+    }
+
+    /**
+     * Loads the intercept commands of a config.yml
+     */
+    static List<InterceptCommand> loadCommands(Path directory, String config) throws IOException {
+        Files.write(directory.resolve("config.yml"), config.getBytes(StandardCharsets.UTF_8));
+        TestLogger logger = new TestLogger();
+        ConfigManager manager = new ConfigManager(directory, logger, Guice.createInjector(new TestModule()));
+        manager.register(ConfigId.GENERAL);
+        assertTrue(manager.load(), logger.warningDump());
+
+        List<InterceptCommand> commands = new ArrayList<>();
+        for (CustomCommand command : manager.getConfig(GeneralConfig.class).orElseThrow(AssertionError::new).getCommands().values()) {
+            commands.add((InterceptCommand) command);
+        }
+        return commands;
+    }
+
+    @Test
+    public void testFind() {
+        InterceptMatcher matcher = new InterceptMatcher(commands);
+        assertEquals("exact", identifier(matcher, "warp spawn"));
+        assertEquals("home", identifier(matcher, "home base5"));
+        assertEquals("home", identifier(matcher, "home  base5 now"));
+        assertEquals("home-other", identifier(matcher, "home base"));
+        assertEquals("any", identifier(matcher, "warp shop"));
+        assertEquals("named", identifier(matcher, "tp Notch"));
+        assertEquals("named-again", identifier(matcher, "tp Notch jeb_"));
+
+        assertNull(matcher.find("homes base5"));
+        assertNull(matcher.find("gamemode creative"));
+        assertNull(matcher.find(""));
+    }
+
+    @Test
+    public void testOrder() {
+        // the unindexed pattern is registered before the indexed patterns, so it is preferred
+        List<InterceptCommand> reordered = new ArrayList<>(commands);
+        InterceptCommand any = reordered.remove(3);
+        reordered.add(0, any);
+
+        InterceptMatcher matcher = new InterceptMatcher(reordered);
+        assertEquals("any", identifier(matcher, "home base5"));
+        assertEquals("exact", identifier(matcher, "warp spawn")); // exact matches always come first
+    }
+
+    @Test
+    public void testLiteralFirstWord() {
+        assertEquals("home", InterceptMatcher.literalFirstWord(Pattern.compile("home")));
+        assertEquals("home", InterceptMatcher.literalFirstWord(Pattern.compile("home .*")));
+        assertEquals("home", InterceptMatcher.literalFirstWord(Pattern.compile("home\\s+(a|b)")));
+        assertEquals("plugin:home", InterceptMatcher.literalFirstWord(Pattern.compile("plugin:home +x")));
+
+        assertNull(InterceptMatcher.literalFirstWord(Pattern.compile("homes?")));
+        assertNull(InterceptMatcher.literalFirstWord(Pattern.compile("home.*")));
+        assertNull(InterceptMatcher.literalFirstWord(Pattern.compile("home ?x")));
+        assertNull(InterceptMatcher.literalFirstWord(Pattern.compile("home\\s*x")));
+        assertNull(InterceptMatcher.literalFirstWord(Pattern.compile("home x|warp")));
+        assertNull(InterceptMatcher.literalFirstWord(Pattern.compile("(?i)home")));
+        assertNull(InterceptMatcher.literalFirstWord(Pattern.compile("home", Pattern.CASE_INSENSITIVE)));
+    }
+
+    @Test
+    public void testMatchCount() {
+        InterceptCommandCache cache = new TestServerHandler();
+        for (InterceptCommand command : commands) {
+            cache.registerInterceptCommand(command);
+        }
+
+        cache.findCommand("warp spawn");
+        cache.findCommand("warp spawn");
+        cache.findCommand("gamemode creative");
+        assertEquals(2, commands.get(0).getMatches());
+    }
+
+    private static String identifier(InterceptMatcher matcher, String input) {
+        InterceptCommand command = matcher.find(input);
+        return command == null ? null : command.getIdentifier();
+    }
+}
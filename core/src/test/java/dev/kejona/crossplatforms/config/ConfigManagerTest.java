@@ -6,16 +6,31 @@ import dev.kejona.crossplatforms.TestModule;
 import dev.kejona.crossplatforms.action.ActionSerializer;
 import dev.kejona.crossplatforms.action.BedrockTransferAction;
 import dev.kejona.crossplatforms.action.ServerAction;
+import dev.kejona.crossplatforms.interfacing.Interface;
+import dev.kejona.crossplatforms.interfacing.InterfaceEntry;
+import dev.kejona.crossplatforms.interfacing.Interfacer;
 import dev.kejona.crossplatforms.interfacing.bedrock.BedrockForm;
+import dev.kejona.crossplatforms.interfacing.bedrock.BedrockFormRegistry;
 import dev.kejona.crossplatforms.interfacing.bedrock.BedrockFormSerializer;
 import dev.kejona.crossplatforms.interfacing.bedrock.FormConfig;
 import dev.kejona.crossplatforms.interfacing.bedrock.custom.ComponentSerializer;
 import dev.kejona.crossplatforms.interfacing.bedrock.custom.CustomComponent;
+import dev.kejona.crossplatforms.interfacing.java.JavaMenuRegistry;
+import dev.kejona.crossplatforms.permission.Permissions;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 public class ConfigManagerTest {
 
@@ -45,4 +60,185 @@ public class ConfigManagerTest {
         //Assertions.assertFalse(logger.failed());
         Assertions.assertEquals("", logger.warningDump());
     }
+
+    @Test
+    public void testParallelLoad() throws IOException {
+        TestLogger logger = new TestLogger();
+        write("config.yml", "parallel-config-loading: true\nconfig-version: " + GeneralConfig.VERSION);
+        write("first.yml", "value: first\nconfig-version: 1");
+        write("second.yml", "value: [not, a, string]\nconfig-version: 1");
+        write("third.yml", "value: third\nconfig-version: 1");
+
+        ConfigManager manager = new ConfigManager(directory, logger, Guice.createInjector(new TestModule()));
+        manager.register(testConfig("first.yml", FirstConfig.class));
+        manager.register(testConfig("second.yml", SecondConfig.class));
+        manager.register(testConfig("third.yml", ThirdConfig.class));
+        manager.registerPriority(ConfigId.GENERAL);
+
+        Assertions.assertTrue(manager.load());
+        Assertions.assertTrue(manager.getConfig(GeneralConfig.class).get().isParallelConfigLoading());
+        Assertions.assertEquals("first", manager.getConfig(FirstConfig.class).get().value);
+        Assertions.assertEquals("third", manager.getConfig(ThirdConfig.class).get().value);
+
+        // the broken config falls back to defaults without affecting the others
+        Assertions.assertEquals("default", manager.getConfig(SecondConfig.class).get().value);
+        Assertions.assertFalse(manager.getNode(SecondConfig.class).isPresent());
+        Assertions.assertTrue(logger.warningDump().contains("second.yml"));
+        Assertions.assertFalse(logger.warningDump().contains("first.yml"));
+        Assertions.assertFalse(logger.warningDump().contains("third.yml"));
+    }
+
+    @Test
+    public void testDirectorySources() throws IOException {
+        TestLogger logger = new TestLogger();
+        write("config.yml", "lazy-interfaces: true\nconfig-version: " + GeneralConfig.VERSION);
+        write("bedrock-forms.yml", "enable: true\nforms:\n  main:\n    type: simple_form\n    title: Main\nconfig-version: " + FormConfig.VERSION);
+        Files.createDirectories(directory.resolve("forms/extra"));
+        write("forms/extra/one.yml", "forms:\n  one:\n    type: simple_form\n    title: One\nconfig-version: " + FormConfig.VERSION);
+        write("forms/two.yml", "forms:\n  main:\n    type: simple_form\n    title: Duplicate\n  broken:\n    type: unknown\nconfig-version: " + FormConfig.VERSION);
+
+        ConfigManager manager = new ConfigManager(directory, logger, Guice.createInjector(new TestModule()));
+        manager.serializers(builder -> {
+            builder.registerExact(BedrockForm.class, new BedrockFormSerializer());
+            builder.registerExact(CustomComponent.class, new ComponentSerializer());
+        });
+        manager.registerPriority(ConfigId.GENERAL);
+        manager.register(ConfigId.BEDROCK_FORMS);
+        Assertions.assertTrue(manager.load());
+        Assertions.assertTrue(logger.warningDump().contains("Ignoring 'main' in forms" + File.separator + "two.yml"));
+
+        BedrockFormRegistry registry = new BedrockFormRegistry(manager, Permissions.empty());
+        Assertions.assertEquals(3, registry.getEntries().size());
+        Assertions.assertFalse(registry.getEntries().get("one").isLoaded());
+
+        // the main file comes first
+        Assertions.assertEquals("Main", Objects.requireNonNull(registry.getForm("main")).getTitle());
+        Assertions.assertEquals("One", Objects.requireNonNull(registry.getForm("one")).getTitle());
+        Assertions.assertTrue(registry.getEntries().get("one").isLoaded());
+        Assertions.assertEquals("crossplatforms.form.one.use", registry.getEntries().get("one").permission(Interface.Limit.USE));
+
+        // errors are only found when first used
+        Assertions.assertNull(registry.getForm("broken"));
+        Assertions.assertTrue(logger.warningDump().contains("Failed to load 'broken'"));
+
+        // reloading publishes a new snapshot without modifying the previous one
+        Map<String, InterfaceEntry<BedrockForm>> previous = registry.getEntries();
+        Files.delete(directory.resolve("forms/extra/one.yml"));
+        Assertions.assertTrue(manager.load());
+        Assertions.assertTrue(registry.reload());
+        Assertions.assertEquals(3, previous.size());
+        Assertions.assertEquals(2, registry.getEntries().size());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> registry.getEntries().clear());
+    }
+
+    @Test
+    public void testInterfaceIndex() throws IOException {
+        TestLogger logger = new TestLogger();
+        write("bedrock-forms.yml", "enable: true\nforms:\n  Main:\n    type: simple_form\n    title: Main\n  other:\n    type: simple_form\n    title: Other\nconfig-version: " + FormConfig.VERSION);
+
+        ConfigManager manager = new ConfigManager(directory, logger, Guice.createInjector(new TestModule()));
+        manager.serializers(builder -> {
+            builder.registerExact(BedrockForm.class, new BedrockFormSerializer());
+            builder.registerExact(CustomComponent.class, new ComponentSerializer());
+        });
+        manager.register(ConfigId.BEDROCK_FORMS);
+        Assertions.assertTrue(manager.load());
+
+        Interfacer interfacer = new Interfacer();
+        interfacer.load(new BedrockFormRegistry(manager, Permissions.empty()), new JavaMenuRegistry(manager, Permissions.empty()));
+
+        List<InterfaceEntry<?>> entries = interfacer.getEntries(true);
+        Assertions.assertEquals(2, entries.size());
+        Assertions.assertSame(entries, interfacer.getEntries(true)); // not rebuilt until a reload
+        Assertions.assertTrue(interfacer.getEntries(false).isEmpty());
+
+        Assertions.assertEquals("Main", Objects.requireNonNull(interfacer.getInterface("Main", true)).getIdentifier());
+        Assertions.assertEquals("Main", Objects.requireNonNull(interfacer.getInterface("main", true)).getIdentifier());
+        Assertions.assertEquals("other", Objects.requireNonNull(interfacer.getInterface("OTHER", true)).getIdentifier());
+        Assertions.assertNull(interfacer.getInterface("main", false));
+        Assertions.assertNull(interfacer.getInterface(null, true));
+
+        Assertions.assertTrue(interfacer.getBedrockRegistry().reload());
+        Assertions.assertNotSame(entries, interfacer.getEntries(true));
+    }
+
+    @Test
+    public void testReadThenLoad() throws IOException {
+        TestLogger logger = new TestLogger();
+        write("first.yml", "value: first\nconfig-version: 1");
+        ConfigId config = testConfig("first.yml", FirstConfig.class);
+
+        ConfigManager manager = new ConfigManager(directory, logger, Guice.createInjector(new TestModule()));
+        manager.register(config);
+        Assertions.assertTrue(manager.load());
+
+        // reading doesn't replace the current config until it is loaded
+        write("first.yml", "value: changed\nconfig-version: 1");
+        ConfigManager.RawConfig raw = manager.read(config);
+        Assertions.assertNotNull(raw);
+        Assertions.assertSame(config, raw.config());
+        Assertions.assertEquals("first", manager.getConfig(FirstConfig.class).get().value);
+        Assertions.assertTrue(manager.load(raw));
+        Assertions.assertEquals("changed", manager.getConfig(FirstConfig.class).get().value);
+
+        // a config that can't be mapped keeps the previous one
+        write("first.yml", "value: [not, a, string]\nconfig-version: 1");
+        raw = manager.read(config);
+        Assertions.assertNotNull(raw);
+        Assertions.assertFalse(manager.load(raw));
+        Assertions.assertEquals("changed", manager.getConfig(FirstConfig.class).get().value);
+    }
+
+    @Test
+    public void testSnapshotSavedSeparately() throws IOException {
+        TestLogger logger = new TestLogger();
+        write("config.yml", "cache-configs: true\nconfig-version: " + GeneralConfig.VERSION);
+        write("first.yml", "value: first\nconfig-version: 1");
+        ConfigId config = testConfig("first.yml", FirstConfig.class);
+
+        ConfigManager manager = new ConfigManager(directory, logger, Guice.createInjector(new TestModule()));
+        manager.registerPriority(ConfigId.GENERAL);
+        manager.register(config);
+        Assertions.assertTrue(manager.load(), logger.warningDump());
+        Path snapshot = directory.resolve(ConfigManager.CACHE_DIRECTORY).resolve("first.yml.bin");
+        byte[] previous = Files.readAllBytes(snapshot);
+
+        write("first.yml", "value: changed\nconfig-version: 1");
+        ConfigManager.RawConfig raw = manager.read(config);
+        Assertions.assertNotNull(raw);
+        Assertions.assertTrue(manager.load(raw));
+        Assertions.assertEquals("changed", manager.getConfig(FirstConfig.class).get().value);
+
+        // loading only maps the config, the snapshot is saved afterwards
+        Assertions.assertArrayEquals(previous, Files.readAllBytes(snapshot));
+        manager.saveSnapshot(raw);
+        Assertions.assertFalse(Arrays.equals(previous, Files.readAllBytes(snapshot)), logger.warningDump());
+    }
+
+    private void write(String file, String contents) throws IOException {
+        Files.write(directory.resolve(file), contents.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static ConfigId testConfig(String file, Class<? extends Configuration> clazz) {
+        return ConfigId.builder()
+            .file(file)
+            .version(1)
+            .clazz(clazz)
+            .build();
+    }
+
+    @ConfigSerializable
+    public static class FirstConfig extends Configuration {
+        String value = "default";
+    }
+
+    @ConfigSerializable
+    public static class SecondConfig extends FirstConfig {
+
+    }
+
+    @ConfigSerializable
+    public static class ThirdConfig extends FirstConfig {
+
+    }
 }
@@ -0,0 +1,121 @@
+package dev.kejona.crossplatforms.config;
+
+import dev.kejona.crossplatforms.TestLogger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.spongepowered.configurate.BasicConfigurationNode;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.serialize.SerializationException;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class NodeCacheTest {
+
+    private static final ConfigId CONFIG = ConfigId.builder()
+        .file("forms/test.yml")
+        .version(1)
+        .clazz(GeneralConfig.class)
+        .build();
+
+    private static final byte[] HASH = {1, 2, 3, 4};
+
+    private final TestLogger logger = new TestLogger(); // NodeCache requires a logger
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    public void testRoundTrip() throws SerializationException {
+        ConfigurationNode node = BasicConfigurationNode.root();
+        node.node("config-version").set(1);
+        node.node("forms", "first", "title").set("Hello %player_name%");
+        node.node("forms", "first", "buttons").setList(String.class, Arrays.asList("a", "b", "c"));
+        node.node("forms", "first", "enabled").set(true);
+        node.node("numbers", "long").set(Long.MAX_VALUE);
+        node.node("numbers", "double").set(0.5D);
+        node.node("numbers", "big").raw(BigInteger.TEN.pow(30));
+        node.node("numbers", 5).set("integer key");
+        node.node("empty-map").raw(Collections.emptyMap());
+        node.node("empty-list").raw(Collections.emptyList());
+
+        NodeCache cache = new NodeCache(directory, "1.0.0");
+        cache.save(CONFIG, HASH, node);
+
+        ConfigurationNode loaded = cache.load(CONFIG, HASH, BasicConfigurationNode::root);
+        assertNotNull(loaded);
+        assertEquals(node, loaded);
+        assertEquals(Long.MAX_VALUE, loaded.node("numbers", "long").raw());
+        assertEquals("integer key", loaded.node("numbers", 5).getString());
+        assertFalse(logger.failed(), logger.warningDump());
+    }
+
+    @Test
+    public void testOverwrite() {
+        NodeCache cache = new NodeCache(directory, "1.0.0");
+        ConfigurationNode node = BasicConfigurationNode.root();
+        node.node("key").raw("first");
+        cache.save(CONFIG, HASH, node);
+        assertNotNull(cache.load(CONFIG, HASH, BasicConfigurationNode::root));
+
+        // the snapshot that was just loaded can be replaced
+        node.node("key").raw("second");
+        cache.save(CONFIG, HASH, node);
+        ConfigurationNode loaded = cache.load(CONFIG, HASH, BasicConfigurationNode::root);
+        assertNotNull(loaded);
+        assertEquals("second", loaded.node("key").getString());
+        assertFalse(logger.failed(), logger.warningDump());
+    }
+
+    @Test
+    public void testUnsupportedScalar() {
+        ConfigurationNode node = BasicConfigurationNode.root();
+        node.node("date").raw(new Date());
+
+        NodeCache cache = new NodeCache(directory, "1.0.0");
+        cache.save(CONFIG, HASH, node);
+        assertTrue(logger.failed());
+        assertNull(cache.load(CONFIG, HASH, BasicConfigurationNode::root));
+        assertFalse(Files.exists(directory.resolve(CONFIG.file + ".bin.tmp")));
+    }
+
+    @Test
+    public void testMismatch() {
+        ConfigurationNode node = BasicConfigurationNode.root();
+        node.node("key").raw("value");
+
+        new NodeCache(directory, "1.0.0").save(CONFIG, HASH, node);
+
+        assertNull(new NodeCache(directory, "1.0.0").load(CONFIG, new byte[]{4, 3, 2, 1}, BasicConfigurationNode::root));
+        assertNull(new NodeCache(directory, "1.0.1").load(CONFIG, HASH, BasicConfigurationNode::root));
+        assertNotNull(new NodeCache(directory, "1.0.0").load(CONFIG, HASH, BasicConfigurationNode::root));
+    }
+
+    @Test
+    public void testCorrupt() throws IOException {
+        ConfigurationNode node = BasicConfigurationNode.root();
+        node.node("key").raw("value");
+
+        NodeCache cache = new NodeCache(directory, "1.0.0");
+        cache.save(CONFIG, HASH, node);
+
+        Path snapshot = directory.resolve(CONFIG.file + ".bin");
+        byte[] bytes = Files.readAllBytes(snapshot);
+        Files.write(snapshot, Arrays.copyOf(bytes, bytes.length - 3));
+        assertNull(cache.load(CONFIG, HASH, BasicConfigurationNode::root));
+
+        Files.delete(snapshot);
+        assertNull(cache.load(CONFIG, HASH, BasicConfigurationNode::root));
+    }
+}
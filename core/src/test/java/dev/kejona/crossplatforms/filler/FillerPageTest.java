@@ -0,0 +1,236 @@
+package dev.kejona.crossplatforms.filler;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.util.Modules;
+import dev.kejona.crossplatforms.FakePlayer;
+import dev.kejona.crossplatforms.TestLogger;
+import dev.kejona.crossplatforms.TestModule;
+import dev.kejona.crossplatforms.TestServerHandler;
+import dev.kejona.crossplatforms.context.PlayerContext;
+import dev.kejona.crossplatforms.handler.FormPlayer;
+import dev.kejona.crossplatforms.handler.ServerHandler;
+import dev.kejona.crossplatforms.handler.SortedPlayers;
+import dev.kejona.crossplatforms.interfacing.bedrock.custom.Option;
+import dev.kejona.crossplatforms.interfacing.bedrock.simple.SimpleButton;
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FillerPageTest {
+
+    private final TestLogger logger = new TestLogger(); // needed by the skin cache of the player filler
+    private final PlayerContext context = new PlayerContext(new FakePlayer(), s -> s);
+
+    @Test
+    public void testButtonPages() {
+        CountingFiller filler = new CountingFiller(10, 4);
+
+        List<SimpleButton> buttons = new ArrayList<>();
+        assertTrue(filler.fillButtons(buttons, context, 0));
+        assertEquals(texts(0, 4), buttons.stream().map(SimpleButton::getText).collect(Collectors.toList()));
+
+        buttons.clear();
+        assertTrue(filler.fillButtons(buttons, context, 1));
+        assertEquals(texts(4, 8), buttons.stream().map(SimpleButton::getText).collect(Collectors.toList()));
+        // only the page and one more value are generated
+        assertEquals(5, filler.generated.get());
+
+        buttons.clear();
+        assertFalse(filler.fillButtons(buttons, context, 2));
+        assertEquals(texts(8, 10), buttons.stream().map(SimpleButton::getText).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testExactPage() {
+        CountingFiller filler = new CountingFiller(8, 4);
+        List<SimpleButton> buttons = new ArrayList<>();
+        assertFalse(filler.fillButtons(buttons, context, 1));
+        assertEquals(4, buttons.size());
+    }
+
+    @Test
+    public void testUnpaged() {
+        CountingFiller filler = new CountingFiller(10, 0);
+        List<SimpleButton> buttons = new ArrayList<>();
+        assertFalse(filler.fillButtons(buttons, context, 3));
+        assertEquals(10, buttons.size());
+    }
+
+    @Test
+    public void testOptions() {
+        // options can't change pages, so only the first is filled
+        CountingFiller filler = new CountingFiller(10, 4);
+        List<Option> options = new ArrayList<>();
+        filler.fillOptions(options, context);
+        assertEquals(texts(0, 4), options.stream().map(Option::display).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testUniversalDefaultRange() {
+        AtomicInteger generated = new AtomicInteger();
+        UniversalFiller filler = new UniversalFiller() {
+            @Nonnull
+            @Override
+            public Stream<String> rawOptions(PlayerContext context) {
+                return IntStream.range(0, 10).peek(i -> generated.incrementAndGet()).mapToObj(i -> "v" + i);
+            }
+
+            @Override
+            public int pageSize() {
+                return 4;
+            }
+
+            @Override
+            public String type() {
+                return "universal";
+            }
+        };
+
+        // the default range skips and limits every value
+        List<SimpleButton> buttons = new ArrayList<>();
+        assertTrue(filler.fillButtons(buttons, context, 1));
+        assertEquals(texts(4, 8), buttons.stream().map(SimpleButton::getText).collect(Collectors.toList()));
+        // the skipped values, the page, and one more value are generated, but not the rest
+        assertEquals(9, generated.get());
+
+        buttons.clear();
+        assertFalse(filler.fillButtons(buttons, context, 2));
+        assertEquals(texts(8, 10), buttons.stream().map(SimpleButton::getText).collect(Collectors.toList()));
+
+        List<Option> options = new ArrayList<>();
+        filler.fillOptions(options, context);
+        assertEquals(texts(0, 4), options.stream().map(Option::display).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testPlayerWindow() {
+        FakeServer server = new FakeServer();
+        for (String name : new String[]{"e", "d", "c", "b", "a"}) {
+            server.players.add(new FakePlayer(name));
+        }
+        PlayerFiller filler = Guice.createInjector(Modules.override(new TestModule()).with(new AbstractModule() {
+            @Override
+            protected void configure() {
+                bind(ServerHandler.class).toInstance(server);
+            }
+        })).getInstance(PlayerFiller.class);
+
+        assertEquals(Arrays.asList("b", "c"), filler.rawOptions(context, 1, 2).collect(Collectors.toList()));
+        assertEquals(Arrays.asList("d", "e"), filler.rawOptions(context, 3, 10).collect(Collectors.toList()));
+        assertEquals(Collections.emptyList(), filler.rawOptions(context, 5, 2).collect(Collectors.toList()));
+        assertEquals(Collections.emptyList(), filler.rawOptions(context, 10, 2).collect(Collectors.toList()));
+
+        List<SimpleButton> buttons = filler.rawButtons(context, 4, 2).collect(Collectors.toList());
+        assertEquals(1, buttons.size());
+        assertEquals("e", buttons.get(0).getText());
+    }
+
+    private static List<String> texts(int from, int to) {
+        return IntStream.range(from, to).mapToObj(i -> "v" + i).collect(Collectors.toList());
+    }
+
+    private static class FakeServer extends TestServerHandler {
+
+        private final SortedPlayers players = new SortedPlayers();
+
+        @Override
+        public Stream<FormPlayer> getPlayers() {
+            return players.players().stream();
+        }
+
+        @Nonnull
+        @Override
+        public List<FormPlayer> getSortedPlayers() {
+            return players.players();
+        }
+
+        @Nonnull
+        @Override
+        public List<String> getSortedPlayerNames() {
+            return players.names();
+        }
+    }
+
+    /**
+     * Counts how many values are generated by the last range of values
+     */
+    private static class CountingFiller implements SimpleFormFiller, OptionFiller {
+
+        private final int values;
+        private final int pageSize;
+        private final AtomicInteger generated = new AtomicInteger();
+
+        private CountingFiller(int values, int pageSize) {
+            this.values = values;
+            this.pageSize = pageSize;
+        }
+
+        @Nonnull
+        @Override
+        public Stream<String> rawOptions(PlayerContext context) {
+            return IntStream.range(0, values).mapToObj(i -> "v" + i);
+        }
+
+        @Nonnull
+        @Override
+        public Stream<String> rawOptions(PlayerContext context, long skip, long limit) {
+            generated.set(0);
+            int from = (int) Math.min(skip, values);
+            int to = (int) Math.min(from + limit, values);
+            return IntStream.range(from, to).peek(i -> generated.incrementAndGet()).mapToObj(i -> "v" + i);
+        }
+
+        @Nonnull
+        @Override
+        public Stream<SimpleButton> rawButtons(PlayerContext context) {
+            return rawOptions(context).map(SimpleButton::new);
+        }
+
+        @Nonnull
+        @Override
+        public Stream<SimpleButton> rawButtons(PlayerContext context, long skip, long limit) {
+            return rawOptions(context, skip, limit).map(SimpleButton::new);
+        }
+
+        @Nullable
+        @Override
+        public Option optionTemplate() {
+            return null;
+        }
+
+        @Nullable
+        @Override
+        public SimpleButton buttonTemplate() {
+            return null;
+        }
+
+        @Override
+        public int insertIndex() {
+            return -1;
+        }
+
+        @Override
+        public int pageSize() {
+            return pageSize;
+        }
+
+        @Override
+        public String type() {
+            return "counting";
+        }
+    }
+}
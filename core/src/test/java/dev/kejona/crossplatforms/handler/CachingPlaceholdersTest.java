@@ -0,0 +1,101 @@
+package dev.kejona.crossplatforms.handler;
+
+import dev.kejona.crossplatforms.FakePlayer;
+import dev.kejona.crossplatforms.config.GeneralConfig;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.configurate.BasicConfigurationNode;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.serialize.SerializationException;
+
+import javax.annotation.Nonnull;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CachingPlaceholdersTest {
+
+    private final FormPlayer player = new FakePlayer();
+    private final CountingPlaceholders counter = new CountingPlaceholders();
+    private long time = 0;
+    private final Set<UUID> offline = new HashSet<>();
+    private final CachingPlaceholders placeholders = new CachingPlaceholders(counter, uuid -> !offline.contains(uuid), () -> time);
+
+    @Test
+    public void testDisabled() {
+        assertFalse(placeholders.isEnabled());
+        assertEquals("1 1", placeholders.setPlaceholders(player, "%balance% %balance%"));
+        assertEquals("2 2", placeholders.setPlaceholders(player, "%balance% %balance%"));
+        assertEquals(2, counter.calls.get("%balance% %balance%"));
+    }
+
+    @Test
+    public void testTtl() throws SerializationException {
+        ConfigurationNode node = BasicConfigurationNode.root();
+        node.node("ttl", "balance").set(1000L);
+        node.node("ttl", "vault").set(2000L);
+        placeholders.configure(node.get(GeneralConfig.PlaceholderCache.class));
+        assertTrue(placeholders.isEnabled());
+
+        assertEquals("Balance: 1", placeholders.setPlaceholders(player, "Balance: %balance%"));
+        assertEquals("Balance: 1!", placeholders.setPlaceholders(player, "Balance: %balance%!"));
+        assertEquals(1, placeholders.getMisses());
+        assertEquals(1, placeholders.getHits());
+
+        // matched by expansion name
+        assertEquals("1", placeholders.setPlaceholders(player, "%vault_eco_balance%"));
+        assertEquals("1", placeholders.setPlaceholders(player, "%vault_eco_balance%"));
+        assertEquals(1, counter.calls.get("%vault_eco_balance%"));
+
+        // uncacheable placeholders are still resolved every time
+        assertEquals("1 1", placeholders.setPlaceholders(player, "%balance% %online%"));
+        assertEquals("1 2", placeholders.setPlaceholders(player, "%balance% %online%"));
+
+        time += TimeUnit.MILLISECONDS.toNanos(1500);
+        assertEquals("2", placeholders.setPlaceholders(player, "%balance%"));
+        assertEquals("1", placeholders.setPlaceholders(player, "%vault_eco_balance%"));
+
+        placeholders.invalidate(player.getUuid());
+        assertEquals("3", placeholders.setPlaceholders(player, "%balance%"));
+        assertEquals("2", placeholders.setPlaceholders(player, "%vault_eco_balance%"));
+    }
+
+    @Test
+    public void testOffline() throws SerializationException {
+        ConfigurationNode node = BasicConfigurationNode.root();
+        node.node("default-ttl").set(1000L);
+        placeholders.configure(node.get(GeneralConfig.PlaceholderCache.class));
+
+        assertEquals("1", placeholders.setPlaceholders(player, "%balance%"));
+        assertEquals(1, placeholders.size());
+
+        // e.g. a form that was still being built after the player left
+        offline.add(player.getUuid());
+        placeholders.invalidate(player.getUuid());
+        assertEquals("2", placeholders.setPlaceholders(player, "%balance%"));
+        assertEquals("3", placeholders.setPlaceholders(player, "%balance%"));
+        assertEquals(0, placeholders.size());
+    }
+
+    /**
+     * Replaces every text with the number of times it has been given
+     */
+    private static class CountingPlaceholders implements Placeholders {
+
+        private final Map<String, Integer> calls = new HashMap<>();
+
+        @Override
+        public String setPlaceholders(@Nonnull FormPlayer player, @Nonnull String text) {
+            int count = calls.merge(text, 1, Integer::sum);
+            return text.replace("%balance%", String.valueOf(count))
+                .replace("%online%", String.valueOf(count))
+                .replace("%vault_eco_balance%", String.valueOf(count));
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package dev.kejona.crossplatforms.handler;
+
+import dev.kejona.crossplatforms.FakePlayer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SortedPlayersTest {
+
+    private final SortedPlayers players = new SortedPlayers();
+
+    @Test
+    public void testSorted() {
+        FakePlayer bob = new FakePlayer("bob");
+        players.add(new FakePlayer("Charlie"));
+        players.add(bob);
+        players.add(new FakePlayer("alice"));
+        players.add(new FakePlayer("Dave"));
+        assertEquals(Arrays.asList("alice", "bob", "Charlie", "Dave"), players.names());
+        assertSame(bob, players.players().get(1));
+
+        players.remove(bob.getUuid());
+        assertEquals(Arrays.asList("alice", "Charlie", "Dave"), players.names());
+        assertEquals(3, players.size());
+    }
+
+    @Test
+    public void testReplace() {
+        FakePlayer player = new FakePlayer("Player");
+        players.add(player);
+        players.add(player);
+        assertEquals(Collections.singletonList("Player"), players.names());
+
+        // unknown players are ignored
+        players.remove(new FakePlayer().getUuid());
+        assertEquals(1, players.size());
+    }
+
+    @Test
+    public void testSnapshot() {
+        players.add(new FakePlayer("b"));
+        List<String> names = players.names();
+        List<FormPlayer> snapshot = players.players();
+
+        players.add(new FakePlayer("a"));
+        assertEquals(Collections.singletonList("b"), names);
+        assertEquals(1, snapshot.size());
+        assertThrows(UnsupportedOperationException.class, () -> names.add("c"));
+    }
+}
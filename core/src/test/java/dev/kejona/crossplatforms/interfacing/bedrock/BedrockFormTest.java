@@ -0,0 +1,257 @@
+package dev.kejona.crossplatforms.interfacing.bedrock;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.util.Modules;
+import dev.kejona.crossplatforms.FakePlayer;
+import dev.kejona.crossplatforms.TestLogger;
+import dev.kejona.crossplatforms.TestModule;
+import dev.kejona.crossplatforms.TestServerHandler;
+import dev.kejona.crossplatforms.config.ConfigId;
+import dev.kejona.crossplatforms.config.ConfigManager;
+import dev.kejona.crossplatforms.handler.BasicPlaceholders;
+import dev.kejona.crossplatforms.handler.BedrockHandler;
+import dev.kejona.crossplatforms.handler.FormPlayer;
+import dev.kejona.crossplatforms.handler.Placeholders;
+import dev.kejona.crossplatforms.handler.ServerHandler;
+import dev.kejona.crossplatforms.interfacing.ArgumentException;
+import dev.kejona.crossplatforms.resolver.Resolver;
+import org.geysermc.cumulus.component.ButtonComponent;
+import org.geysermc.cumulus.component.InputComponent;
+import org.geysermc.cumulus.component.LabelComponent;
+import org.geysermc.cumulus.form.CustomForm;
+import org.geysermc.cumulus.form.Form;
+import org.geysermc.cumulus.form.SimpleForm;
+import org.geysermc.cumulus.form.impl.FormDefinition;
+import org.geysermc.cumulus.form.impl.FormDefinitions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.spongepowered.configurate.serialize.SerializationException;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BedrockFormTest {
+
+    @TempDir
+    private Path directory;
+
+    private final FakeServer server = new FakeServer();
+    private final FakeBedrockHandler bedrockHandler = new FakeBedrockHandler();
+    private final CountingPlaceholders placeholders = new CountingPlaceholders();
+
+    private FormConfig config;
+
+    @BeforeEach
+    public void load() throws IOException {
+        String forms = String.join("\n",
+            "forms:",
+            "  welcome:",
+            "    type: custom_form",
+            "    title: Welcome",
+            "    components:",
+            "      - type: label",
+            "        text: Hello there",
+            "      - type: input",
+            "        text: 'Name of %player_name%'",
+            "  players:",
+            "    type: simple_form",
+            "    title: Players",
+            "    buttons:",
+            "      - text: Refresh",
+            "    fillers:",
+            "      - type: player",
+            "        page-size: 2",
+            "    previous-page:",
+            "      text: Back",
+            "  values:",
+            "    type: simple_form",
+            "    title: Values",
+            "    fillers:",
+            "      - split: 'a b c d e'",
+            "        page-size: 3",
+            "        format:",
+            "          text: 'Value %raw_text%'",
+            "config-version: " + FormConfig.VERSION
+        );
+        Files.write(directory.resolve("bedrock-forms.yml"), forms.getBytes(StandardCharsets.UTF_8));
+
+        TestLogger logger = new TestLogger();
+        ConfigManager manager = new ConfigManager(directory, logger, Guice.createInjector(Modules.override(new TestModule()).with(new AbstractModule() {
+            @Override
+            protected void configure() {
+                bind(BedrockHandler.class).toInstance(bedrockHandler);
+                bind(ServerHandler.class).toInstance(server);
+                bind(Placeholders.class).toInstance(placeholders);
+            }
+        })));
+        manager.register(ConfigId.BEDROCK_FORMS);
+        assertTrue(manager.load(), logger.warningDump());
+        config = manager.getConfig(FormConfig.class).orElseThrow(AssertionError::new);
+    }
+
+    @Test
+    public void testBroadcastSkeleton() throws SerializationException, ArgumentException {
+        BedrockForm form = config.getForms().get("welcome").get();
+        FormPlayer alice = server.join("Alice");
+        FormPlayer bob = server.join("Bob");
+        form.sendAll(Arrays.asList(alice, bob), 10);
+
+        CustomForm first = (CustomForm) bedrockHandler.sent.get(alice.getUuid());
+        CustomForm second = (CustomForm) bedrockHandler.sent.get(bob.getUuid());
+        assertEquals("Welcome", first.title());
+
+        // the label is built once for every recipient
+        assertEquals("Hello there", ((LabelComponent) first.content().get(0)).text());
+        assertSame(first.content().get(0), second.content().get(0));
+
+        // but the input is built for each
+        assertEquals("Name of Alice", ((InputComponent) first.content().get(1)).text());
+        assertEquals("Name of Bob", ((InputComponent) second.content().get(1)).text());
+        assertNotSame(first.content().get(1), second.content().get(1));
+    }
+
+    @Test
+    public void testPlayerPages() throws Exception {
+        BedrockForm form = config.getForms().get("players").get();
+        FormPlayer player = server.join("Eve");
+        for (String name : new String[]{"Dave", "Charlie", "Bob", "Alice"}) {
+            server.join(name);
+        }
+
+        form.send(player);
+        assertEquals(Arrays.asList("Refresh", "Alice", "Bob", "Next Page"), buttons(player));
+        assertEquals(1, placeholders.resolvers.get());
+
+        click(player, 3);
+        assertEquals(Arrays.asList("Refresh", "Charlie", "Dave", "Back", "Next Page"), buttons(player));
+
+        click(player, 4);
+        assertEquals(Arrays.asList("Refresh", "Eve", "Back"), buttons(player));
+
+        click(player, 2);
+        assertEquals(Arrays.asList("Refresh", "Charlie", "Dave", "Back", "Next Page"), buttons(player));
+
+        click(player, 3);
+        assertEquals(Arrays.asList("Refresh", "Alice", "Bob", "Next Page"), buttons(player));
+
+        // every page is dispatched like any other send, and is resolved again
+        assertEquals(5, placeholders.resolvers.get());
+    }
+
+    @Test
+    public void testValuePages() throws Exception {
+        BedrockForm form = config.getForms().get("values").get();
+        FormPlayer player = server.join("Player");
+
+        form.send(player);
+        assertEquals(Arrays.asList("Value a", "Value b", "Value c", "Next Page"), buttons(player));
+
+        click(player, 3);
+        assertEquals(Arrays.asList("Value d", "Value e", "Previous Page"), buttons(player));
+
+        click(player, 2);
+        assertEquals(Arrays.asList("Value a", "Value b", "Value c", "Next Page"), buttons(player));
+    }
+
+    private List<String> buttons(FormPlayer player) {
+        SimpleForm form = (SimpleForm) bedrockHandler.sent.get(player.getUuid());
+        return form.buttons().stream().map(ButtonComponent::text).collect(Collectors.toList());
+    }
+
+    /**
+     * Responds to the last form sent to the player, as if the given button was clicked
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void click(FormPlayer player, int button) throws Exception {
+        Form form = bedrockHandler.sent.get(player.getUuid());
+        FormDefinition definition = FormDefinitions.instance().definitionFor(form);
+        definition.handleFormResponse(form, String.valueOf(button));
+    }
+
+    /**
+     * Counts how many resolvers have been created
+     */
+    private static class CountingPlaceholders extends BasicPlaceholders {
+
+        private final AtomicInteger resolvers = new AtomicInteger();
+
+        @Override
+        public Resolver resolver(FormPlayer player) {
+            resolvers.incrementAndGet();
+            return super.resolver(player);
+        }
+    }
+
+    /**
+     * Keeps track of the last form sent to each player
+     */
+    private static class FakeBedrockHandler implements BedrockHandler {
+
+        private final Map<UUID, Form> sent = new HashMap<>();
+
+        @Override
+        public String getType() {
+            return "Fake";
+        }
+
+        @Override
+        public boolean isBedrockPlayer(UUID uuid) {
+            return true;
+        }
+
+        @Override
+        public void sendForm(UUID uuid, Form form) {
+            sent.put(uuid, form);
+        }
+
+        @Override
+        public boolean executesResponseHandlersSafely() {
+            return true;
+        }
+
+        @Override
+        public boolean transfer(FormPlayer player, String address, int port) {
+            return false;
+        }
+    }
+
+    private static class FakeServer extends TestServerHandler {
+
+        private final Map<UUID, FormPlayer> players = new HashMap<>();
+
+        private FormPlayer join(String name) {
+            FormPlayer player = new FakePlayer(name);
+            players.put(player.getUuid(), player);
+            return player;
+        }
+
+        @Nullable
+        @Override
+        public FormPlayer getPlayer(UUID uuid) {
+            return players.get(uuid);
+        }
+
+        @Override
+        public Stream<FormPlayer> getPlayers() {
+            return players.values().stream();
+        }
+    }
+}
@@ -0,0 +1,310 @@
+package dev.kejona.crossplatforms.interfacing.java;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.util.Modules;
+import dev.kejona.crossplatforms.FakePlayer;
+import dev.kejona.crossplatforms.TestLogger;
+import dev.kejona.crossplatforms.TestModule;
+import dev.kejona.crossplatforms.TestServerHandler;
+import dev.kejona.crossplatforms.config.ConfigId;
+import dev.kejona.crossplatforms.config.ConfigManager;
+import dev.kejona.crossplatforms.handler.FormPlayer;
+import dev.kejona.crossplatforms.handler.ServerHandler;
+import dev.kejona.crossplatforms.inventory.ClickHandler;
+import dev.kejona.crossplatforms.inventory.InventoryController;
+import dev.kejona.crossplatforms.inventory.InventoryFactory;
+import dev.kejona.crossplatforms.inventory.InventoryHandle;
+import dev.kejona.crossplatforms.inventory.InventoryLayout;
+import dev.kejona.crossplatforms.inventory.ItemHandle;
+import dev.kejona.crossplatforms.inventory.SkullProfile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.spongepowered.configurate.serialize.SerializationException;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JavaMenuTest {
+
+    @TempDir
+    private Path directory;
+
+    private final FakeController controller = new FakeController();
+    private final FakeFactory factory = new FakeFactory();
+    private final TickingServer server = new TickingServer();
+    private final FormPlayer player = new FakePlayer();
+
+    private MenuConfig config;
+
+    @BeforeEach
+    public void load() throws IOException {
+        StringJoiner values = new StringJoiner(" ");
+        for (int i = 0; i < 20; i++) {
+            values.add("v" + i);
+        }
+
+        String menus = String.join("\n",
+            "menus:",
+            "  list:",
+            "    title: List",
+            "    size: 9",
+            "    buttons:",
+            "      4:",
+            "        material: STONE",
+            "        display-name: Fixed",
+            "    fillers:",
+            "      - source:",
+            "          split: '" + values + "'",
+            "        format:",
+            "          material: PAPER",
+            "          display-name: 'Value %raw_text%'",
+            "    previous-page:",
+            "      slot: 0",
+            "      material: ARROW",
+            "      display-name: Previous",
+            "    next-page:",
+            "      slot: 8",
+            "      material: ARROW",
+            "      display-name: Next",
+            "config-version: " + MenuConfig.VERSION
+        );
+        Files.write(directory.resolve("java-menus.yml"), menus.getBytes(StandardCharsets.UTF_8));
+
+        TestLogger logger = new TestLogger();
+        ConfigManager manager = new ConfigManager(directory, logger, Guice.createInjector(Modules.override(new TestModule()).with(new AbstractModule() {
+            @Override
+            protected void configure() {
+                bind(InventoryFactory.class).toInstance(factory);
+                bind(InventoryController.class).toInstance(controller);
+                bind(ServerHandler.class).toInstance(server);
+            }
+        })));
+        manager.register(ConfigId.JAVA_MENUS);
+        assertTrue(manager.load(), logger.warningDump());
+        config = manager.getConfig(MenuConfig.class).orElseThrow(AssertionError::new);
+    }
+
+    @Test
+    public void testPages() throws SerializationException {
+        JavaMenu menu = config.getMenus().get("list").get();
+        menu.send(player, s -> s);
+
+        // 6 slots are left for values: 9, minus the button and page buttons
+        String[] slots = controller.inventory.slots;
+        assertNull(slots[0]);
+        assertEquals("Value v0", slots[1]);
+        assertEquals("Value v2", slots[3]);
+        assertEquals("Fixed", slots[4]);
+        assertEquals("Value v3", slots[5]);
+        assertEquals("Value v5", slots[7]);
+        assertEquals("Next", slots[8]);
+
+        controller.handler.handle(8, false);
+        assertEquals("Previous", slots[0]);
+        assertEquals("Value v6", slots[1]);
+        assertEquals("Fixed", slots[4]);
+
+        // the last page is only partially filled
+        controller.handler.handle(8, false);
+        controller.handler.handle(8, false);
+        assertEquals("Value v18", slots[1]);
+        assertEquals("Value v19", slots[2]);
+        assertNull(slots[3]);
+        assertNull(slots[7]);
+        assertNull(slots[8]);
+
+        controller.handler.handle(0, false);
+        assertEquals("Value v12", slots[1]);
+        assertEquals("Next", slots[8]);
+    }
+
+    @Test
+    public void testPrefetch() throws SerializationException {
+        JavaMenu menu = config.getMenus().get("list").get();
+        menu.send(player, s -> s);
+        String[] slots = controller.inventory.slots;
+        assertEquals(6, factory.values.get());
+
+        // the next page is built on the next tick
+        server.tick();
+        assertEquals(12, factory.values.get());
+
+        // and turning to it doesn't build it again
+        controller.handler.handle(8, false);
+        assertEquals("Value v6", slots[1]);
+        assertEquals("Value v11", slots[7]);
+        assertEquals(12, factory.values.get());
+
+        // both pages next to it are built, and used when turning back
+        server.tick();
+        assertEquals(24, factory.values.get());
+        controller.handler.handle(0, false);
+        assertEquals("Value v0", slots[1]);
+        assertEquals(24, factory.values.get());
+    }
+
+    @Test
+    public void testPrefetchClosed() throws SerializationException {
+        JavaMenu menu = config.getMenus().get("list").get();
+        menu.send(player, s -> s);
+        assertEquals(6, factory.values.get());
+
+        // nothing is built for a menu that was closed before the next tick
+        controller.close();
+        server.tick();
+        assertEquals(6, factory.values.get());
+
+        menu.send(player, s -> s);
+        ClickHandler handler = controller.handler;
+        server.tick();
+        assertEquals(18, factory.values.get());
+
+        handler.handle(8, false);
+        controller.close();
+        server.tick();
+        assertEquals(18, factory.values.get());
+
+        // so the page is built when it is shown instead
+        handler.handle(0, false);
+        assertEquals("Value v0", controller.inventory.slots[1]);
+        assertEquals(24, factory.values.get());
+    }
+
+    private static class FakeItem implements ItemHandle {
+
+        private final String displayName;
+
+        private FakeItem(String displayName) {
+            this.displayName = displayName;
+        }
+
+        @Override
+        public Object handle() {
+            return displayName;
+        }
+    }
+
+    private static class FakeInventory implements InventoryHandle {
+
+        private final String title;
+        private final String[] slots;
+
+        private FakeInventory(String title, int size) {
+            this.title = title;
+            this.slots = new String[size];
+        }
+
+        @Override
+        public Object handle() {
+            return this;
+        }
+
+        @Override
+        public String title() {
+            return title;
+        }
+
+        @Override
+        public void setSlot(int index, ItemHandle item) {
+            slots[index] = item.castedHandle(String.class);
+        }
+
+        @Override
+        public void clearSlot(int index) {
+            slots[index] = null;
+        }
+    }
+
+    private static class FakeFactory implements InventoryFactory {
+
+        /**
+         * How many items of filler values have been created
+         */
+        private final AtomicInteger values = new AtomicInteger();
+
+        @Override
+        public InventoryHandle chest(String title, int chestSize) {
+            return new FakeInventory(title, chestSize);
+        }
+
+        @Override
+        public InventoryHandle inventory(String title, InventoryLayout layout) {
+            return new FakeInventory(title, layout == InventoryLayout.HOPPER ? 5 : 9);
+        }
+
+        @Override
+        public ItemHandle item(@Nullable String material, @Nullable String displayName, @Nonnull List<String> lore, @Nullable Integer customModelData) {
+            if (displayName != null && displayName.startsWith("Value ")) {
+                values.incrementAndGet();
+            }
+            return new FakeItem(displayName);
+        }
+
+        @Override
+        public ItemHandle skullItem(FormPlayer profile, @Nullable String displayName, List<String> lore) {
+            return new FakeItem(displayName);
+        }
+
+        @Override
+        public ItemHandle skullItem(SkullProfile profile, @Nullable String displayName, List<String> lore) {
+            return new FakeItem(displayName);
+        }
+    }
+
+    private static class FakeController implements InventoryController {
+
+        private FakeInventory inventory;
+        private ClickHandler handler;
+        private boolean open;
+
+        @Override
+        public void openInventory(FormPlayer recipient, InventoryHandle container, ClickHandler clickHandler) {
+            this.inventory = (FakeInventory) container;
+            this.handler = clickHandler;
+            this.open = true;
+        }
+
+        @Override
+        public boolean isOpen(UUID player, InventoryHandle container) {
+            return open && container == inventory;
+        }
+
+        private void close() {
+            open = false;
+        }
+    }
+
+    /**
+     * Runs tasks for the next tick only when {@link #tick()} is called
+     */
+    private static class TickingServer extends TestServerHandler {
+
+        private final List<Runnable> nextTick = new ArrayList<>();
+
+        @Override
+        public void executeNextTick(Runnable runnable) {
+            nextTick.add(runnable);
+        }
+
+        private void tick() {
+            List<Runnable> tasks = new ArrayList<>(nextTick);
+            nextTick.clear();
+            tasks.forEach(Runnable::run);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package dev.kejona.crossplatforms.interfacing.java;
+
+import dev.kejona.crossplatforms.TestServerHandler;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MenuRefresherTest {
+
+    private final Queue<Runnable> nextTick = new ArrayDeque<>();
+    private final MenuRefresher refresher = new MenuRefresher(new TestServerHandler() {
+        @Override
+        public void executeNextTick(Runnable runnable) {
+            nextTick.add(runnable);
+        }
+    });
+
+    @Test
+    public void testBudget() {
+        refresher.setPerTick(5);
+        FakeSession first = new FakeSession(4);
+        FakeSession second = new FakeSession(4);
+        refresher.add(first);
+        refresher.add(second);
+        assertEquals(1, nextTick.size()); // only one task for every session
+
+        tick();
+        assertEquals(4, first.rendered);
+        assertEquals(1, second.rendered);
+
+        // the session that ran out of budget goes first
+        tick();
+        assertEquals(5, second.rendered);
+        assertEquals(5, first.rendered);
+    }
+
+    @Test
+    public void testStops() {
+        FakeSession session = new FakeSession(1);
+        refresher.add(session);
+        tick();
+        assertEquals(1, refresher.size());
+
+        session.open = false;
+        tick();
+        assertEquals(0, refresher.size());
+        assertTrue(nextTick.isEmpty());
+
+        // starts again once there is a session
+        refresher.add(new FakeSession(1));
+        assertEquals(1, nextTick.size());
+    }
+
+    private void tick() {
+        Runnable task = nextTick.poll();
+        if (task != null) {
+            task.run();
+        }
+    }
+
+    /**
+     * A session with a fixed amount of buttons that are due every tick
+     */
+    private static class FakeSession implements MenuRefresher.Session {
+
+        private final int buttons;
+        private boolean open = true;
+        private int rendered = 0;
+
+        /**
+         * Buttons that are still due this tick
+         */
+        private int due = 0;
+        private long lastTick = 0;
+
+        private FakeSession(int buttons) {
+            this.buttons = buttons;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return open;
+        }
+
+        @Override
+        public int refresh(long tick, int budget) {
+            if (tick != lastTick) {
+                // buttons left over from the last tick are coalesced
+                due = buttons;
+                lastTick = tick;
+            }
+            int renders = Math.min(due, budget);
+            due -= renders;
+            rendered += renders;
+            return renders;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package dev.kejona.crossplatforms.inventory;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class MaterialCacheTest {
+
+    private final List<String> lookups = new ArrayList<>();
+
+    private String lookup(String name) {
+        lookups.add(name);
+        return name.startsWith("invalid") ? null : name.toUpperCase(Locale.ROOT);
+    }
+
+    @Test
+    public void testCaching() {
+        MaterialCache<String> cache = new MaterialCache<>(this::lookup);
+        assertEquals("STONE", cache.get("stone"));
+        assertEquals("STONE", cache.get("stone"));
+        assertNull(cache.get("invalid"));
+        assertNull(cache.get("invalid"));
+
+        // invalid names are only looked up once too
+        assertEquals(2, lookups.size());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testCapacity() {
+        MaterialCache<String> cache = new MaterialCache<>(this::lookup, 1);
+        cache.get("stone");
+        assertNull(cache.get("invalid"));
+        assertNull(cache.get("invalid"));
+        assertEquals("STONE", cache.get("stone"));
+
+        assertEquals(1, cache.size());
+        assertEquals(3, lookups.size());
+    }
+}
@@ -0,0 +1,45 @@
+package dev.kejona.crossplatforms.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HistogramTest {
+
+    @Test
+    public void testEmpty() {
+        Histogram histogram = new Histogram();
+        assertEquals(0, histogram.count());
+        assertEquals(0, histogram.mean());
+        assertEquals(0, histogram.max());
+        assertEquals(0, histogram.percentile(95));
+    }
+
+    @Test
+    public void testRecord() {
+        Histogram histogram = new Histogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i * 1000L);
+        }
+
+        assertEquals(100, histogram.count());
+        assertEquals(50_500, histogram.mean());
+        assertEquals(100_000, histogram.max());
+
+        // percentiles are the upper bound of a power of two bucket
+        long p50 = histogram.percentile(50);
+        assertTrue(p50 >= 50_000 && p50 < 100_000, "p50 was " + p50);
+        long p95 = histogram.percentile(95);
+        assertTrue(p95 >= 95_000 && p95 <= 100_000, "p95 was " + p95);
+        assertEquals(100_000, histogram.percentile(100));
+    }
+
+    @Test
+    public void testNegative() {
+        Histogram histogram = new Histogram();
+        histogram.record(-5);
+        assertEquals(1, histogram.count());
+        assertEquals(0, histogram.max());
+    }
+}
@@ -0,0 +1,56 @@
+package dev.kejona.crossplatforms.metrics;
+
+import dev.kejona.crossplatforms.TestLogger;
+import dev.kejona.crossplatforms.handler.FormPlayer;
+import dev.kejona.crossplatforms.interfacing.Interface;
+import dev.kejona.crossplatforms.resolver.Resolver;
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.Nonnull;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MetricsRegistryTest {
+
+    private final TestLogger logger = new TestLogger();
+    private final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+    @Test
+    public void testShutdownUnregisters() throws JMException {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.setEnabled(true);
+
+        Interface ui = new Interface() {
+            {
+                identifier = "shutdown-test";
+            }
+
+            @Override
+            protected void send(@Nonnull FormPlayer recipient, @Nonnull Resolver resolver) {
+                // not sent
+            }
+
+            @Override
+            protected String getPermissionBase() {
+                return "test.";
+            }
+        };
+        registry.closed(ui);
+
+        ObjectName name = new ObjectName(MetricsRegistry.JMX_DOMAIN + ":type=form,name=" + ObjectName.quote("shutdown-test"));
+        assertTrue(server.isRegistered(name), logger.warningDump());
+
+        registry.shutdown();
+        assertFalse(server.isRegistered(name));
+        assertFalse(registry.isEnabled());
+
+        // nothing is registered again after shutting down
+        registry.closed(ui);
+        assertFalse(server.isRegistered(name));
+    }
+}
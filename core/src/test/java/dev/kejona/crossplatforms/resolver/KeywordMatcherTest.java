@@ -0,0 +1,62 @@
+package dev.kejona.crossplatforms.resolver;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class KeywordMatcherTest {
+
+    @Test
+    public void testReplace() {
+        Map<String, String> replacements = new HashMap<>();
+        for (int i = 0; i <= 20; i++) {
+            replacements.put("%result_" + i + "%", "r" + i);
+        }
+        KeywordMatcher matcher = KeywordMatcher.of(replacements);
+
+        assertEquals("r0 r1 r2 r10 r20", matcher.replace("%result_0% %result_1% %result_2% %result_10% %result_20%"));
+        assertEquals("r1r12", matcher.replace("%result_1%%result_12%"));
+        assertEquals("%result_21% 100%", matcher.replace("%result_21% 100%"));
+
+        String unchanged = "nothing to see here";
+        assertSame(unchanged, matcher.replace(unchanged));
+    }
+
+    @Test
+    public void testNoResubstitution() {
+        Map<String, String> replacements = new HashMap<>();
+        replacements.put("%a%", "%b%");
+        replacements.put("%b%", "%a%");
+        KeywordMatcher matcher = KeywordMatcher.of(replacements);
+
+        assertEquals("%b% %a%", matcher.replace("%a% %b%"));
+    }
+
+    @Test
+    public void testLongestMatch() {
+        Map<String, String> replacements = new HashMap<>();
+        replacements.put("ab", "1");
+        replacements.put("abc", "2");
+        replacements.put("c", "3");
+        replacements.put("", "ignored");
+        replacements.put("d", null);
+        KeywordMatcher matcher = KeywordMatcher.of(replacements);
+
+        assertEquals("2", matcher.replace("abc"));
+        assertEquals("13", matcher.replace("abdc"));
+        assertEquals("a1", matcher.replace("aab"));
+    }
+
+    @Test
+    public void testEmpty() {
+        KeywordMatcher matcher = KeywordMatcher.of(Collections.emptyMap());
+        assertTrue(matcher.isEmpty());
+        assertEquals("%a%", matcher.replace("%a%"));
+    }
+}
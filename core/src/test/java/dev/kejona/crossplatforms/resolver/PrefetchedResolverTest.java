@@ -0,0 +1,120 @@
+package dev.kejona.crossplatforms.resolver;
+
+import com.google.inject.Guice;
+import dev.kejona.crossplatforms.FakePlayer;
+import dev.kejona.crossplatforms.TestLogger;
+import dev.kejona.crossplatforms.TestModule;
+import dev.kejona.crossplatforms.TestServerHandler;
+import dev.kejona.crossplatforms.handler.Placeholders;
+import dev.kejona.crossplatforms.handler.ServerHandler;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PrefetchedResolverTest {
+
+    private final TestLogger logger = new TestLogger();
+    private final ServerHandler serverHandler = Guice.createInjector(new TestModule()).getInstance(ServerHandler.class);
+    private final AtomicInteger calls = new AtomicInteger();
+    private final Placeholders placeholders = (player, text) -> {
+        calls.incrementAndGet();
+        return text.replace("%player_name%", player.getName()).replace("%balance%", "100");
+    };
+
+    @Test
+    public void testPrefetched() {
+        Template title = Template.compile("Hello %player_name%");
+        Template content = Template.compile("You have %balance% coins, %player_name%");
+        Template argument = Template.compile("Sending to %target%");
+
+        Resolver resolver = PrefetchedResolver.prefetch(
+            placeholders.resolver(new FakePlayer()),
+            serverHandler,
+            Arrays.asList(title, content, argument),
+            Collections.singleton("%target%")
+        );
+        assertEquals(2, calls.get()); // once for each distinct placeholder
+
+        assertEquals("Hello FakePlayer", resolver.render(title));
+        assertEquals("You have 100 coins, FakePlayer", resolver.render(content));
+        assertEquals("Hello FakePlayer", resolver.apply("Hello %player_name%"));
+        assertEquals(2, calls.get());
+
+        // arguments are resolved before the prefetched values
+        Resolver chained = new MapResolver(Collections.singletonMap("%target%", "Steve")).then(resolver);
+        assertEquals("Sending to Steve", chained.render(argument));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void testFallback() {
+        Resolver resolver = PrefetchedResolver.prefetch(
+            placeholders.resolver(new FakePlayer()),
+            serverHandler,
+            Collections.singletonList(Template.compile("%player_name%")),
+            Collections.emptySet()
+        );
+        calls.set(0);
+
+        assertEquals("Balance: 100", resolver.apply("Balance: %balance%"));
+        assertEquals(1, calls.get());
+        assertFalse(logger.failed(), "Nothing is blocked on the main thread");
+    }
+
+    @Test
+    public void testLiterals() {
+        ServerHandler async = new TestServerHandler() {
+            @Override
+            public boolean isPrimaryThread() {
+                return false;
+            }
+        };
+        Template braces = Template.compile("{x} for %player_name%");
+        Template argument = Template.compile("%discount% off for %player_name%");
+        Resolver resolver = PrefetchedResolver.prefetch(
+            placeholders.resolver(new FakePlayer()),
+            async,
+            Arrays.asList(braces, argument),
+            Collections.singleton("%discount%")
+        );
+        calls.set(0);
+
+        // tokens and percent signs that the underlying resolver doesn't handle are kept as they are
+        assertEquals("{x} for FakePlayer", resolver.render(braces));
+        assertEquals("100% FakePlayer", resolver.apply("100% %player_name%"));
+        Resolver chained = new MapResolver(Collections.singletonMap("%discount%", "50%")).then(resolver);
+        assertEquals("50% off for FakePlayer", chained.render(argument));
+
+        assertEquals(0, calls.get());
+        assertFalse(logger.failed(), logger.warningDump());
+    }
+
+    @Test
+    public void testFallbackWarns() {
+        ServerHandler async = new TestServerHandler() {
+            @Override
+            public boolean isPrimaryThread() {
+                return false;
+            }
+        };
+        Resolver resolver = PrefetchedResolver.prefetch(
+            placeholders.resolver(new FakePlayer()),
+            async,
+            Collections.singletonList(Template.compile("%player_name%")),
+            Collections.emptySet()
+        );
+
+        assertEquals("FakePlayer", resolver.apply("%player_name%"));
+        assertFalse(logger.failed());
+
+        assertEquals("Balance: 100", resolver.apply("Balance: %balance%"));
+        assertTrue(logger.failed(), "Blocking on the main thread should be warned about");
+        assertTrue(logger.warningDump().contains("Balance: %balance%"));
+    }
+}
@@ -0,0 +1,144 @@
+package dev.kejona.crossplatforms.resolver;
+
+import dev.kejona.crossplatforms.FakePlayer;
+import dev.kejona.crossplatforms.TestLogger;
+import dev.kejona.crossplatforms.handler.Placeholders;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TemplateTest {
+
+    private final TestLogger logger = new TestLogger(); // MapResolver requires a logger
+
+    @Test
+    public void testCompile() {
+        assertTrue(Template.compile("").isStatic());
+        assertTrue(Template.compile("Hello there").isStatic());
+        assertTrue(Template.compile("100% of the time, 50% off").isStatic());
+        assertTrue(Template.compile("%% {}").isStatic());
+
+        assertEquals(Collections.singletonList("%player_name%"), Template.compile("Hi %player_name%!").placeholders());
+        assertEquals(Arrays.asList("%a%", "{b}", "%c%"), Template.compile("%a%{b} and %c%").placeholders());
+        assertEquals(Collections.singletonList("%arg%"), Template.compile("50% %arg%").placeholders());
+        assertFalse(Template.compile("{player}").isStatic());
+    }
+
+    @Test
+    public void testRender() {
+        Map<String, String> values = new HashMap<>();
+        values.put("%one%", "1");
+        values.put("%two%", "2");
+        values.put("%loop%", "%one%");
+
+        assertEquals("1 and 2", Template.compile("%one% and %two%").render(values::get));
+        assertEquals("1 and %three%", Template.compile("%one% and %three%").render(values::get));
+        assertEquals("%three% and 2", Template.compile("%three% and %two%").render(values::get));
+        // values are not resolved again
+        assertEquals("%one%", Template.compile("%loop%").render(values::get));
+
+        String nothing = "%unknown% {unknown}";
+        assertSame(nothing, Template.compile(nothing).render(values::get));
+    }
+
+    @Test
+    public void testPlain() {
+        assertTrue(Template.compile("Hello there").isPlain());
+        assertFalse(Template.compile("100% of the time").isPlain());
+        assertFalse(Template.compile("{player}").isPlain());
+
+        AtomicInteger calls = new AtomicInteger();
+        Placeholders placeholders = (player, text) -> {
+            calls.incrementAndGet();
+            return text.replace("%player_name%", player.getName());
+        };
+        Resolver resolver = new MapResolver(Collections.emptyMap()).then(placeholders.resolver(new FakePlayer()));
+
+        Template plain = Template.compile("Hello there");
+        assertSame(plain.raw(), resolver.render(plain));
+        assertEquals("Hello there", resolver.apply("Hello there"));
+        assertEquals(0, calls.get());
+
+        assertEquals("Hello FakePlayer", resolver.render(Template.compile("Hello %player_name%")));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testMapResolver() {
+        Map<String, String> values = new HashMap<>();
+        values.put("%raw_text%", "Steve");
+
+        MapResolver resolver = new MapResolver(values);
+        Template template = Template.compile("Teleport to %raw_text%");
+        assertEquals(resolver.apply(template.raw()), resolver.render(template));
+
+        Resolver chained = resolver.then(Resolver.of(s -> s.replace("Steve", "Alex")));
+        assertEquals("Teleport to Alex", chained.render(template));
+    }
+
+    @Test
+    public void testMapResolverMatchesApply() {
+        Map<String, String> values = new HashMap<>();
+        values.put("%arg%", "value");
+        values.put("%raw_text%", "Steve");
+        values.put("{name}", "Alex");
+        MapResolver resolver = new MapResolver(values);
+
+        String[] inputs = {
+            "{%arg%}", // nested in a bracket token
+            "%player_%arg%%", // nested in a percent token
+            "%arg%%raw_text%", // adjacent
+            "%a%raw_text%", // shares a delimiter with the previous token
+            "{name}%arg%{name}",
+            "%unknown% {unknown} %arg%",
+            "50% %arg% off",
+            "Hello there"
+        };
+        for (String input : inputs) {
+            assertEquals(resolver.apply(input), resolver.render(Template.compile(input)), input);
+        }
+        assertEquals("{value}", resolver.render(Template.compile("{%arg%}")));
+        assertEquals("SteveSteve", resolver.render(Template.compile("%raw_text%%raw_text%")));
+    }
+
+    @Test
+    public void testIsolated() {
+        assertTrue(Template.compile("Hello %player_name%, {name}!").isIsolated());
+        assertTrue(Template.compile("%a%%b% %c% {d}x%e%").isIsolated());
+        assertTrue(Template.compile("Hello there").isIsolated());
+
+        assertFalse(Template.compile("{%arg%}").isIsolated()); // nested
+        assertFalse(Template.compile("%a%b%c%").isIsolated()); // %b% is between two tokens
+        assertFalse(Template.compile("50% %arg% off").isIsolated()); // lone delimiter
+        assertFalse(Template.compile("%a%raw_text%").isIsolated());
+
+        Map<String, String> values = new HashMap<>();
+        values.put("%a%", "1");
+        values.put("%b%", "2");
+        values.put("{d}", null);
+        KeywordMatcher matcher = KeywordMatcher.of(values);
+        assertTrue(matcher.isTokens());
+        assertEquals("1", matcher.get("%a%"));
+        assertEquals("", matcher.get("{d}"));
+        assertNull(matcher.get("%c%"));
+        assertNull(matcher.get("%a"));
+        assertFalse(KeywordMatcher.of(Collections.singletonMap("%a%b%", "")).isTokens());
+        assertFalse(KeywordMatcher.of(Collections.singletonMap("Steve", "")).isTokens());
+
+        // looking up the placeholders gives the same result as scanning
+        MapResolver resolver = new MapResolver(matcher);
+        for (String input : new String[]{"%a%%b% %c% {d}x%e%", "x%a%y%b%z", "%a% {b} %b%"}) {
+            assertEquals(matcher.replace(input), resolver.render(Template.compile(input)), input);
+        }
+    }
+}
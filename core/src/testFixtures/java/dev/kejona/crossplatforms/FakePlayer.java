@@ -9,6 +9,15 @@ import java.util.UUID;
 public class FakePlayer implements FormPlayer {
 
     private final UUID uuid = UUID.randomUUID();
+    private final String name;
+
+    public FakePlayer() {
+        this("FakePlayer");
+    }
+
+    public FakePlayer(String name) {
+        this.name = name;
+    }
 
     @Override
     public UUID getUuid() {
@@ -17,7 +26,7 @@ public class FakePlayer implements FormPlayer {
 
     @Override
     public String getName() {
-        return "FakePlayer";
+        return name;
     }
 
     @Override
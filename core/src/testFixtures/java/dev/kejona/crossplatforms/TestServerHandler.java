@@ -0,0 +1,61 @@
+package dev.kejona.crossplatforms;
+
+import dev.kejona.crossplatforms.command.CommandOrigin;
+import dev.kejona.crossplatforms.command.DispatchableCommand;
+import dev.kejona.crossplatforms.command.custom.InterceptCommandCache;
+import dev.kejona.crossplatforms.handler.FormPlayer;
+import net.kyori.adventure.audience.Audience;
+import org.jetbrains.annotations.Nullable;
+
+import javax.annotation.Nonnull;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * A server without any players, which only keeps track of intercept commands.
+ */
+public class TestServerHandler extends InterceptCommandCache {
+
+    @Nullable
+    @Override
+    public FormPlayer getPlayer(UUID uuid) {
+        return null;
+    }
+
+    @Nullable
+    @Override
+    public FormPlayer getPlayer(String name) {
+        return null;
+    }
+
+    @Override
+    public Stream<FormPlayer> getPlayers() {
+        return null;
+    }
+
+    @Nonnull
+    @Override
+    public Audience asAudience(CommandOrigin origin) {
+        return Audience.empty();
+    }
+
+    @Override
+    public boolean isGeyserEnabled() {
+        return false;
+    }
+
+    @Override
+    public boolean isFloodgateEnabled() {
+        return false;
+    }
+
+    @Override
+    public void dispatchCommand(DispatchableCommand command) {
+
+    }
+
+    @Override
+    public void dispatchCommand(UUID player, DispatchableCommand command) {
+
+    }
+}
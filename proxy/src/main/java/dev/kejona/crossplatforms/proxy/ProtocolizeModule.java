@@ -5,12 +5,16 @@ import dev.kejona.crossplatforms.inventory.InventoryController;
 import dev.kejona.crossplatforms.inventory.InventoryFactory;
 import dev.kejona.crossplatforms.proxy.inventory.ProtocolizeInventoryController;
 import dev.kejona.crossplatforms.proxy.inventory.ProtocolizeInventoryFactory;
+import lombok.RequiredArgsConstructor;
 
+@RequiredArgsConstructor
 public class ProtocolizeModule extends AbstractModule {
 
+    private final ProtocolizeInventoryController controller;
+
     @Override
     protected void configure() {
         bind(InventoryFactory.class).to(ProtocolizeInventoryFactory.class);
-        bind(InventoryController.class).to(ProtocolizeInventoryController.class);
+        bind(InventoryController.class).toInstance(controller);
     }
 }
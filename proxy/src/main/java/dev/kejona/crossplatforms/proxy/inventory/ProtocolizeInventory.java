@@ -25,4 +25,9 @@ public class ProtocolizeInventory implements InventoryHandle {
     public void setSlot(int index, ItemHandle item) {
         inventory.item(index, item.castedHandle(ItemStack.class));
     }
+
+    @Override
+    public void clearSlot(int index) {
+        inventory.removeItem(index);
+    }
 }
@@ -9,10 +9,17 @@ import dev.simplix.protocolize.api.inventory.Inventory;
 import dev.simplix.protocolize.api.player.ProtocolizePlayer;
 import dev.simplix.protocolize.api.providers.ProtocolizePlayerProvider;
 
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
 public class ProtocolizeInventoryController implements InventoryController {
 
     private final ProtocolizePlayerProvider players = Protocolize.playerProvider();
 
+    // The inventory that each player has open
+    private final Map<UUID, Inventory> openInventories = new ConcurrentHashMap<>();
+
     @Override
     public void openInventory(FormPlayer recipient, InventoryHandle container, ClickHandler clickHandler) {
         ProtocolizePlayer player = players.player(recipient.getUuid());
@@ -37,6 +44,41 @@ public class ProtocolizeInventoryController implements InventoryController {
             }
         });
 
+        inventory.onClose(close -> openInventories.remove(recipient.getUuid(), inventory));
+
         player.openInventory(inventory);
+        openInventories.put(recipient.getUuid(), inventory);
+    }
+
+    @Override
+    public boolean isOpen(UUID player, InventoryHandle container) {
+        return openInventories.get(player) == container.handle();
+    }
+
+    @Override
+    public void update(UUID player, InventoryHandle container) {
+        ProtocolizePlayer protocolizePlayer = players.player(player);
+        Inventory inventory = container.castedHandle(Inventory.class);
+        if (protocolizePlayer != null && openInventories.get(player) == inventory) {
+            // Protocolize only sends the contents of an inventory when it is opened.
+            // This is only used for turning pages, since menus aren't refreshed.
+            protocolizePlayer.openInventory(inventory);
+            openInventories.put(player, inventory);
+        }
+    }
+
+    @Override
+    public boolean updatesInPlace() {
+        // re-opening the inventory flickers and resets the cursor
+        return false;
+    }
+
+    /**
+     * Forgets the inventory that a player had open. Must be called when a player disconnects, since there is no close
+     * event for it.
+     * @param player The UUID of the player
+     */
+    public void disconnect(UUID player) {
+        openInventories.remove(player);
     }
 }
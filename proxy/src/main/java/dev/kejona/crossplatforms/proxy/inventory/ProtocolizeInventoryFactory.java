@@ -6,6 +6,7 @@ import dev.kejona.crossplatforms.inventory.InventoryFactory;
 import dev.kejona.crossplatforms.inventory.InventoryHandle;
 import dev.kejona.crossplatforms.inventory.InventoryLayout;
 import dev.kejona.crossplatforms.inventory.ItemHandle;
+import dev.kejona.crossplatforms.inventory.MaterialCache;
 import dev.kejona.crossplatforms.inventory.SkullProfile;
 import dev.simplix.protocolize.api.inventory.Inventory;
 import dev.simplix.protocolize.api.item.ItemStack;
@@ -16,13 +17,28 @@ import net.querz.nbt.tag.ListTag;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
 public class ProtocolizeInventoryFactory implements InventoryFactory {
 
     private static final String CUSTOM_MODEL_DATA_KEY = "CustomModelData";
 
+    /**
+     * Item types by name, to avoid the exceptions of {@link ItemType#valueOf(String)} for invalid names
+     */
+    private static final Map<String, ItemType> ITEM_TYPES = new HashMap<>();
+
+    static {
+        for (ItemType type : ItemType.values()) {
+            ITEM_TYPES.put(type.name(), type);
+        }
+    }
+
+    private final MaterialCache<ItemType> materials = new MaterialCache<>(ProtocolizeInventoryFactory::matchItemType);
+
     @Override
     public InventoryHandle chest(String title, int chestSize) {
         InventoryType type = InventoryType.chestInventoryWithSize(chestSize);
@@ -47,10 +63,8 @@ public class ProtocolizeInventoryFactory implements InventoryFactory {
         if (material == null) {
             type = ItemType.STONE;
         } else {
-            try {
-                type = ItemType.valueOf(material.toUpperCase(Locale.ROOT).trim());
-            } catch (IllegalArgumentException ignored) {
-                Logger.get().warn("Material '" + material + "' is not a valid material on BungeeCord/Velocity (Protocolize)");
+            type = materials.get(material);
+            if (type == null) {
                 type = ItemType.STONE;
             }
         }
@@ -83,6 +97,15 @@ public class ProtocolizeInventoryFactory implements InventoryFactory {
         return new ProtocolizeItem(item);
     }
 
+    @Nullable
+    private static ItemType matchItemType(String material) {
+        ItemType type = ITEM_TYPES.get(material.toUpperCase(Locale.ROOT).trim());
+        if (type == null) {
+            Logger.get().warn("Material '" + material + "' is not a valid material on BungeeCord/Velocity (Protocolize)");
+        }
+        return type;
+    }
+
     private ItemStack skullBase(@Nullable String displayName, List<String> lore) {
         ItemStack item = new ItemStack(ItemType.PLAYER_HEAD);
         if (displayName != null) {
@@ -10,6 +10,7 @@ pluginManagement {
         id("net.kyori.indra.git") version "3.0.1" // getting branch and commit info at compile time
         id("net.kyori.indra") version "3.0.1" // multi-release jar for referencing Java 16 geyser api
         id("com.github.johnrengelman.shadow") version "7.1.2" // shadowing dependencies
+        id("me.champeau.jmh") version "0.7.1" // benchmarks
     }
 }
 
@@ -32,6 +33,7 @@ dependencyResolutionManagement {
 }
 
 include(":core")
+include(":benchmarks")
 include(":access-item")
 
 include(":proxy")
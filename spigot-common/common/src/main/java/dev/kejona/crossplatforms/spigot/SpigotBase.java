@@ -20,7 +20,6 @@ import dev.kejona.crossplatforms.config.ConfigId;
 import dev.kejona.crossplatforms.config.ConfigManager;
 import dev.kejona.crossplatforms.handler.BasicPlaceholders;
 import dev.kejona.crossplatforms.handler.Placeholders;
-import dev.kejona.crossplatforms.handler.ServerHandler;
 import dev.kejona.crossplatforms.inventory.InventoryController;
 import dev.kejona.crossplatforms.inventory.InventoryFactory;
 import dev.kejona.crossplatforms.permission.LuckPermsHook;
@@ -41,6 +40,10 @@ import org.bstats.charts.CustomChart;
 import org.bukkit.Bukkit;
 import org.bukkit.Server;
 import org.bukkit.command.CommandSender;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.plugin.java.JavaPlugin;
 
 import java.io.File;
@@ -48,7 +51,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
-public abstract class SpigotBase extends JavaPlugin implements CrossplatFormsBootstrap {
+public abstract class SpigotBase extends JavaPlugin implements CrossplatFormsBootstrap, Listener {
     
     private static final int METRICS_ID = 14707;
 
@@ -64,6 +67,8 @@ public abstract class SpigotBase extends JavaPlugin implements CrossplatFormsBoo
     private BukkitAudiences audiences;
     private Metrics metrics;
     private SpigotAdapter spigotAdapter;
+    private CrossplatForms crossplatForms;
+    private SpigotHandler serverHandler;
 
     protected SpigotBase() {
         INSTANCE = this;
@@ -92,7 +97,7 @@ public abstract class SpigotBase extends JavaPlugin implements CrossplatFormsBoo
 
         convertGeyserHubConfig();
 
-        ServerHandler serverHandler = new SpigotHandler(this, audiences);
+        serverHandler = new SpigotHandler(this, audiences);
         Permissions permissions = server.getPluginManager().isPluginEnabled("LuckPerms") ? new LuckPermsHook() : new SpigotPermissions(this);
 
         // Yes, this is not Paper-exclusive plugin. Cloud handles this gracefully.
@@ -132,7 +137,7 @@ public abstract class SpigotBase extends JavaPlugin implements CrossplatFormsBoo
             placeholders = new BasicPlaceholders();
         }
 
-        CrossplatForms crossplatForms = new CrossplatForms(
+        crossplatForms = new CrossplatForms(
             logger,
             getDataFolder().toPath(),
             serverHandler,
@@ -143,6 +148,8 @@ public abstract class SpigotBase extends JavaPlugin implements CrossplatFormsBoo
             this
         );
 
+        server.getPluginManager().registerEvents(this, this); // for clearing the placeholder cache
+
         // Wait for debug to be set or not
         logger.debug("Using " + spigotAdapter.getClass().getSimpleName() + " for server version " + ClassNames.NMS_VERSION);
 
@@ -170,6 +177,7 @@ public abstract class SpigotBase extends JavaPlugin implements CrossplatFormsBoo
 
         SpigotInventoryController controller = new SpigotInventoryController();
         getServer().getPluginManager().registerEvents(controller, this);
+        getServer().getScheduler().runTaskTimer(this, controller::sweep, SpigotInventoryController.SWEEP_PERIOD, SpigotInventoryController.SWEEP_PERIOD);
         SpigotInventoryFactory factory = new SpigotInventoryFactory(spigotAdapter);
 
         modules.add(new AbstractModule() {
@@ -193,11 +201,23 @@ public abstract class SpigotBase extends JavaPlugin implements CrossplatFormsBoo
         CloseMenuAction.register(actionSerializer);
     }
 
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        crossplatForms.getPlaceholderCache().invalidate(event.getPlayer().getUniqueId());
+        crossplatForms.getSuggestionCache().invalidate(event.getPlayer().getUniqueId());
+    }
+
     @Override
     public void onDisable() {
         if (audiences != null) {
             audiences.close();
         }
+        if (crossplatForms != null) {
+            crossplatForms.shutdown();
+        }
+        if (serverHandler != null) {
+            serverHandler.shutdown();
+        }
         // note: server var might be null here in case plugin is disabled early
         Bukkit.getMessenger().unregisterOutgoingPluginChannel(this);
     }
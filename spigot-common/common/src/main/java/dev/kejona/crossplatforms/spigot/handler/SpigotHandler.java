@@ -9,6 +9,7 @@ import dev.kejona.crossplatforms.command.custom.InterceptCommandCache;
 import dev.kejona.crossplatforms.handler.BedrockHandler;
 import dev.kejona.crossplatforms.handler.FormPlayer;
 import dev.kejona.crossplatforms.handler.ServerHandler;
+import dev.kejona.crossplatforms.handler.SortedPlayers;
 import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.platform.bukkit.BukkitAudiences;
 import org.bukkit.Bukkit;
@@ -20,26 +21,82 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerCommandPreprocessEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.plugin.java.JavaPlugin;
 
 import javax.annotation.Nonnull;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 public class SpigotHandler extends InterceptCommandCache implements ServerHandler, Listener {
 
+    /**
+     * Maximum amount of form building tasks that can be waiting for a worker
+     */
+    private static final int FORM_QUEUE_SIZE = 512;
+
     private final Server server;
     private final JavaPlugin plugin;
     private final BukkitAudiences audiences;
     private final ConsoleCommandSender console;
 
+    /**
+     * Online players, maintained on the main thread for use on other threads
+     */
+    private final Map<UUID, Player> onlinePlayers = new ConcurrentHashMap<>();
+    private final SortedPlayers sortedPlayers = new SortedPlayers();
+
+    private final ThreadPoolExecutor formExecutor;
+
     public SpigotHandler(JavaPlugin plugin, BukkitAudiences audiences) {
         this.server = plugin.getServer();
         this.plugin = plugin;
         this.audiences = audiences;
         this.console = server.getConsoleSender();
         plugin.getServer().getPluginManager().registerEvents(this, plugin);
+
+        for (Player player : server.getOnlinePlayers()) {
+            onlinePlayers.put(player.getUniqueId(), player); // in case of reloads
+            sortedPlayers.add(new SpigotPlayer(player));
+        }
+
+        int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+        AtomicInteger count = new AtomicInteger();
+        formExecutor = new ThreadPoolExecutor(
+            threads,
+            threads,
+            30, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(FORM_QUEUE_SIZE),
+            runnable -> {
+                Thread thread = new Thread(runnable, "CrossplatForms Form Worker #" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.CallerRunsPolicy() // if overloaded, build on the calling thread like usual
+        );
+        formExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Stops the form executor, waiting briefly for forms that are being built
+     */
+    public void shutdown() {
+        formExecutor.shutdown();
+        try {
+            formExecutor.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
     }
 
     private Player getPlayerOrThrow(UUID uuid) {
@@ -53,28 +110,70 @@ public class SpigotHandler extends InterceptCommandCache implements ServerHandle
 
     @Override
     public FormPlayer getPlayer(UUID uuid) {
-        ensurePrimaryThread();
-        Player player = server.getPlayer(uuid);
+        Player player;
+        if (Bukkit.isPrimaryThread()) {
+            player = server.getPlayer(uuid);
+        } else {
+            player = onlinePlayers.get(uuid);
+        }
         return (player == null) ? null : new SpigotPlayer(player);
     }
 
     @Override
     public FormPlayer getPlayer(String name) {
-        ensurePrimaryThread();
-        Player player = server.getPlayer(name);
+        Player player;
+        if (Bukkit.isPrimaryThread()) {
+            player = server.getPlayer(name);
+        } else {
+            player = onlinePlayers.values().stream()
+                .filter(p -> p.getName().equalsIgnoreCase(name))
+                .findFirst()
+                .orElse(null);
+        }
         return (player == null) ? null : new SpigotPlayer(player);
     }
 
     @Override
     public Stream<FormPlayer> getPlayers() {
-        ensurePrimaryThread();
-        return server.getOnlinePlayers().stream().map(SpigotPlayer::new);
+        return onlinePlayers().stream().map(SpigotPlayer::new);
     }
 
     @Override
     public Stream<String> getPlayerNames() {
-        ensurePrimaryThread();
-        return server.getOnlinePlayers().stream().map(Player::getName);
+        return onlinePlayers().stream().map(Player::getName);
+    }
+
+    @Nonnull
+    @Override
+    public List<FormPlayer> getSortedPlayers() {
+        return sortedPlayers.players();
+    }
+
+    @Nonnull
+    @Override
+    public List<String> getSortedPlayerNames() {
+        return sortedPlayers.names();
+    }
+
+    private Collection<? extends Player> onlinePlayers() {
+        if (Bukkit.isPrimaryThread()) {
+            return server.getOnlinePlayers();
+        }
+        return onlinePlayers.values();
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        Player player = event.getPlayer();
+        onlinePlayers.put(player.getUniqueId(), player);
+        sortedPlayers.add(new SpigotPlayer(player));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        UUID uuid = event.getPlayer().getUniqueId();
+        onlinePlayers.remove(uuid);
+        sortedPlayers.remove(uuid);
     }
 
     @Nonnull
@@ -169,6 +268,16 @@ public class SpigotHandler extends InterceptCommandCache implements ServerHandle
         server.getScheduler().runTask(plugin, runnable);
     }
 
+    @Override
+    public boolean isPrimaryThread() {
+        return Bukkit.isPrimaryThread();
+    }
+
+    @Override
+    public Executor getFormExecutor() {
+        return formExecutor;
+    }
+
     public static void ensurePrimaryThread() {
         if (!Bukkit.isPrimaryThread()) {
             throw new IllegalStateException("Method not called from primary thread, instead: " + Thread.currentThread());
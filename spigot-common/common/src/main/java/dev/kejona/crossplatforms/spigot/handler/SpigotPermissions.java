@@ -47,6 +47,15 @@ public class SpigotPermissions implements Permissions {
         }
     }
 
+    @Override
+    public void unregisterPermissions(Collection<Permission> permissions) {
+        SpigotHandler.ensurePrimaryThread();
+        for (Permission permission : permissions) {
+            Logger.get().debug("Unregistering permission " + permission.key());
+            server.getPluginManager().removePermission(permission.key());
+        }
+    }
+
     @Override
     public void notifyPluginLoaded() {
         booting = false;
@@ -1,61 +1,138 @@
 package dev.kejona.crossplatforms.spigot.item;
 
+import dev.kejona.crossplatforms.Logger;
 import dev.kejona.crossplatforms.handler.FormPlayer;
 import dev.kejona.crossplatforms.inventory.ClickHandler;
 import dev.kejona.crossplatforms.inventory.InventoryController;
 import dev.kejona.crossplatforms.inventory.InventoryHandle;
+import lombok.RequiredArgsConstructor;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.inventory.Inventory;
 
-import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class SpigotInventoryController implements InventoryController, Listener {
 
-    // Menus that are open
-    private final Map<Inventory, ClickHandler> handlerCache = new HashMap<>();
+    /**
+     * Ticks between each {@link #sweep()}
+     */
+    public static final long SWEEP_PERIOD = 20 * 60;
+
+    private final Logger logger = Logger.get();
+
+    // The menu that each player has open. A player can only have one inventory open at a time.
+    private final Map<UUID, OpenMenu> openMenus = new ConcurrentHashMap<>();
 
     @Override
     public void openInventory(FormPlayer recipient, InventoryHandle container, ClickHandler clickHandler) {
         Player player = Objects.requireNonNull(Bukkit.getPlayer(recipient.getUuid()), "player lookup for " + recipient.getUuid());
         Inventory inventory = container.castedHandle(Inventory.class);
 
+        // closes the previous inventory, if any
         player.openInventory(inventory);
-        handlerCache.put(inventory, clickHandler);
+        openMenus.put(player.getUniqueId(), new OpenMenu(inventory, clickHandler));
+    }
+
+    @Override
+    public boolean isOpen(UUID player, InventoryHandle container) {
+        // changes to open inventories are sent by the server, so update doesn't need to be implemented
+        OpenMenu menu = openMenus.get(player);
+        return menu != null && menu.is(container.castedHandle(Inventory.class));
     }
 
     @EventHandler
     public void onInventoryClick(InventoryClickEvent event) {
         // This is used for processing inventory clicks WITHIN the java menu GUI
 
-        if (event.getWhoClicked() instanceof Player) {
-            Inventory inventory = event.getClickedInventory(); // inventory that was clicked in
-            if (inventory == null) {
-                // clicked outside of window
-                return;
-            }
+        OpenMenu menu = openMenus.get(event.getWhoClicked().getUniqueId());
+        if (menu == null || !(event.getWhoClicked() instanceof Player)) {
+            return;
+        }
 
-            if (handlerCache.containsKey(inventory)) {
-                // handle clicking in the menu inventory
+        Inventory inventory = event.getClickedInventory(); // inventory that was clicked in
+        if (inventory == null) {
+            // clicked outside of window
+            return;
+        }
+
+        if (menu.is(inventory)) {
+            // handle clicking in the menu inventory
+            event.setCancelled(true);
+            menu.handler.handle(event.getSlot(), event.isRightClick());
+        } else if (event.isShiftClick()) {
+            // stop players from shift-clicking items into the menu's inventory.
+            if (menu.is(event.getInventory())) { // the upper inventory
                 event.setCancelled(true);
-                handlerCache.get(inventory).handle(event.getSlot(), event.isRightClick());
-            } else if (event.isShiftClick()) {
-                // stop players from shift-clicking items into the menu's inventory.
-                if (handlerCache.containsKey(event.getInventory())) { // the upper inventory
-                    event.setCancelled(true);
-                }
             }
         }
     }
 
     @EventHandler
     public void onInventoryClose(InventoryCloseEvent event) {
-        handlerCache.remove(event.getInventory());
+        UUID uuid = event.getPlayer().getUniqueId();
+        OpenMenu menu = openMenus.get(uuid);
+        if (menu != null && menu.is(event.getInventory())) {
+            openMenus.remove(uuid, menu);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        openMenus.remove(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldChange(PlayerChangedWorldEvent event) {
+        Player player = event.getPlayer();
+        OpenMenu menu = openMenus.remove(player.getUniqueId());
+        if (menu != null && menu.is(player.getOpenInventory().getTopInventory())) {
+            // the menu would otherwise stay open without its clicks being cancelled
+            player.closeInventory();
+        }
+    }
+
+    /**
+     * Removes menus that are no longer open, in case an inventory was closed without an event being called.
+     * Must be called on the main thread.
+     */
+    public void sweep() {
+        int removed = 0;
+        Iterator<Map.Entry<UUID, OpenMenu>> iterator = openMenus.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<UUID, OpenMenu> entry = iterator.next();
+            Player player = Bukkit.getPlayer(entry.getKey());
+            if (player == null || !entry.getValue().is(player.getOpenInventory().getTopInventory())) {
+                iterator.remove();
+                removed++;
+            }
+        }
+
+        if (removed > 0) {
+            logger.debug("Removed " + removed + " Java menus that were closed without an event");
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class OpenMenu {
+
+        private final Inventory inventory;
+        private final ClickHandler handler;
+
+        private boolean is(Inventory inventory) {
+            // some server versions wrap the same inventory in a new instance, which is only equal
+            return this.inventory == inventory || this.inventory.equals(inventory);
+        }
     }
 }
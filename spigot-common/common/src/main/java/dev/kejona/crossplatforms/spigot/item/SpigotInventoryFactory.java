@@ -6,6 +6,7 @@ import dev.kejona.crossplatforms.inventory.InventoryFactory;
 import dev.kejona.crossplatforms.inventory.InventoryHandle;
 import dev.kejona.crossplatforms.inventory.InventoryLayout;
 import dev.kejona.crossplatforms.inventory.ItemHandle;
+import dev.kejona.crossplatforms.inventory.MaterialCache;
 import dev.kejona.crossplatforms.inventory.SkullProfile;
 import dev.kejona.crossplatforms.spigot.adapter.SpigotAdapter;
 import lombok.RequiredArgsConstructor;
@@ -30,6 +31,7 @@ public class SpigotInventoryFactory implements InventoryFactory {
     private final Logger logger = Logger.get();
     private final SpigotAdapter adapter;
     private final Material playerHeadMaterial;
+    private final MaterialCache<Material> materials = new MaterialCache<>(SpigotInventoryFactory::matchMaterial);
 
     public SpigotInventoryFactory(SpigotAdapter adapter) {
         this.adapter = adapter;
@@ -59,9 +61,8 @@ public class SpigotInventoryFactory implements InventoryFactory {
         if (material == null) {
             type = Material.STONE;
         } else {
-            type = Material.matchMaterial(material);
+            type = materials.get(material);
             if (type == null) {
-                Logger.get().warn("Material '" + material + "' is not a valid material. Check the Material enum for this specific server version.");
                 type = Material.STONE;
             }
         }
@@ -110,6 +111,15 @@ public class SpigotInventoryFactory implements InventoryFactory {
         return new SpigotItem(item);
     }
 
+    @Nullable
+    private static Material matchMaterial(String material) {
+        Material type = Material.matchMaterial(material);
+        if (type == null) {
+            Logger.get().warn("Material '" + material + "' is not a valid material. Check the Material enum for this specific server version.");
+        }
+        return type;
+    }
+
     private ItemStack skullBase(String displayName, List<String> lore) {
         ItemStack item = new ItemStack(playerHeadMaterial);
         SkullMeta meta = (SkullMeta) item.getItemMeta();
@@ -170,5 +180,10 @@ public class SpigotInventoryFactory implements InventoryFactory {
         public void setSlot(int index, ItemHandle item) {
             handle.setItem(index, item.castedHandle(ItemStack.class));
         }
+
+        @Override
+        public void clearSlot(int index) {
+            handle.setItem(index, null);
+        }
     }
 }
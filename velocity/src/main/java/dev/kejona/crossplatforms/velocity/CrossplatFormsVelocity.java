@@ -5,7 +5,9 @@ import cloud.commandframework.velocity.VelocityCommandManager;
 import com.google.inject.Inject;
 import com.google.inject.Module;
 import com.velocitypowered.api.command.CommandSource;
+import com.velocitypowered.api.event.PostOrder;
 import com.velocitypowered.api.event.Subscribe;
+import com.velocitypowered.api.event.connection.DisconnectEvent;
 import com.velocitypowered.api.event.proxy.ProxyInitializeEvent;
 import com.velocitypowered.api.event.proxy.ProxyShutdownEvent;
 import com.velocitypowered.api.plugin.PluginContainer;
@@ -27,6 +29,7 @@ import dev.kejona.crossplatforms.permission.LuckPermsHook;
 import dev.kejona.crossplatforms.permission.Permissions;
 import dev.kejona.crossplatforms.proxy.CloseMenuAction;
 import dev.kejona.crossplatforms.proxy.ProtocolizeModule;
+import dev.kejona.crossplatforms.proxy.inventory.ProtocolizeInventoryController;
 import dev.kejona.crossplatforms.velocity.handler.VelocityCommandOrigin;
 import dev.kejona.crossplatforms.velocity.handler.VelocityHandler;
 import lombok.Getter;
@@ -58,6 +61,7 @@ public class CrossplatFormsVelocity implements CrossplatFormsBootstrap {
     private CrossplatForms crossplatForms;
     private Metrics metrics;
     private boolean protocolizePresent;
+    private ProtocolizeInventoryController inventoryController; // null if protocolize isn't present
 
     @Inject
     public CrossplatFormsVelocity(ProxyServer server, PluginContainer container, @DataDirectory Path dataFolder, org.slf4j.Logger logger, Metrics.Factory metricsFactory) {
@@ -76,7 +80,7 @@ public class CrossplatFormsVelocity implements CrossplatFormsBootstrap {
         }
         metrics = metricsFactory.make(this, BSTATS_ID);
 
-        ServerHandler serverHandler = new VelocityHandler(server);
+        ServerHandler serverHandler = new VelocityHandler(server, this);
         Permissions permissions = pluginPresent("luckperms") ? new LuckPermsHook() : Permissions.empty();
 
         VelocityCommandManager<CommandOrigin> commandManager;
@@ -113,12 +117,24 @@ public class CrossplatFormsVelocity implements CrossplatFormsBootstrap {
         server.getEventManager().register(this, serverHandler); // events for catching proxy commands
     }
 
+    @Subscribe(order = PostOrder.LAST)
+    public void onDisconnect(DisconnectEvent event) {
+        if (crossplatForms != null) {
+            crossplatForms.getPlaceholderCache().invalidate(event.getPlayer().getUniqueId());
+            crossplatForms.getSuggestionCache().invalidate(event.getPlayer().getUniqueId());
+        }
+        if (inventoryController != null) {
+            inventoryController.disconnect(event.getPlayer().getUniqueId());
+        }
+    }
+
     @Override
     public List<Module> configModules() {
         List<Module> modules = new ArrayList<>();
 
         if (protocolizePresent) {
-            modules.add(new ProtocolizeModule());
+            inventoryController = new ProtocolizeInventoryController();
+            modules.add(new ProtocolizeModule(inventoryController));
         }
 
         return modules;
@@ -142,6 +158,9 @@ public class CrossplatFormsVelocity implements CrossplatFormsBootstrap {
 
     @Subscribe
     public void onDisable(ProxyShutdownEvent event) {
+        if (crossplatForms != null) {
+            crossplatForms.shutdown();
+        }
         server.getEventManager().unregisterListeners(this);
     }
 
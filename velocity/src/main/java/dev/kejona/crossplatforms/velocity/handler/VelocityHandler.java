@@ -2,8 +2,11 @@ package dev.kejona.crossplatforms.velocity.handler;
 
 import com.velocitypowered.api.command.CommandManager;
 import com.velocitypowered.api.command.CommandSource;
+import com.velocitypowered.api.event.PostOrder;
 import com.velocitypowered.api.event.Subscribe;
 import com.velocitypowered.api.event.command.CommandExecuteEvent;
+import com.velocitypowered.api.event.connection.DisconnectEvent;
+import com.velocitypowered.api.event.connection.PostLoginEvent;
 import com.velocitypowered.api.proxy.ConsoleCommandSource;
 import com.velocitypowered.api.proxy.Player;
 import com.velocitypowered.api.proxy.ProxyServer;
@@ -17,6 +20,7 @@ import dev.kejona.crossplatforms.command.custom.InterceptCommandCache;
 import dev.kejona.crossplatforms.handler.BedrockHandler;
 import dev.kejona.crossplatforms.handler.FormPlayer;
 import dev.kejona.crossplatforms.handler.ServerHandler;
+import dev.kejona.crossplatforms.handler.SortedPlayers;
 import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.identity.Identity;
 
@@ -24,18 +28,26 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
 public class VelocityHandler extends InterceptCommandCache implements ServerHandler {
 
     private final ProxyServer server;
+    private final Object plugin;
     private final CommandManager commandManager;
     private final ConsoleCommandSource console;
+    private final SortedPlayers sortedPlayers = new SortedPlayers();
 
-    public VelocityHandler(ProxyServer server) {
+    public VelocityHandler(ProxyServer server, Object plugin) {
         this.server = server;
+        this.plugin = plugin;
         this.commandManager = server.getCommandManager();
         this.console = server.getConsoleCommandSource();
+
+        for (Player player : server.getAllPlayers()) {
+            sortedPlayers.add(new VelocityPlayer(player)); // in case of reloads
+        }
     }
 
     private Player getPlayerOrThrow(UUID uuid) throws IllegalArgumentException {
@@ -64,6 +76,28 @@ public class VelocityHandler extends InterceptCommandCache implements ServerHand
         return server.getAllPlayers().stream().map(Player::getUsername);
     }
 
+    @Nonnull
+    @Override
+    public List<FormPlayer> getSortedPlayers() {
+        return sortedPlayers.players();
+    }
+
+    @Nonnull
+    @Override
+    public List<String> getSortedPlayerNames() {
+        return sortedPlayers.names();
+    }
+
+    @Subscribe(order = PostOrder.FIRST)
+    public void onPostLogin(PostLoginEvent event) {
+        sortedPlayers.add(new VelocityPlayer(event.getPlayer()));
+    }
+
+    @Subscribe(order = PostOrder.LAST)
+    public void onDisconnect(DisconnectEvent event) {
+        sortedPlayers.remove(event.getPlayer().getUniqueId());
+    }
+
     @Nonnull
     @Override
     public Audience asAudience(CommandOrigin origin) {
@@ -125,6 +159,11 @@ public class VelocityHandler extends InterceptCommandCache implements ServerHand
         }
     }
 
+    @Override
+    public void executeNextTick(Runnable runnable) {
+        server.getScheduler().buildTask(plugin, runnable).delay(50, TimeUnit.MILLISECONDS).schedule();
+    }
+
     @Subscribe
     public void onCommandExecute(CommandExecuteEvent event) {
         CommandSource source = event.getCommandSource();